@@ -0,0 +1,57 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+
+package org.eclipse.jnosql.databases.cassandra.communication;
+
+import org.eclipse.jnosql.communication.CommunicationException;
+import org.eclipse.jnosql.communication.semistructured.CommunicationEntity;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Thrown when some rows of a batch insert were not written; the other rows were. The error of each failed row is
+ * available at {@link #failures()}, keyed by the position of the row in the inserted entities.
+ */
+public class CassandraBatchException extends CommunicationException {
+
+    private final transient Map<Integer, Throwable> failures;
+
+    private final transient List<CommunicationEntity> entities;
+
+    CassandraBatchException(List<CommunicationEntity> rows, Map<Integer, Throwable> failures) {
+        super(failures.size() + " rows of the batch insert failed, the first error: "
+                + failures.values().iterator().next().getMessage(), failures.values().iterator().next());
+        this.failures = Collections.unmodifiableMap(new TreeMap<>(failures));
+        this.entities = this.failures.keySet().stream().map(rows::get).toList();
+    }
+
+    /**
+     * @return the position of each row that was not written, in the inserted entities, and its error, in the
+     * position order
+     */
+    public Map<Integer, Throwable> failures() {
+        return failures;
+    }
+
+    /**
+     * @return the rows that were not written, in the insertion order
+     */
+    public List<CommunicationEntity> entities() {
+        return entities;
+    }
+}
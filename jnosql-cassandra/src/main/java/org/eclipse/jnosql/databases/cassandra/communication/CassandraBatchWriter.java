@@ -0,0 +1,220 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+
+package org.eclipse.jnosql.databases.cassandra.communication;
+
+import com.datastax.oss.driver.api.core.ConsistencyLevel;
+import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.cql.BatchStatement;
+import com.datastax.oss.driver.api.core.cql.BoundStatement;
+import com.datastax.oss.driver.api.core.cql.DefaultBatchType;
+import com.datastax.oss.driver.api.core.cql.Statement;
+import com.datastax.oss.driver.api.core.metadata.schema.ColumnMetadata;
+import com.datastax.oss.driver.api.core.metadata.schema.TableMetadata;
+import org.eclipse.jnosql.communication.semistructured.CommunicationEntity;
+import org.eclipse.jnosql.communication.semistructured.Element;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.stream.IntStream;
+
+/**
+ * Inserts several rows with {@code executeAsync}, keeping at most {@code concurrency} requests in flight: each lane
+ * sends its next request when the previous one completes. In the unlogged mode, the rows of the same partition are
+ * grouped into UNLOGGED batches, a single mutation on the replicas of that partition.
+ * <p>A failed request does not stop the other ones; the failed rows are reported together at the end through a
+ * {@link CassandraBatchException}.</p>
+ */
+final class CassandraBatchWriter {
+
+    static final int DEFAULT_CONCURRENCY = 16;
+
+    static final int MAX_BATCH_SIZE = 50;
+
+    private final CqlSession session;
+
+    private final CassandraStatementCache statements;
+
+    private final UDTMetadataCache udts;
+
+    private final int concurrency;
+
+    private final boolean unlogged;
+
+    CassandraBatchWriter(CqlSession session, CassandraStatementCache statements, UDTMetadataCache udts,
+                         int concurrency, boolean unlogged) {
+        this.session = Objects.requireNonNull(session, "session is required");
+        this.statements = Objects.requireNonNull(statements, "statements is required");
+        this.udts = Objects.requireNonNull(udts, "udts is required");
+        if (concurrency < 1) {
+            throw new IllegalArgumentException("The batch concurrency must be greater than zero: " + concurrency);
+        }
+        this.concurrency = concurrency;
+        this.unlogged = unlogged;
+    }
+
+    /**
+     * @param keyspace the keyspace
+     * @param entities the rows to insert
+     * @param ttl      the time to live, nullable
+     * @param level    the consistency level, nullable
+     * @return the entities once all of them were written
+     * @throws CassandraBatchException when some rows were not written
+     */
+    List<CommunicationEntity> write(String keyspace, Iterable<CommunicationEntity> entities, Duration ttl,
+                                    ConsistencyLevel level) {
+        try {
+            return writeAsync(keyspace, entities, ttl, level).toCompletableFuture().join();
+        } catch (CompletionException exception) {
+            if (exception.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw exception;
+        }
+    }
+
+    /**
+     * The non-blocking version of {@link #write(String, Iterable, Duration, ConsistencyLevel)}.
+     */
+    CompletionStage<List<CommunicationEntity>> writeAsync(String keyspace, Iterable<CommunicationEntity> entities,
+                                                          Duration ttl, ConsistencyLevel level) {
+        Objects.requireNonNull(entities, "entities is required");
+        List<CommunicationEntity> rows = new ArrayList<>();
+        entities.forEach(entity -> rows.add(Objects.requireNonNull(entity, "entity is required")));
+        // keyed by the position of the row, so equal rows are reported apart
+        Map<Integer, Throwable> failures = new ConcurrentSkipListMap<>();
+        // the statements are bound on the caller thread, since preparing one blocks and the lanes continue on the
+        // driver threads
+        List<Unit> bound = new ArrayList<>();
+        for (List<Integer> unit : units(keyspace, rows)) {
+            try {
+                bound.add(new Unit(unit, statement(keyspace, unit.stream().map(rows::get).toList(), ttl, level)));
+            } catch (RuntimeException exception) {
+                unit.forEach(position -> failures.put(position, exception));
+            }
+        }
+        Iterator<Unit> units = bound.iterator();
+        return CompletableFuture.allOf(IntStream.range(0, concurrency)
+                        .mapToObj(lane -> lane(units, failures))
+                        .toArray(CompletableFuture[]::new))
+                .thenApply(ignored -> {
+                    if (!failures.isEmpty()) {
+                        throw new CassandraBatchException(rows, failures);
+                    }
+                    return rows;
+                });
+    }
+
+    /**
+     * Sends the units one after the other; it loops while the executions are already complete, e.g. when they fail
+     * before reaching the driver, and only continues asynchronously on a pending one, so the stack does not grow.
+     */
+    private CompletableFuture<Void> lane(Iterator<Unit> units, Map<Integer, Throwable> failures) {
+        while (true) {
+            Unit unit;
+            synchronized (units) {
+                if (!units.hasNext()) {
+                    return CompletableFuture.completedFuture(null);
+                }
+                unit = units.next();
+            }
+            CompletableFuture<?> execution;
+            try {
+                execution = session.executeAsync(unit.statement()).toCompletableFuture();
+            } catch (RuntimeException exception) {
+                execution = CompletableFuture.failedFuture(exception);
+            }
+            if (!execution.isDone()) {
+                return execution.handle((result, error) -> {
+                    record(unit, error, failures);
+                    return null;
+                }).thenCompose(ignored -> lane(units, failures));
+            }
+            execution.handle((result, error) -> {
+                record(unit, error, failures);
+                return null;
+            });
+        }
+    }
+
+    private static void record(Unit unit, Throwable error, Map<Integer, Throwable> failures) {
+        if (error != null) {
+            Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+            unit.positions().forEach(position -> failures.put(position, cause));
+        }
+    }
+
+    private Statement<?> statement(String keyspace, List<CommunicationEntity> unit, Duration ttl, ConsistencyLevel level) {
+        List<BoundStatement> inserts = new ArrayList<>(unit.size());
+        for (CommunicationEntity entity : unit) {
+            inserts.add(statements.bind(QueryUtils.insert(entity, keyspace, udts, ttl)));
+        }
+        Statement<?> statement = inserts.size() == 1 ? inserts.get(0)
+                : BatchStatement.newInstance(DefaultBatchType.UNLOGGED, inserts.toArray(new BoundStatement[0]));
+        return level == null ? statement : statement.setConsistencyLevel(level);
+    }
+
+    /**
+     * @return the position of a row per request, or the positions of the rows of the same partition in chunks of
+     * {@link #MAX_BATCH_SIZE} in the unlogged mode
+     */
+    private List<List<Integer>> units(String keyspace, List<CommunicationEntity> rows) {
+        if (!unlogged) {
+            return IntStream.range(0, rows.size()).mapToObj(List::of).toList();
+        }
+        Map<String, List<ColumnMetadata>> partitionKeys = new LinkedHashMap<>();
+        Map<List<Object>, List<Integer>> partitions = new LinkedHashMap<>();
+        for (int position = 0; position < rows.size(); position++) {
+            CommunicationEntity row = rows.get(position);
+            List<ColumnMetadata> partitionKey = partitionKeys.computeIfAbsent(row.name(),
+                    table -> partitionKey(keyspace, table));
+            List<Object> key = new ArrayList<>();
+            key.add(row.name());
+            if (partitionKey.isEmpty()) {
+                key.add(new Object());
+            }
+            partitionKey.forEach(column -> key.add(row.find(column.getName().asInternal())
+                    .map(Element::get)
+                    .orElse(null)));
+            partitions.computeIfAbsent(key, k -> new ArrayList<>()).add(position);
+        }
+        List<List<Integer>> units = new ArrayList<>();
+        for (List<Integer> partition : partitions.values()) {
+            for (int start = 0; start < partition.size(); start += MAX_BATCH_SIZE) {
+                units.add(partition.subList(start, Math.min(partition.size(), start + MAX_BATCH_SIZE)));
+            }
+        }
+        return units;
+    }
+
+    private List<ColumnMetadata> partitionKey(String keyspace, String table) {
+        return session.getMetadata().getKeyspace(keyspace)
+                .flatMap(metadata -> metadata.getTable(table))
+                .map(TableMetadata::getPartitionKey)
+                .orElse(List.of());
+    }
+
+    private record Unit(List<Integer> positions, Statement<?> statement) {
+    }
+}
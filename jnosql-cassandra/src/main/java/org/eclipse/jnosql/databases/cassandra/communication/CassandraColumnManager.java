@@ -24,7 +24,12 @@ import org.eclipse.jnosql.communication.semistructured.DeleteQuery;
 import org.eclipse.jnosql.communication.semistructured.SelectQuery;
 
 import java.time.Duration;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
 
 /**
@@ -139,4 +144,87 @@ public interface CassandraColumnManager extends DatabaseManager {
      * @throws NullPointerException when query is null
      */
     CassandraPreparedStatement nativeQueryPrepare(String query) throws NullPointerException;
+
+    /**
+     * Inserts the entity without blocking. The default implementation runs {@link #insert(CommunicationEntity)} on
+     * the calling thread.
+     *
+     * @param entity the entity
+     * @return a stage completed with the entity once it was written
+     * @throws NullPointerException when entity is null
+     */
+    default CompletionStage<CommunicationEntity> insertAsync(CommunicationEntity entity) throws NullPointerException {
+        Objects.requireNonNull(entity, "entity is required");
+        return completed(() -> insert(entity));
+    }
+
+    /**
+     * Inserts the entity with a time to live without blocking. The default implementation runs
+     * {@link #insert(CommunicationEntity, Duration)} on the calling thread.
+     *
+     * @param entity the entity
+     * @param ttl    the time to live
+     * @return a stage completed with the entity once it was written
+     * @throws NullPointerException when either entity or ttl are null
+     */
+    default CompletionStage<CommunicationEntity> insertAsync(CommunicationEntity entity, Duration ttl) throws NullPointerException {
+        Objects.requireNonNull(entity, "entity is required");
+        Objects.requireNonNull(ttl, "ttl is required");
+        return completed(() -> insert(entity, ttl));
+    }
+
+    /**
+     * Inserts the entities without blocking, keeping up to {@link CassandraConfigurations#BATCH_CONCURRENCY}
+     * requests in flight. The default implementation runs {@link #insert(Iterable)} on the calling thread.
+     *
+     * @param entities the entities
+     * @return a stage completed with the entities once all of them were written, or completed exceptionally with a
+     * {@link CassandraBatchException} holding the rows that were not written
+     * @throws NullPointerException when entities is null
+     */
+    default CompletionStage<Iterable<CommunicationEntity>> insertAsync(Iterable<CommunicationEntity> entities) throws NullPointerException {
+        Objects.requireNonNull(entities, "entities is required");
+        return completed(() -> insert(entities));
+    }
+
+    /**
+     * Finds without blocking, the pages are fetched one after the other with the configured page size, and the
+     * skipped rows are passed over through the paging state as the blocking select does. The default implementation
+     * runs {@link #select(SelectQuery)} on the calling thread.
+     *
+     * @param query the query
+     * @return a stage completed with the entities found
+     * @throws NullPointerException when query is null
+     */
+    default CompletionStage<List<CommunicationEntity>> selectAsync(SelectQuery query) throws NullPointerException {
+        Objects.requireNonNull(query, "query is required");
+        return completed(() -> {
+            try (Stream<CommunicationEntity> entities = select(query)) {
+                return entities.toList();
+            }
+        });
+    }
+
+    /**
+     * Deletes without blocking. The default implementation runs {@link #delete(DeleteQuery)} on the calling thread.
+     *
+     * @param query the query
+     * @return a stage completed once the rows were deleted
+     * @throws NullPointerException when query is null
+     */
+    default CompletionStage<Void> deleteAsync(DeleteQuery query) throws NullPointerException {
+        Objects.requireNonNull(query, "query is required");
+        return completed(() -> {
+            delete(query);
+            return null;
+        });
+    }
+
+    private static <T> CompletionStage<T> completed(Supplier<T> operation) {
+        try {
+            return CompletableFuture.completedFuture(operation.get());
+        } catch (RuntimeException exception) {
+            return CompletableFuture.failedFuture(exception);
+        }
+    }
 }
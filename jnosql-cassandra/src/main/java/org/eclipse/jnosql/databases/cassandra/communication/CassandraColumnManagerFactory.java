@@ -23,30 +23,48 @@ import org.eclipse.jnosql.communication.semistructured.DatabaseManagerFactory;
 import java.util.List;
 
 /**
- * The Cassandra implementation to {@link DatabaseManagerFactory}
+ * The Cassandra implementation to {@link DatabaseManagerFactory}.
+ * All the managers it creates share one {@link CqlSession}, which is closed with the last of them.
  */
 public class CassandraColumnManagerFactory implements DatabaseManagerFactory {
 
     private final CqlSessionBuilder sessionBuilder;
 
+    private final CassandraManagerOptions options;
+
+    private final CassandraSharedSession session;
+
     CassandraColumnManagerFactory(final CqlSessionBuilder sessionBuilder, List<String> queries) {
+        this(sessionBuilder, queries, CassandraManagerOptions.DEFAULT);
+    }
+
+    CassandraColumnManagerFactory(final CqlSessionBuilder sessionBuilder, List<String> queries,
+                                  CassandraManagerOptions options) {
         this.sessionBuilder = sessionBuilder;
+        this.options = options;
+        this.session = new CassandraSharedSession(sessionBuilder::build, options.statementCacheSize());
         load(queries);
     }
 
     void load(List<String> queries) {
-        final CqlSession session = sessionBuilder.build();
-        queries.forEach(session::execute);
-        session.close();
+        if (!queries.isEmpty()) {
+            final CqlSession cqlSession = session.get();
+            queries.forEach(cqlSession::execute);
+        }
     }
 
     @Override
     public CassandraColumnManager apply(String database) {
-        return new DefaultCassandraColumnManager(sessionBuilder.build(), database);
+        return session.borrow(database, options);
     }
 
     @Override
     public void close() {
+        session.close();
+    }
+
+    CassandraSharedSession session() {
+        return session;
     }
 
     @Override
@@ -42,7 +42,8 @@ public final class CassandraConfiguration implements DatabaseConfiguration {
     private CassandraColumnManagerFactory getManagerFactory(Map<String, String> configurations) {
         Objects.requireNonNull(configurations);
         CassandraProperties properties = CassandraProperties.of(configurations);
-        return new CassandraColumnManagerFactory(properties.createCluster(), properties.getQueries());
+        return new CassandraColumnManagerFactory(properties.createCluster(), properties.getQueries(),
+                properties.getManagerOptions());
     }
 
     /**
@@ -53,7 +53,25 @@ public enum CassandraConfigurations implements Supplier<String> {
     /**
      * The datacenter that is considered "local" by the load balancing policy.
      */
-    DATA_CENTER("jnosql.cassandra.data.center");
+    DATA_CENTER("jnosql.cassandra.data.center"),
+    /**
+     * The maximum number of prepared statements kept per session to insert, select and delete, the least recently
+     * used one is dropped when it is full. 512 by default.
+     */
+    STATEMENT_CACHE_SIZE("jnosql.cassandra.statement.cache.size"),
+    /**
+     * The maximum number of insert requests in flight when several rows are inserted at once. 16 by default.
+     */
+    BATCH_CONCURRENCY("jnosql.cassandra.batch.concurrency"),
+    /**
+     * Whether the rows of the same partition, inserted at once, are grouped into UNLOGGED batches. false by default.
+     */
+    BATCH_UNLOGGED("jnosql.cassandra.batch.unlogged"),
+    /**
+     * The number of rows fetched per page by a select, the next page is only fetched when the result stream reaches
+     * it. By default, the driver configuration, basic.request.page-size, is used.
+     */
+    PAGE_SIZE("jnosql.cassandra.page.size");
 
     private final String configuration;
 
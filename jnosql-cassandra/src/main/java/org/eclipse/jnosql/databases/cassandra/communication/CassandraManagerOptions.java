@@ -0,0 +1,30 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+
+package org.eclipse.jnosql.databases.cassandra.communication;
+
+/**
+ * The tuning options the {@link CassandraColumnManagerFactory} gives to each {@link DefaultCassandraColumnManager}.
+ *
+ * @param statementCacheSize the maximum number of prepared statements kept per session
+ * @param batchConcurrency   the maximum number of insert requests in flight when inserting several rows
+ * @param batchUnlogged      whether the rows of the same partition are inserted in UNLOGGED batches
+ * @param pageSize           the number of rows fetched per page by a select, zero to use the driver configuration
+ */
+record CassandraManagerOptions(int statementCacheSize, int batchConcurrency, boolean batchUnlogged, int pageSize) {
+
+    static final CassandraManagerOptions DEFAULT = new CassandraManagerOptions(CassandraStatementCache.DEFAULT_SIZE,
+            CassandraBatchWriter.DEFAULT_CONCURRENCY, false, 0);
+}
@@ -0,0 +1,174 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+
+package org.eclipse.jnosql.databases.cassandra.communication;
+
+import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
+import com.datastax.oss.driver.api.core.cql.ResultSet;
+import com.datastax.oss.driver.api.core.cql.Row;
+import com.datastax.oss.driver.api.core.cql.Statement;
+import org.eclipse.jnosql.communication.semistructured.CommunicationEntity;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Streams the rows of a query page by page: only the current page is held in memory and the next one is requested
+ * when the stream consumes the last row of the current one.
+ */
+final class CassandraPages {
+
+    /**
+     * The driver's default page size, used to skip rows when the page size is not configured.
+     */
+    static final int DEFAULT_PAGE_SIZE = 5000;
+
+    private CassandraPages() {
+    }
+
+    /**
+     * @param resultSet the first page of the result
+     * @return the entities of the result, fetching the next pages on demand
+     */
+    static Stream<CommunicationEntity> stream(ResultSet resultSet) {
+        Objects.requireNonNull(resultSet, "resultSet is required");
+        return StreamSupport.stream(new PageSpliterator(resultSet), false)
+                .map(CassandraConverter::toDocumentEntity);
+    }
+
+    /**
+     * Executes the statement skipping the first rows through the paging state: the skipped rows are requested as pages
+     * of the size left to skip, which are never converted to entities, and the query resumes from the paging state
+     * after them.
+     *
+     * @param session   the session
+     * @param statement the statement
+     * @param skip      the number of rows to skip
+     * @param pageSize  the page size, zero or less to keep the one of the statement
+     * @return the entities after the skipped rows, fetching the next pages on demand
+     */
+    static Stream<CommunicationEntity> stream(CqlSession session, Statement<?> statement, long skip, int pageSize) {
+        Objects.requireNonNull(session, "session is required");
+        Objects.requireNonNull(statement, "statement is required");
+        Statement<?> paged = pageSize > 0 ? statement.setPageSize(pageSize) : statement;
+        int skipPageSize = pageSize > 0 ? pageSize : DEFAULT_PAGE_SIZE;
+        long remaining = skip;
+        ByteBuffer pagingState = null;
+        while (remaining > 0) {
+            ResultSet skipped = session.execute(paged.setPageSize((int) Math.min(remaining, skipPageSize))
+                    .setPagingState(pagingState));
+            remaining -= skipped.getAvailableWithoutFetching();
+            pagingState = skipped.getExecutionInfo().getPagingState();
+            if (pagingState == null) {
+                return Stream.empty();
+            }
+        }
+        return stream(session.execute(paged.setPagingState(pagingState)));
+    }
+
+    /**
+     * The non-blocking version of {@link #stream(CqlSession, Statement, long, int)}: it skips the first rows through the
+     * paging state the same way, then fetches the pages one after the other until the limit is reached.
+     *
+     * @param session   the session
+     * @param statement the statement
+     * @param skip      the number of rows to skip
+     * @param limit     the maximum number of entities, zero or less for all of them
+     * @param pageSize  the page size, zero or less to keep the one of the statement
+     * @return a stage completed with the entities after the skipped rows
+     */
+    static CompletionStage<List<CommunicationEntity>> listAsync(CqlSession session, Statement<?> statement, long skip,
+                                                                long limit, int pageSize) {
+        Objects.requireNonNull(session, "session is required");
+        Objects.requireNonNull(statement, "statement is required");
+        Statement<?> paged = pageSize > 0 ? statement.setPageSize(pageSize) : statement;
+        int skipPageSize = pageSize > 0 ? pageSize : DEFAULT_PAGE_SIZE;
+        return skipAsync(session, paged, skip, skipPageSize, null).thenCompose(pagingState -> {
+            if (skip > 0 && pagingState == null) {
+                return CompletableFuture.completedFuture(List.of());
+            }
+            List<CommunicationEntity> entities = new ArrayList<>();
+            return session.executeAsync(paged.setPagingState(pagingState))
+                    .thenCompose(resultSet -> fetch(resultSet, entities, limit))
+                    .thenApply(ignored -> entities);
+        });
+    }
+
+    /**
+     * @return a stage completed with the paging state after the skipped rows, null when there are no rows left
+     */
+    private static CompletionStage<ByteBuffer> skipAsync(CqlSession session, Statement<?> paged, long remaining,
+                                                         int skipPageSize, ByteBuffer pagingState) {
+        if (remaining <= 0) {
+            return CompletableFuture.completedFuture(pagingState);
+        }
+        return session.executeAsync(paged.setPageSize((int) Math.min(remaining, skipPageSize))
+                        .setPagingState(pagingState))
+                .thenCompose(skipped -> {
+                    ByteBuffer next = skipped.getExecutionInfo().getPagingState();
+                    if (next == null) {
+                        return CompletableFuture.completedFuture(null);
+                    }
+                    return skipAsync(session, paged, remaining - skipped.remaining(), skipPageSize, next);
+                });
+    }
+
+    private static CompletionStage<Void> fetch(AsyncResultSet resultSet, List<CommunicationEntity> entities, long limit) {
+        for (Row row : resultSet.currentPage()) {
+            if (limit > 0 && entities.size() >= limit) {
+                return CompletableFuture.completedFuture(null);
+            }
+            entities.add(CassandraConverter.toDocumentEntity(row));
+        }
+        if (!resultSet.hasMorePages() || (limit > 0 && entities.size() >= limit)) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return resultSet.fetchNextPage().thenCompose(next -> fetch(next, entities, limit));
+    }
+
+    /**
+     * Walks the rows of the current page; the result set iterator blocks on the next page only once the current one is
+     * exhausted, and the previous page is released.
+     */
+    private static final class PageSpliterator extends Spliterators.AbstractSpliterator<Row> {
+
+        private final Iterator<Row> rows;
+
+        PageSpliterator(ResultSet resultSet) {
+            super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL);
+            this.rows = resultSet.iterator();
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super Row> action) {
+            if (!rows.hasNext()) {
+                return false;
+            }
+            action.accept(rows.next());
+            return true;
+        }
+    }
+}
@@ -17,7 +17,6 @@ package org.eclipse.jnosql.databases.cassandra.communication;
 
 import com.datastax.oss.driver.api.core.CqlSession;
 import com.datastax.oss.driver.api.core.cql.BoundStatement;
-import com.datastax.oss.driver.api.core.cql.ResultSet;
 import org.eclipse.jnosql.communication.semistructured.CommunicationEntity;
 
 import java.util.stream.Stream;
@@ -30,6 +29,7 @@ public class CassandraPreparedStatement {
 
     private final com.datastax.oss.driver.api.core.cql.PreparedStatement prepare;
     private final CqlSession session;
+    private final int pageSize;
     private BoundStatement boundStatement;
 
     /**
@@ -39,19 +39,33 @@ public class CassandraPreparedStatement {
      * @param session the CQL session
      */
     CassandraPreparedStatement(com.datastax.oss.driver.api.core.cql.PreparedStatement prepare, CqlSession session) {
+        this(prepare, session, 0);
+    }
+
+    /**
+     * Constructs a new CassandraPreparedStatement.
+     *
+     * @param prepare  the underlying Cassandra PreparedStatement
+     * @param session  the CQL session
+     * @param pageSize the number of rows fetched per page, zero or less to use the driver configuration
+     */
+    CassandraPreparedStatement(com.datastax.oss.driver.api.core.cql.PreparedStatement prepare, CqlSession session,
+                               int pageSize) {
         this.prepare = prepare;
         this.session = session;
+        this.pageSize = pageSize;
     }
 
     /**
      * Executes the prepared statement as a query and returns the results as a stream of CommunicationEntity.
+     * The rows are fetched page by page while the stream is consumed.
      *
      * @return a stream of CommunicationEntity containing the results of the query
      */
     public Stream<CommunicationEntity> executeQuery() {
         load();
-        ResultSet resultSet = session.execute(boundStatement);
-        return resultSet.all().stream().map(CassandraConverter::toDocumentEntity);
+        BoundStatement statement = pageSize > 0 ? boundStatement.setPageSize(pageSize) : boundStatement;
+        return CassandraPages.stream(session.execute(statement));
     }
 
     /**
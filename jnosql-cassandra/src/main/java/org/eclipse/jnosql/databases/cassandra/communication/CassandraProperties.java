@@ -46,6 +46,8 @@ class CassandraProperties {
 
     private String dataCenter;
 
+    private CassandraManagerOptions managerOptions;
+
     public void addQuery(String query) {
         this.queries.add(query);
     }
@@ -58,6 +60,10 @@ class CassandraProperties {
         return queries;
     }
 
+    public CassandraManagerOptions getManagerOptions() {
+        return managerOptions;
+    }
+
     public CqlSessionBuilder createCluster() {
         CqlSessionBuilder builder = CqlSession.builder();
         nodes.stream().map(h -> new InetSocketAddress(h, port)).forEach(builder::addContactPoint);
@@ -94,6 +100,16 @@ class CassandraProperties {
 
         cp.password = settings.get(CassandraConfigurations.PASSWORD)
                 .map(Object::toString);
+
+        cp.managerOptions = new CassandraManagerOptions(
+                settings.get(CassandraConfigurations.STATEMENT_CACHE_SIZE)
+                        .map(Object::toString).map(Integer::parseInt).orElse(CassandraStatementCache.DEFAULT_SIZE),
+                settings.get(CassandraConfigurations.BATCH_CONCURRENCY)
+                        .map(Object::toString).map(Integer::parseInt).orElse(CassandraBatchWriter.DEFAULT_CONCURRENCY),
+                settings.get(CassandraConfigurations.BATCH_UNLOGGED)
+                        .map(Object::toString).map(Boolean::parseBoolean).orElse(false),
+                settings.get(CassandraConfigurations.PAGE_SIZE)
+                        .map(Object::toString).map(Integer::parseInt).orElse(0));
         return cp;
     }
 }
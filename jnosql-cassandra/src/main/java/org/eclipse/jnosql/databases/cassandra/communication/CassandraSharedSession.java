@@ -0,0 +1,126 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+
+package org.eclipse.jnosql.databases.cassandra.communication;
+
+import com.datastax.oss.driver.api.core.CqlSession;
+
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * The {@link CqlSession} of a {@link CassandraColumnManagerFactory}, borrowed by the managers of every keyspace, so
+ * they share a single connection pool, control connection, schema metadata and the caches built on them. The session
+ * is not bound to a keyspace: the managers qualify every query with their own.
+ * <p>The managers are counted per session: a session is closed when the last manager that borrowed it is closed, or
+ * when the factory is closed while no manager borrows it. A manager created later opens a new session, as does one
+ * created after the current session was closed elsewhere; the managers that still borrow the previous one give it
+ * back to its own count.</p>
+ */
+final class CassandraSharedSession {
+
+    private final Supplier<CqlSession> builder;
+
+    private final int statementCacheSize;
+
+    private Borrowed current;
+
+    private boolean closed;
+
+    CassandraSharedSession(Supplier<CqlSession> builder, int statementCacheSize) {
+        this.builder = Objects.requireNonNull(builder, "builder is required");
+        this.statementCacheSize = statementCacheSize;
+    }
+
+    /**
+     * @return the session, opened if needed, without borrowing it
+     */
+    synchronized CqlSession get() {
+        return open().session;
+    }
+
+    /**
+     * @param keyspace the keyspace of the manager
+     * @param options  the manager options
+     * @return a manager that borrows the session until it is closed
+     */
+    synchronized DefaultCassandraColumnManager borrow(String keyspace, CassandraManagerOptions options) {
+        Borrowed borrowed = open();
+        borrowed.references++;
+        return new DefaultCassandraColumnManager(borrowed.session, borrowed.statements, borrowed.udts, keyspace,
+                options, () -> release(borrowed));
+    }
+
+    /**
+     * @return the number of managers that borrow the current session
+     */
+    synchronized int references() {
+        return current == null ? 0 : current.references;
+    }
+
+    synchronized void close() {
+        closed = true;
+        if (current != null && current.references == 0) {
+            current.close();
+            current = null;
+        }
+    }
+
+    private Borrowed open() {
+        if (closed) {
+            throw new IllegalStateException("The Cassandra manager factory is closed");
+        }
+        if (current == null || current.session.isClosed()) {
+            CqlSession session = builder.get();
+            current = new Borrowed(session, new CassandraStatementCache(session, statementCacheSize),
+                    new UDTMetadataCache(session));
+        }
+        return current;
+    }
+
+    private synchronized void release(Borrowed borrowed) {
+        borrowed.references--;
+        if (borrowed.references == 0) {
+            borrowed.close();
+            if (borrowed == current) {
+                current = null;
+            }
+        }
+    }
+
+    /**
+     * A session with the caches built on it and the number of managers that borrow it.
+     */
+    private static final class Borrowed {
+
+        private final CqlSession session;
+
+        private final CassandraStatementCache statements;
+
+        private final UDTMetadataCache udts;
+
+        private int references;
+
+        private Borrowed(CqlSession session, CassandraStatementCache statements, UDTMetadataCache udts) {
+            this.session = session;
+            this.statements = statements;
+            this.udts = udts;
+        }
+
+        private void close() {
+            session.close();
+        }
+    }
+}
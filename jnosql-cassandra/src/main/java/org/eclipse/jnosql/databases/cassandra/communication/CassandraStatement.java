@@ -0,0 +1,39 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+
+package org.eclipse.jnosql.databases.cassandra.communication;
+
+import com.datastax.oss.driver.api.querybuilder.BuildableQuery;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A CQL statement with positional bind markers and the values to bind, in the same order.
+ *
+ * @param cql    the CQL with bind markers
+ * @param values the values of the bind markers
+ */
+record CassandraStatement(String cql, List<Object> values) {
+
+    CassandraStatement {
+        Objects.requireNonNull(cql, "cql is required");
+        Objects.requireNonNull(values, "values is required");
+    }
+
+    static CassandraStatement of(BuildableQuery query, List<Object> values) {
+        return new CassandraStatement(query.asCql(), values);
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+
+package org.eclipse.jnosql.databases.cassandra.communication;
+
+import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.cql.BoundStatement;
+import com.datastax.oss.driver.api.core.cql.BoundStatementBuilder;
+import com.datastax.oss.driver.api.core.cql.ColumnDefinitions;
+import com.datastax.oss.driver.api.core.cql.PreparedStatement;
+import com.datastax.oss.driver.api.core.type.DataType;
+import com.datastax.oss.driver.api.core.type.ListType;
+import com.datastax.oss.driver.api.core.type.SetType;
+import com.datastax.oss.driver.api.core.type.codec.TypeCodec;
+import com.datastax.oss.driver.api.core.type.codec.registry.CodecRegistry;
+import org.eclipse.jnosql.communication.Value;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * A bounded, least recently used, cache of the {@link PreparedStatement} of a session keyed by the CQL with bind
+ * markers, so a statement shape (table, columns, conditions, TTL presence) is only prepared once and every execution
+ * only sends the values.
+ */
+final class CassandraStatementCache {
+
+    static final int DEFAULT_SIZE = 512;
+
+    private final CqlSession session;
+
+    private final Map<String, PreparedStatement> statements;
+
+    CassandraStatementCache(CqlSession session, int size) {
+        this.session = Objects.requireNonNull(session, "session is required");
+        if (size < 1) {
+            throw new IllegalArgumentException("The statement cache size must be greater than zero: " + size);
+        }
+        this.statements = new LinkedHashMap<>(16, 0.75F, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, PreparedStatement> eldest) {
+                return size() > size;
+            }
+        };
+    }
+
+    /**
+     * @param cql the CQL with bind markers
+     * @return the prepared statement of the CQL, prepared on the first use
+     */
+    PreparedStatement prepare(String cql) {
+        Objects.requireNonNull(cql, "cql is required");
+        PreparedStatement prepared;
+        synchronized (statements) {
+            prepared = statements.get(cql);
+        }
+        if (prepared != null) {
+            return prepared;
+        }
+        prepared = session.prepare(cql);
+        synchronized (statements) {
+            statements.putIfAbsent(cql, prepared);
+        }
+        return prepared;
+    }
+
+    /**
+     * Binds the values by position, converting each one to the Java type of the bind marker column when they
+     * differ, e.g. an {@link Integer} to a {@code bigint} column as a CQL literal would be.
+     *
+     * @param statement the statement with bind markers and its values
+     * @return the bound statement
+     */
+    BoundStatement bind(CassandraStatement statement) {
+        Objects.requireNonNull(statement, "statement is required");
+        PreparedStatement prepared = prepare(statement.cql());
+        ColumnDefinitions variables = prepared.getVariableDefinitions();
+        CodecRegistry registry = session.getContext().getCodecRegistry();
+        List<Object> values = statement.values();
+        BoundStatementBuilder builder = prepared.boundStatementBuilder();
+        for (int index = 0; index < values.size(); index++) {
+            DataType type = variables.get(index).getType();
+            TypeCodec<Object> codec = registry.codecFor(type);
+            builder = builder.set(index, convert(values.get(index), type, codec, registry), codec);
+        }
+        return builder.build();
+    }
+
+    int size() {
+        synchronized (statements) {
+            return statements.size();
+        }
+    }
+
+    private static Object convert(Object value, DataType type, TypeCodec<Object> codec, CodecRegistry registry) {
+        if (value == null) {
+            return null;
+        }
+        if (value instanceof Collection<?> collection && (type instanceof ListType || type instanceof SetType)) {
+            DataType elementType = type instanceof ListType listType ? listType.getElementType()
+                    : ((SetType) type).getElementType();
+            TypeCodec<Object> elementCodec = registry.codecFor(elementType);
+            Collection<Object> elements = type instanceof SetType ? new HashSet<>() : new ArrayList<>();
+            collection.forEach(element -> elements.add(convert(element, elementType, elementCodec, registry)));
+            return elements;
+        }
+        Class<?> javaType = codec.getJavaType().getRawType();
+        if (javaType.isInstance(value)) {
+            return value;
+        }
+        return Value.of(value).get(javaType);
+    }
+}
@@ -21,20 +21,23 @@ import com.datastax.oss.driver.api.core.cql.BoundStatement;
 import com.datastax.oss.driver.api.core.cql.PreparedStatement;
 import com.datastax.oss.driver.api.core.cql.ResultSet;
 import com.datastax.oss.driver.api.core.cql.SimpleStatement;
+import com.datastax.oss.driver.api.core.cql.Statement;
 import com.datastax.oss.driver.api.core.type.codec.TypeCodec;
 import com.datastax.oss.driver.api.core.type.codec.registry.CodecRegistry;
 import com.datastax.oss.driver.api.querybuilder.QueryBuilder;
-import com.datastax.oss.driver.api.querybuilder.delete.Delete;
-import com.datastax.oss.driver.api.querybuilder.insert.Insert;
+import com.datastax.oss.driver.api.querybuilder.select.Select;
 import org.eclipse.jnosql.communication.semistructured.CommunicationEntity;
 import org.eclipse.jnosql.communication.semistructured.DeleteQuery;
 import org.eclipse.jnosql.communication.semistructured.SelectQuery;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Stream;
-import java.util.stream.StreamSupport;
 
 import static java.util.Objects.requireNonNull;
 
@@ -45,9 +48,40 @@ class DefaultCassandraColumnManager implements CassandraColumnManager {
 
     private final String keyspace;
 
+    private final CassandraStatementCache statements;
+
+    private final UDTMetadataCache udts;
+
+    private final CassandraBatchWriter batchWriter;
+
+    private final int pageSize;
+
+    private final Runnable release;
+
+    private final AtomicBoolean closed = new AtomicBoolean();
+
     DefaultCassandraColumnManager(CqlSession session, String keyspace) {
+        this(session, keyspace, CassandraManagerOptions.DEFAULT);
+    }
+
+    DefaultCassandraColumnManager(CqlSession session, String keyspace, CassandraManagerOptions options) {
+        this(session, new CassandraStatementCache(session, options.statementCacheSize()), new UDTMetadataCache(session),
+                keyspace, options, session::close);
+    }
+
+    /**
+     * @param release called once when the manager is closed, to close or give back the session
+     */
+    DefaultCassandraColumnManager(CqlSession session, CassandraStatementCache statements, UDTMetadataCache udts,
+                                  String keyspace, CassandraManagerOptions options, Runnable release) {
         this.session = session;
         this.keyspace = keyspace;
+        this.statements = statements;
+        this.udts = udts;
+        this.release = release;
+        this.batchWriter = new CassandraBatchWriter(session, statements, udts, options.batchConcurrency(),
+                options.batchUnlogged());
+        this.pageSize = options.pageSize();
     }
 
     @Override
@@ -58,8 +92,7 @@ class DefaultCassandraColumnManager implements CassandraColumnManager {
     @Override
     public CommunicationEntity insert(CommunicationEntity entity) {
         requireNonNull(entity, "entity is required");
-        final Insert insert = QueryUtils.insert(entity, keyspace, session, null);
-        session.execute(insert.build());
+        session.execute(statements.bind(QueryUtils.insert(entity, keyspace, udts, null)));
         return entity;
     }
 
@@ -67,8 +100,7 @@ class DefaultCassandraColumnManager implements CassandraColumnManager {
     public CommunicationEntity insert(CommunicationEntity entity, Duration duration) {
         requireNonNull(entity, "entity is required");
         requireNonNull(duration, "duration is required");
-        final Insert insert = QueryUtils.insert(entity, keyspace, session, duration);
-        session.execute(insert.build());
+        session.execute(statements.bind(QueryUtils.insert(entity, keyspace, udts, duration)));
         return entity;
     }
 
@@ -86,18 +118,14 @@ class DefaultCassandraColumnManager implements CassandraColumnManager {
     @Override
     public Iterable<CommunicationEntity> insert(Iterable<CommunicationEntity> entities) {
         requireNonNull(entities, "entities is required");
-        return StreamSupport.stream(entities.spliterator(), false)
-                .map(this::insert)
-                .collect(Collectors.toList());
+        return batchWriter.write(keyspace, entities, null, null);
     }
 
     @Override
     public Iterable<CommunicationEntity> insert(Iterable<CommunicationEntity> entities, Duration duration) {
         requireNonNull(entities, "entities is required");
         requireNonNull(duration, "entities is duration");
-        return StreamSupport.stream(entities.spliterator(), false)
-                .map(d -> insert(d, duration))
-                .collect(Collectors.toList());
+        return batchWriter.write(keyspace, entities, duration, null);
     }
 
     @Override
@@ -105,8 +133,8 @@ class DefaultCassandraColumnManager implements CassandraColumnManager {
         requireNonNull(entity, "entities is required");
         requireNonNull(level, "level is required");
 
-        final Insert insert = QueryUtils.insert(entity, keyspace, session, null);
-        session.execute(insert.build().setConsistencyLevel(level));
+        final BoundStatement insert = statements.bind(QueryUtils.insert(entity, keyspace, udts, null));
+        session.execute(insert.setConsistencyLevel(level));
         return entity;
     }
 
@@ -116,8 +144,8 @@ class DefaultCassandraColumnManager implements CassandraColumnManager {
         requireNonNull(level, "level is required");
         requireNonNull(ttl, "ttl is required");
 
-        final Insert insert = QueryUtils.insert(entity, keyspace, session, ttl);
-        session.execute(insert.build().setConsistencyLevel(level));
+        final BoundStatement insert = statements.bind(QueryUtils.insert(entity, keyspace, udts, ttl));
+        session.execute(insert.setConsistencyLevel(level));
         return entity;
     }
 
@@ -125,8 +153,7 @@ class DefaultCassandraColumnManager implements CassandraColumnManager {
     public Iterable<CommunicationEntity> save(Iterable<CommunicationEntity> entities, ConsistencyLevel level) {
         requireNonNull(entities, "entities is required");
         requireNonNull(level, "level is required");
-        return StreamSupport.stream(entities.spliterator(), false).map(c -> this.save(c, level))
-                .collect(Collectors.toList());
+        return batchWriter.write(keyspace, entities, null, level);
     }
 
     @Override
@@ -134,8 +161,7 @@ class DefaultCassandraColumnManager implements CassandraColumnManager {
         requireNonNull(entities, "entities is required");
         requireNonNull(level, "level is required");
         requireNonNull(ttl, "ttl is required");
-        return StreamSupport.stream(entities.spliterator(), false).map(c -> this.save(c, ttl, level))
-                .collect(Collectors.toList());
+        return batchWriter.write(keyspace, entities, ttl, level);
     }
 
     @Override
@@ -162,32 +188,30 @@ class DefaultCassandraColumnManager implements CassandraColumnManager {
 
     @Override
     public void close() {
-        session.close();
+        if (closed.compareAndSet(false, true)) {
+            release.run();
+        }
     }
 
     @Override
     public void delete(DeleteQuery query, ConsistencyLevel level) {
         requireNonNull(query, "query is required");
         requireNonNull(level, "level is required");
-        final Delete delete = DeleteQueryConverter.delete(query, keyspace);
-        final SimpleStatement build = delete.build();
-        final SimpleStatement simpleStatement = build.setConsistencyLevel(level);
-        session.execute(simpleStatement);
+        final BoundStatement delete = statements.bind(DeleteQueryConverter.delete(query, keyspace));
+        session.execute(delete.setConsistencyLevel(level));
     }
 
     @Override
     public void delete(DeleteQuery query) {
         requireNonNull(query, "query is required");
-        final Delete delete = DeleteQueryConverter.delete(query, keyspace);
-        session.execute(delete.build());
+        session.execute(statements.bind(DeleteQueryConverter.delete(query, keyspace)));
     }
 
 
     @Override
     public Stream<CommunicationEntity> cql(String query) {
         requireNonNull(query, "query is required");
-        final ResultSet resultSet = session.execute(query);
-        return resultSet.all().stream().map(CassandraConverter::toDocumentEntity);
+        return CassandraPages.stream(session.execute(paged(SimpleStatement.newInstance(query))));
     }
 
     @Override
@@ -200,29 +224,107 @@ class DefaultCassandraColumnManager implements CassandraColumnManager {
             final TypeCodec<Object> codec = CodecRegistry.DEFAULT.codecFor((Class<Object>) entry.getValue().getClass());
             statement = statement.set(entry.getKey(), entry.getValue(), codec);
         }
-        final ResultSet resultSet = session.execute(statement);
-        return resultSet.all().stream().map(CassandraConverter::toDocumentEntity);
+        return CassandraPages.stream(session.execute(paged(statement)));
     }
 
     @Override
     public Stream<CommunicationEntity> execute(SimpleStatement statement) {
         requireNonNull(statement, "statement is required");
-        final ResultSet resultSet = session.execute(statement);
-        return resultSet.all().stream().map(CassandraConverter::toDocumentEntity);
+        return CassandraPages.stream(session.execute(paged(statement)));
     }
 
     @Override
     public CassandraPreparedStatement nativeQueryPrepare(String query) {
         requireNonNull(query, "query is required");
         final PreparedStatement prepare = session.prepare(query);
-        return new CassandraPreparedStatement(prepare, session);
+        return new CassandraPreparedStatement(prepare, session, pageSize);
+    }
+
+
+    @Override
+    public CompletionStage<CommunicationEntity> insertAsync(CommunicationEntity entity) {
+        requireNonNull(entity, "entity is required");
+        return executeInsertAsync(entity, null);
+    }
+
+    @Override
+    public CompletionStage<CommunicationEntity> insertAsync(CommunicationEntity entity, Duration ttl) {
+        requireNonNull(entity, "entity is required");
+        requireNonNull(ttl, "ttl is required");
+        return executeInsertAsync(entity, ttl);
     }
 
+    private CompletionStage<CommunicationEntity> executeInsertAsync(CommunicationEntity entity, Duration ttl) {
+        try {
+            return session.executeAsync(statements.bind(QueryUtils.insert(entity, keyspace, udts, ttl)))
+                    .thenApply(resultSet -> entity);
+        } catch (RuntimeException exception) {
+            return CompletableFuture.failedFuture(exception);
+        }
+    }
+
+    @Override
+    public CompletionStage<Iterable<CommunicationEntity>> insertAsync(Iterable<CommunicationEntity> entities) {
+        requireNonNull(entities, "entities is required");
+        return batchWriter.writeAsync(keyspace, entities, null, null).thenApply(written -> written);
+    }
+
+    @Override
+    public CompletionStage<List<CommunicationEntity>> selectAsync(SelectQuery query) {
+        requireNonNull(query, "query is required");
+        List<Object> values = new ArrayList<>();
+        Select select = QueryUtils.select(query, keyspace, values);
+        // as the sync select: the limit covers the skipped rows, which are then skipped through the paging state
+        long limit = query.limit() > 0 ? query.skip() + query.limit() : 0;
+        if (limit > 0 && limit <= Integer.MAX_VALUE) {
+            values.add((int) limit);
+            select = select.limit(QueryBuilder.bindMarker());
+        }
+        try {
+            return CassandraPages.listAsync(session, statements.bind(CassandraStatement.of(select, values)),
+                    query.skip(), query.limit(), pageSize);
+        } catch (RuntimeException exception) {
+            return CompletableFuture.failedFuture(exception);
+        }
+    }
+
+    @Override
+    public CompletionStage<Void> deleteAsync(DeleteQuery query) {
+        requireNonNull(query, "query is required");
+        try {
+            return session.executeAsync(statements.bind(DeleteQueryConverter.delete(query, keyspace)))
+                    .thenApply(resultSet -> null);
+        } catch (RuntimeException exception) {
+            return CompletableFuture.failedFuture(exception);
+        }
+    }
 
     CqlSession getSession() {
         return session;
     }
 
+    CassandraStatementCache statements() {
+        return statements;
+    }
+
+    UDTMetadataCache udts() {
+        return udts;
+    }
+
+    int pageSize() {
+        return pageSize;
+    }
+
+    /**
+     * @return the statement with the configured page size, unless it already defines its own
+     */
+    private <S extends Statement<S>> S paged(S statement) {
+        if (pageSize > 0 && statement.getPageSize() <= 0) {
+            return statement.setPageSize(pageSize);
+        }
+        return statement;
+    }
+
 
     @Override
     public String toString() {
@@ -20,11 +20,15 @@ import com.datastax.oss.driver.api.querybuilder.delete.Delete;
 import com.datastax.oss.driver.api.querybuilder.delete.DeleteSelection;
 import org.eclipse.jnosql.communication.semistructured.DeleteQuery;
 
+import java.util.ArrayList;
+import java.util.List;
+
 final class DeleteQueryConverter {
     private DeleteQueryConverter() {
     }
 
-    static Delete delete(DeleteQuery query, String keyspace) {
+    static CassandraStatement delete(DeleteQuery query, String keyspace) {
+        List<Object> values = new ArrayList<>();
         final String columnFamily = query.name();
         DeleteSelection deleteSelection = QueryBuilder.deleteFrom(keyspace, columnFamily);
 
@@ -32,7 +36,7 @@ final class DeleteQueryConverter {
             deleteSelection = deleteSelection.column(QueryUtils.getName(column));
         }
 
-        final Delete delete = deleteSelection.where(Relations.createClause(query.condition().orElse(null)));
-        return delete;
+        final Delete delete = deleteSelection.where(Relations.createClause(query.condition().orElse(null), values));
+        return CassandraStatement.of(delete, values);
     }
 }
@@ -15,9 +15,10 @@
 package org.eclipse.jnosql.databases.cassandra.communication;
 
 import com.datastax.oss.driver.api.core.ConsistencyLevel;
+import com.datastax.oss.driver.api.core.cql.BoundStatement;
 import com.datastax.oss.driver.api.core.cql.ResultSet;
 import com.datastax.oss.driver.api.core.cql.Row;
-import com.datastax.oss.driver.api.core.cql.SimpleStatement;
+import com.datastax.oss.driver.api.querybuilder.QueryBuilder;
 import com.datastax.oss.driver.api.querybuilder.select.Select;
 import org.eclipse.jnosql.communication.semistructured.CommunicationEntity;
 import org.eclipse.jnosql.communication.semistructured.SelectQuery;
@@ -44,17 +45,18 @@ enum QueryExecutorType implements QueryExecutor {
             if (query.isExhausted()) {
                 return Stream.empty();
             }
-            Select select = QueryUtils.select(query, keyspace);
-            SimpleStatement simpleStatement = select.build();
+            List<Object> values = new ArrayList<>();
+            Select select = QueryUtils.select(query, keyspace, values);
+            BoundStatement statement = manager.statements().bind(CassandraStatement.of(select, values));
             if (Objects.nonNull(level)) {
-                simpleStatement = simpleStatement.setConsistencyLevel(level);
+                statement = statement.setConsistencyLevel(level);
             }
 
             if (query.toPaginate().isPresent()) {
-                simpleStatement = simpleStatement.setPagingState(query.toPaginate().get());
+                statement = statement.setPagingState(query.toPaginate().get());
             }
 
-            ResultSet resultSet = manager.getSession().execute(simpleStatement);
+            ResultSet resultSet = manager.getSession().execute(statement);
 
             final ByteBuffer pagingState = resultSet.getExecutionInfo().getPagingState();
             query.setPagingState(pagingState);
@@ -82,21 +84,26 @@ enum QueryExecutorType implements QueryExecutor {
         public Stream<CommunicationEntity> execute(String keyspace, SelectQuery query, ConsistencyLevel level,
                                             DefaultCassandraColumnManager manager) {
 
-            Select cassandraSelect = QueryUtils.select(query, keyspace);
+            List<Object> values = new ArrayList<>();
+            Select cassandraSelect = QueryUtils.select(query, keyspace, values);
 
-            if (query.limit() > 0 && query.skip() == 0) {
-                cassandraSelect = cassandraSelect.limit((int) query.limit());
+            // CQL has no offset: the limit covers the skipped rows, which are then skipped through the paging state
+            long limit = query.limit() > 0 ? query.skip() + query.limit() : 0;
+            if (limit > 0 && limit <= Integer.MAX_VALUE) {
+                values.add((int) limit);
+                cassandraSelect = cassandraSelect.limit(QueryBuilder.bindMarker());
             }
 
-            SimpleStatement select = cassandraSelect.build();
+            BoundStatement select = manager.statements().bind(CassandraStatement.of(cassandraSelect, values));
             if (Objects.nonNull(level)) {
                 select = select.setConsistencyLevel(level);
             }
-            ResultSet resultSet = manager.getSession().execute(select);
-            if (query.limit() > 0 && query.skip() > 0) {
-                return resultSet.all().stream().skip(query.skip()).limit(query.limit()).map(CassandraConverter::toDocumentEntity);
+            Stream<CommunicationEntity> entities = CassandraPages.stream(manager.getSession(), select, query.skip(),
+                    manager.pageSize());
+            if (query.limit() > 0) {
+                return entities.limit(query.limit());
             }
-            return resultSet.all().stream().map(CassandraConverter::toDocumentEntity);
+            return entities;
         }
     }
 }
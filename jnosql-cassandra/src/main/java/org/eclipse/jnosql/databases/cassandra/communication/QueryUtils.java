@@ -16,13 +16,8 @@
 package org.eclipse.jnosql.databases.cassandra.communication;
 
 
-import com.datastax.oss.driver.api.core.CqlIdentifier;
-import com.datastax.oss.driver.api.core.CqlSession;
 import com.datastax.oss.driver.api.core.data.UdtValue;
 import com.datastax.oss.driver.api.core.metadata.schema.ClusteringOrder;
-import com.datastax.oss.driver.api.core.metadata.schema.ColumnMetadata;
-import com.datastax.oss.driver.api.core.metadata.schema.KeyspaceMetadata;
-import com.datastax.oss.driver.api.core.metadata.schema.TableMetadata;
 import com.datastax.oss.driver.api.core.type.DataType;
 import com.datastax.oss.driver.api.core.type.SetType;
 import com.datastax.oss.driver.api.core.type.UserDefinedType;
@@ -30,11 +25,9 @@ import com.datastax.oss.driver.api.core.type.codec.CodecNotFoundException;
 import com.datastax.oss.driver.api.core.type.codec.TypeCodec;
 import com.datastax.oss.driver.api.core.type.codec.registry.CodecRegistry;
 import com.datastax.oss.driver.api.querybuilder.QueryBuilder;
-import com.datastax.oss.driver.api.querybuilder.insert.Insert;
 import com.datastax.oss.driver.api.querybuilder.insert.InsertInto;
 import com.datastax.oss.driver.api.querybuilder.insert.RegularInsert;
 import com.datastax.oss.driver.api.querybuilder.select.Select;
-import com.datastax.oss.driver.api.querybuilder.term.Term;
 import com.datastax.oss.protocol.internal.ProtocolConstants;
 import jakarta.data.Sort;
 import org.eclipse.jnosql.communication.CommunicationException;
@@ -47,11 +40,10 @@ import org.eclipse.jnosql.communication.semistructured.SelectQuery;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -62,27 +54,44 @@ final class QueryUtils {
     }
 
 
-    static Insert insert(CommunicationEntity entity, String keyspace, CqlSession session, Duration duration) {
+    /**
+     * Creates the insert with a bind marker per column, and one for the TTL when there is a duration, so the
+     * statement shape only depends on the table, the column names and the TTL presence.
+     */
+    static CassandraStatement insert(CommunicationEntity entity, String keyspace, UDTMetadataCache udts,
+                                     Duration duration) {
 
-        Map<String, Term> values = new HashMap<>();
-        InsertInto insert = QueryBuilder.insertInto(keyspace, entity.name());
+        Map<String, Object> values = new LinkedHashMap<>();
         entity.elements().stream()
                 .forEach(c -> {
                     if (UDT.class.isInstance(c)) {
-                        insertUDT(UDT.class.cast(c), keyspace, entity.name(), session, values);
+                        insertUDT(UDT.class.cast(c), keyspace, entity.name(), udts, values);
                     } else {
                         insertSingleField(c, values);
                     }
                 });
 
-        RegularInsert regularInsert = insert.values(values);
+        InsertInto insert = QueryBuilder.insertInto(keyspace, entity.name());
+        RegularInsert regularInsert = null;
+        for (String column : values.keySet()) {
+            regularInsert = regularInsert == null ? insert.value(column, QueryBuilder.bindMarker())
+                    : regularInsert.value(column, QueryBuilder.bindMarker());
+        }
+        if (regularInsert == null) {
+            throw new CommunicationException("The entity " + entity.name() + " has no column to insert");
+        }
+        List<Object> parameters = new ArrayList<>(values.values());
         if (duration != null) {
-            return regularInsert.usingTtl((int) duration.getSeconds());
+            parameters.add((int) duration.getSeconds());
+            return CassandraStatement.of(regularInsert.usingTtl(QueryBuilder.bindMarker()), parameters);
         }
-        return regularInsert;
+        return CassandraStatement.of(regularInsert, parameters);
     }
 
-    public static Select select(SelectQuery query, String keyspace) {
+    /**
+     * Creates the select with bind markers, the values are added to the given list in the bind marker order.
+     */
+    static Select select(SelectQuery query, String keyspace, List<Object> values) {
         String columnFamily = query.name();
         final List<String> columns = query.columns();
 
@@ -93,7 +102,7 @@ final class QueryUtils {
             select = QueryBuilder.selectFrom(keyspace, columnFamily).columns(columns);
         }
 
-        select = select.where(Relations.createClause(query.condition().orElse(null)));
+        select = select.where(Relations.createClause(query.condition().orElse(null), values));
         final Map<String, ClusteringOrder> sort = query.sorts().stream()
                 .collect(Collectors.toMap(Sort::property, mapSort()));
         select = select.orderBy(sort);
@@ -104,55 +113,41 @@ final class QueryUtils {
         return s -> s.isAscending() ? ClusteringOrder.ASC : ClusteringOrder.DESC;
     }
 
-    private static void insertUDT(UDT udt, String keyspace, String columnFamily, CqlSession session,
-                                  Map<String, Term> values) {
-
-        final Optional<KeyspaceMetadata> keyspaceMetadata = session.getMetadata().getKeyspace(keyspace);
-        UserDefinedType userType = keyspaceMetadata
-                .flatMap(ks -> ks.getUserDefinedType(udt.userType()))
-                .orElseThrow(() -> new IllegalArgumentException("Missing UDT definition"));
-
-        final TableMetadata tableMetadata = keyspaceMetadata
-                .flatMap(k -> k.getTable(columnFamily))
-                .orElseThrow(() -> new IllegalArgumentException("Missing Table definition"));
-
-        final ColumnMetadata columnMetadata = tableMetadata.getColumn(getName(udt))
-                .orElseThrow(() -> new IllegalArgumentException("Missing the column definition"));
+    private static void insertUDT(UDT udt, String keyspace, String columnFamily, UDTMetadataCache udts,
+                                  Map<String, Object> values) {
 
-        final DataType type = columnMetadata.getType();
+        final UDTMetadataCache.UDTColumn column = udts.column(keyspace, columnFamily, getName(udt), udt.userType());
         Iterable elements = Iterable.class.cast(udt.get());
-        Object udtValue = getUdtValue(userType, elements, type);
-        values.put(getName(udt), QueryBuilder.literal(udtValue));
+        Object udtValue = getUdtValue(column, elements);
+        values.put(getName(udt), udtValue);
     }
 
-    private static Object getUdtValue(UserDefinedType userType, Iterable elements, DataType type) {
+    private static Object getUdtValue(UDTMetadataCache.UDTColumn udt, Iterable elements) {
 
-        Collection<Object> udtValues = getCollectionUdt(type);
+        Collection<Object> udtValues = getCollectionUdt(udt.type());
 
+        UserDefinedType userType = udt.userType();
         UdtValue udtValue = userType.newValue();
-        final List<String> udtNames = userType.getFieldNames().stream().map(CqlIdentifier::asInternal)
-                .collect(Collectors.toList());
         for (Object object : elements) {
             if (Element.class.isInstance(object)) {
                 Element column = Element.class.cast(object);
                 Object convert = ValueUtil.convert(column.value());
 
-                final int index = udtNames.indexOf(column.name());
+                final int index = udt.indexOf(column.name());
                 if (index < 0) {
                     throw new CommunicationException("This field has not been found: " + column.name() +
-                            " the fields available are " + udtNames + " in the UDT type " + userType.getName()
+                            " the fields available are " + udt.fieldNames() + " in the UDT type " + userType.getName()
                             .asCql(true) + " at the keyspace " + userType.getKeyspace());
                 }
-                DataType fieldType = userType.getFieldTypes().get(index);
-                TypeCodec<Object> objectTypeCodec = CodecRegistry.DEFAULT.codecFor(fieldType);
-                if (fieldType instanceof SetType) {
-                    udtValue.set(getName(column), new HashSet<Object>((Collection<?>) convert), objectTypeCodec);
+                TypeCodec<Object> objectTypeCodec = udt.codecs().get(index);
+                if (udt.fieldType(index) instanceof SetType) {
+                    udtValue = udtValue.set(index, new HashSet<Object>((Collection<?>) convert), objectTypeCodec);
                 } else {
-                    udtValue.set(getName(column), convert, objectTypeCodec);
+                    udtValue = udtValue.set(index, convert, objectTypeCodec);
                 }
 
             } else if (Iterable.class.isInstance(object)) {
-                udtValues.add(getUdtValue(userType, Iterable.class.cast(Iterable.class.cast(object)), type));
+                udtValues.add(getUdtValue(udt, Iterable.class.cast(Iterable.class.cast(object))));
             }
         }
         if (udtValues.isEmpty()) {
@@ -170,17 +165,17 @@ final class QueryUtils {
         }
     }
 
-    private static void insertSingleField(Element column, Map<String, Term> values) {
+    private static void insertSingleField(Element column, Map<String, Object> values) {
         Object value = column.get();
         if(value == null) {
-            values.put(getName(column), QueryBuilder.literal(null));
+            values.put(getName(column), null);
             return;
         }
         try {
             CodecRegistry.DEFAULT.codecFor(value);
-            values.put(getName(column), QueryBuilder.literal(value));
+            values.put(getName(column), value);
         } catch (CodecNotFoundException exp) {
-            values.put(getName(column), QueryBuilder.literal(ValueUtil.convert(column.value())));
+            values.put(getName(column), ValueUtil.convert(column.value()));
         }
     }
 
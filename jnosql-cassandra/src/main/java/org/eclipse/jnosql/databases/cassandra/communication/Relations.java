@@ -14,7 +14,7 @@
  */
 package org.eclipse.jnosql.databases.cassandra.communication;
 
-import com.datastax.oss.driver.api.querybuilder.QueryBuilder;
+import com.datastax.oss.driver.api.querybuilder.BindMarker;
 import com.datastax.oss.driver.api.querybuilder.relation.Relation;
 import com.datastax.oss.driver.api.querybuilder.term.Term;
 import org.eclipse.jnosql.communication.Condition;
@@ -29,52 +29,55 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 
-import static com.datastax.oss.driver.api.querybuilder.QueryBuilder.literal;
+import static com.datastax.oss.driver.api.querybuilder.QueryBuilder.bindMarker;
 
 final class Relations {
 
     private Relations() {
     }
 
-    static List<Relation> createClause(CriteriaCondition columnCondition) {
+    /**
+     * Creates the relations with bind markers, the values are added to the given list in the bind marker order.
+     */
+    static List<Relation> createClause(CriteriaCondition columnCondition, List<Object> values) {
         if (Objects.isNull(columnCondition)) {
             return Collections.emptyList();
         }
 
         List<Relation> relations = new ArrayList<>();
-        load(columnCondition, relations);
+        load(columnCondition, relations, values);
         return relations;
     }
 
-    private static void load(CriteriaCondition columnCondition, List<Relation> relations) {
+    private static void load(CriteriaCondition columnCondition, List<Relation> relations, List<Object> values) {
 
         Element column = columnCondition.element();
         Condition condition = columnCondition.condition();
 
         switch (condition) {
             case EQUALS:
-                relations.add(Relation.column(QueryUtils.getName(column)).isEqualTo(getTerm(column)));
+                relations.add(Relation.column(QueryUtils.getName(column)).isEqualTo(getTerm(column, values)));
                 return;
             case GREATER_THAN:
-                relations.add(Relation.column(QueryUtils.getName(column)).isGreaterThan(getTerm(column)));
+                relations.add(Relation.column(QueryUtils.getName(column)).isGreaterThan(getTerm(column, values)));
                 return;
             case GREATER_EQUALS_THAN:
-                relations.add(Relation.column(QueryUtils.getName(column)).isGreaterThanOrEqualTo(getTerm(column)));
+                relations.add(Relation.column(QueryUtils.getName(column)).isGreaterThanOrEqualTo(getTerm(column, values)));
                 return;
             case LESSER_THAN:
-                relations.add(Relation.column(QueryUtils.getName(column)).isLessThan(getTerm(column)));
+                relations.add(Relation.column(QueryUtils.getName(column)).isLessThan(getTerm(column, values)));
                 return;
             case LESSER_EQUALS_THAN:
-                relations.add(Relation.column(QueryUtils.getName(column)).isLessThanOrEqualTo(getTerm(column)));
+                relations.add(Relation.column(QueryUtils.getName(column)).isLessThanOrEqualTo(getTerm(column, values)));
                 return;
             case IN:
-                relations.add(Relation.column(QueryUtils.getName(column)).in(getIinValue(column.value())));
+                relations.add(Relation.column(QueryUtils.getName(column)).in(getIinValue(column.value(), values)));
                 return;
             case LIKE:
-                relations.add(Relation.column(QueryUtils.getName(column)).like(getTerm(column)));
+                relations.add(Relation.column(QueryUtils.getName(column)).like(getTerm(column, values)));
                 return;
             case AND:
-                column.get(new TypeReference<List<CriteriaCondition>>() {}).forEach(cc -> load(cc, relations));
+                column.get(new TypeReference<List<CriteriaCondition>>() {}).forEach(cc -> load(cc, relations, values));
                 return;
             case OR:
             default:
@@ -83,11 +86,13 @@ final class Relations {
         }
     }
 
-    private static Term getTerm(Element column) {
-        return literal(ValueUtil.convert(column.value()));
+    private static Term getTerm(Element column, List<Object> values) {
+        values.add(ValueUtil.convert(column.value()));
+        return bindMarker();
     }
 
-    private static Term[] getIinValue(Value value) {
-        return ValueUtil.convertToList(value).stream().map(QueryBuilder::literal).toArray(Term[]::new);
+    private static BindMarker getIinValue(Value value, List<Object> values) {
+        values.add(ValueUtil.convertToList(value));
+        return bindMarker();
     }
 }
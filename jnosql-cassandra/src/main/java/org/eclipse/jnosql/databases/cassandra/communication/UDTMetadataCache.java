@@ -0,0 +1,125 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+
+package org.eclipse.jnosql.databases.cassandra.communication;
+
+import com.datastax.oss.driver.api.core.CqlIdentifier;
+import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.metadata.Metadata;
+import com.datastax.oss.driver.api.core.metadata.schema.ColumnMetadata;
+import com.datastax.oss.driver.api.core.metadata.schema.KeyspaceMetadata;
+import com.datastax.oss.driver.api.core.metadata.schema.TableMetadata;
+import com.datastax.oss.driver.api.core.type.DataType;
+import com.datastax.oss.driver.api.core.type.UserDefinedType;
+import com.datastax.oss.driver.api.core.type.codec.TypeCodec;
+import com.datastax.oss.driver.api.core.type.codec.registry.CodecRegistry;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The resolved metadata of the UDT columns of a session: the user type, the column type, the index of each field and
+ * its codec, so inserting a UDT does not look up the keyspace, the type, the table and the column every time.
+ * <p>The driver replaces its immutable {@link Metadata} snapshot whenever the schema changes; an entry resolved from
+ * a previous snapshot is resolved again, so a changed UDT or table is seen as soon as the driver sees it.</p>
+ */
+final class UDTMetadataCache {
+
+    private final CqlSession session;
+
+    private final Map<Key, UDTColumn> columns = new ConcurrentHashMap<>();
+
+    UDTMetadataCache(CqlSession session) {
+        this.session = Objects.requireNonNull(session, "session is required");
+    }
+
+    /**
+     * @param keyspace the keyspace
+     * @param table    the table
+     * @param column   the UDT column name
+     * @param userType the user type name
+     * @return the resolved metadata of the column
+     * @throws IllegalArgumentException when the user type, the table or the column does not exist
+     */
+    UDTColumn column(String keyspace, String table, String column, String userType) {
+        Metadata metadata = session.getMetadata();
+        Key key = new Key(keyspace, table, column, userType);
+        UDTColumn cached = columns.get(key);
+        if (cached != null && cached.metadata() == metadata) {
+            return cached;
+        }
+        UDTColumn resolved = resolve(metadata, key);
+        columns.put(key, resolved);
+        return resolved;
+    }
+
+    int size() {
+        return columns.size();
+    }
+
+    private static UDTColumn resolve(Metadata metadata, Key key) {
+        KeyspaceMetadata keyspace = metadata.getKeyspace(key.keyspace())
+                .orElseThrow(() -> new IllegalArgumentException("Missing UDT definition"));
+        UserDefinedType userType = keyspace.getUserDefinedType(key.userType())
+                .orElseThrow(() -> new IllegalArgumentException("Missing UDT definition"));
+        TableMetadata table = keyspace.getTable(key.table())
+                .orElseThrow(() -> new IllegalArgumentException("Missing Table definition"));
+        ColumnMetadata column = table.getColumn(key.column())
+                .orElseThrow(() -> new IllegalArgumentException("Missing the column definition"));
+
+        List<String> fieldNames = userType.getFieldNames().stream().map(CqlIdentifier::asInternal).toList();
+        Map<String, Integer> fields = new HashMap<>(fieldNames.size() * 2);
+        for (int index = 0; index < fieldNames.size(); index++) {
+            fields.put(fieldNames.get(index), index);
+        }
+        List<TypeCodec<Object>> codecs = userType.getFieldTypes().stream()
+                .map(UDTMetadataCache::codecFor)
+                .toList();
+        return new UDTColumn(metadata, userType, column.getType(), fieldNames, Map.copyOf(fields), codecs);
+    }
+
+    private static TypeCodec<Object> codecFor(DataType type) {
+        return CodecRegistry.DEFAULT.codecFor(type);
+    }
+
+    /**
+     * @param metadata   the schema snapshot the column was resolved from
+     * @param userType   the user type
+     * @param type       the column type: the user type, or a list or set of it
+     * @param fieldNames the field names, in the user type order
+     * @param fields     the index of each field name
+     * @param codecs     the codec of each field, by index
+     */
+    record UDTColumn(Metadata metadata, UserDefinedType userType, DataType type, List<String> fieldNames,
+                     Map<String, Integer> fields, List<TypeCodec<Object>> codecs) {
+
+        /**
+         * @return the index of the field, -1 when the user type does not have it
+         */
+        int indexOf(String field) {
+            return fields.getOrDefault(field, -1);
+        }
+
+        DataType fieldType(int index) {
+            return userType.getFieldTypes().get(index);
+        }
+    }
+
+    private record Key(String keyspace, String table, String column, String userType) {
+    }
+}
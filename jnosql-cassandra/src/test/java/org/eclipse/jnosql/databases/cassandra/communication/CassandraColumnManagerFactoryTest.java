@@ -24,8 +24,13 @@ import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
 
 import static org.eclipse.jnosql.communication.driver.IntegrationTest.MATCHES;
 import static org.eclipse.jnosql.communication.driver.IntegrationTest.NAMED;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @EnabledIfSystemProperty(named = NAMED, matches = MATCHES)
 public class CassandraColumnManagerFactoryTest {
@@ -59,4 +64,46 @@ public class CassandraColumnManagerFactoryTest {
         assertNotNull(columnEntityManager);
     }
 
+    @Test
+    public void shouldShareTheSessionAcrossKeyspaces() {
+        var first = DefaultCassandraColumnManager.class.cast(subject.apply(Constants.KEY_SPACE));
+        var second = DefaultCassandraColumnManager.class.cast(subject.apply("newKeySpace"));
+
+        assertSame(first.getSession(), second.getSession());
+        assertSame(first.statements(), second.statements());
+        assertEquals(2, subject.session().references());
+
+        first.close();
+        first.close();
+        assertEquals(1, subject.session().references());
+        assertFalse(second.getSession().isClosed());
+
+        second.close();
+        assertEquals(0, subject.session().references());
+        assertTrue(second.getSession().isClosed());
+    }
+
+    @Test
+    public void shouldOpenANewSessionAfterTheLastManagerIsClosed() {
+        var first = DefaultCassandraColumnManager.class.cast(subject.apply(Constants.KEY_SPACE));
+        first.close();
+
+        var second = DefaultCassandraColumnManager.class.cast(subject.apply(Constants.KEY_SPACE));
+        assertNotSame(first.getSession(), second.getSession());
+        assertFalse(second.getSession().isClosed());
+        second.close();
+    }
+
+    @Test
+    public void shouldCloseTheSessionWithTheFactoryAndTheLastManager() {
+        var manager = DefaultCassandraColumnManager.class.cast(subject.apply(Constants.KEY_SPACE));
+        subject.close();
+
+        assertFalse(manager.getSession().isClosed());
+        assertThrows(IllegalStateException.class, () -> subject.apply(Constants.KEY_SPACE));
+
+        manager.close();
+        assertTrue(manager.getSession().isClosed());
+    }
+
 }
\ No newline at end of file
@@ -55,6 +55,7 @@ import static org.eclipse.jnosql.communication.semistructured.SelectQuery.select
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -126,6 +127,40 @@ public class CassandraColumnManagerTest {
         assertTrue(entities.isEmpty());
     }
 
+    @Test
+    void shouldInsertSelectAndDeleteAsync() {
+        var inserted = entityManager.insertAsync(getEntities()).toCompletableFuture().join();
+        var query = select().from(Constants.COLUMN_FAMILY).where("id").in(asList(1L, 2L, 3L)).build();
+        var found = entityManager.selectAsync(query).toCompletableFuture().join();
+
+        entityManager.deleteAsync(delete().from(Constants.COLUMN_FAMILY).where("id").in(asList(1L, 2L, 3L)).build())
+                .toCompletableFuture().join();
+        var afterDelete = entityManager.selectAsync(query).toCompletableFuture().join();
+
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(inserted).hasSize(3);
+            softly.assertThat(found).hasSize(3);
+            softly.assertThat(afterDelete).isEmpty();
+        });
+    }
+
+    @Test
+    void shouldReportTheRowsThatFailedOnBatchInsert() {
+        var entities = new ArrayList<>(getEntities());
+        var invalid = CommunicationEntity.of(Constants.COLUMN_FAMILY, singletonList(Elements.of("id", 4L)));
+        invalid.add("unknown_column", "value");
+        entities.add(invalid);
+
+        var exception = assertThrows(CassandraBatchException.class, () -> entityManager.insert(entities));
+
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(exception.failures()).containsOnlyKeys(entities.size() - 1);
+            softly.assertThat(exception.entities()).containsExactly(invalid);
+            softly.assertThat(entityManager.select(select().from(Constants.COLUMN_FAMILY).build()).count())
+                    .isEqualTo(3L);
+        });
+    }
+
     @Test
     void shouldReturnErrorWhenInsertWithColumnNull() {
 
@@ -147,6 +182,25 @@ public class CassandraColumnManagerTest {
     }
 
 
+    @Test
+    void shouldPrepareTheInsertShapeOnce() {
+        var statements = DefaultCassandraColumnManager.class.cast(entityManager).statements();
+        var first = getColumnFamily();
+        var second = getColumnFamily();
+        second.add("name", "Apache Cassandra");
+
+        entityManager.insert(first);
+        int size = statements.size();
+        entityManager.insert(second);
+
+        var entity = entityManager.singleResult(select().from(Constants.COLUMN_FAMILY).where("id").eq(10L).build());
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(statements.size()).isEqualTo(size);
+            softly.assertThat(entity).isPresent();
+            softly.assertThat(entity.flatMap(e -> e.find("name", String.class))).contains("Apache Cassandra");
+        });
+    }
+
     @Test
     void shouldInsertColumnsWithConsistencyLevel() {
         var columnEntity = getColumnFamily();
@@ -381,6 +435,23 @@ public class CassandraColumnManagerTest {
                 Element.of("lastname", "Lovelace"));
     }
 
+    @Test
+    void shouldResolveTheUDTMetadataOnce() {
+        var udts = DefaultCassandraColumnManager.class.cast(entityManager).udts();
+        for (String nickname : List.of("ada", "grace")) {
+            var entity = CommunicationEntity.of("users");
+            entity.add(Element.of("nickname", nickname));
+            entity.add(UDT.builder("fullname").withName("name")
+                    .addUDT(List.of(Element.of("firstname", nickname), Element.of("lastname", "Lovelace"))).build());
+            entityManager.insert(entity);
+        }
+
+        var column = udts.column(Constants.KEY_SPACE, "users", "name", "fullname");
+        assertEquals(1, udts.size());
+        assertSame(column, udts.column(Constants.KEY_SPACE, "users", "name", "fullname"));
+        assertEquals(2, entityManager.count("users"));
+    }
+
     @Test
     void shouldSupportAnUDTElement() {
         var entity = CommunicationEntity.of("users");
@@ -482,6 +553,59 @@ public class CassandraColumnManagerTest {
         assertEquals(4, entities.size());
     }
 
+    @Test
+    void shouldSkipThroughThePagingState() {
+        for (long index = 1; index <= 10; index++) {
+            var columnFamily = getColumnFamily();
+            columnFamily.add("id", index);
+            entityManager.insert(columnFamily);
+        }
+        var session = DefaultCassandraColumnManager.class.cast(entityManager).getSession();
+        var options = new CassandraManagerOptions(CassandraStatementCache.DEFAULT_SIZE,
+                CassandraBatchWriter.DEFAULT_CONCURRENCY, false, 3);
+        var manager = new DefaultCassandraColumnManager(session, Constants.KEY_SPACE, options);
+        var all = manager.select(select().from(Constants.COLUMN_FAMILY).build())
+                .map(entity -> entity.find("id").orElseThrow().get()).toList();
+
+        var page = manager.select(select().from(Constants.COLUMN_FAMILY).skip(4).limit(5).build())
+                .map(entity -> entity.find("id").orElseThrow().get()).toList();
+        var tail = manager.select(select().from(Constants.COLUMN_FAMILY).skip(7).build())
+                .map(entity -> entity.find("id").orElseThrow().get()).toList();
+
+        assertThat(all).hasSize(10);
+        assertThat(page).containsExactlyElementsOf(all.subList(4, 9));
+        assertThat(tail).containsExactlyElementsOf(all.subList(7, 10));
+        assertThat(manager.select(select().from(Constants.COLUMN_FAMILY).skip(10).build())).isEmpty();
+    }
+
+    @Test
+    void shouldSkipThroughThePagingStateAsync() {
+        for (long index = 1; index <= 10; index++) {
+            var columnFamily = getColumnFamily();
+            columnFamily.add("id", index);
+            entityManager.insert(columnFamily);
+        }
+        var session = DefaultCassandraColumnManager.class.cast(entityManager).getSession();
+        var options = new CassandraManagerOptions(CassandraStatementCache.DEFAULT_SIZE,
+                CassandraBatchWriter.DEFAULT_CONCURRENCY, false, 3);
+        var manager = new DefaultCassandraColumnManager(session, Constants.KEY_SPACE, options);
+        var all = manager.selectAsync(select().from(Constants.COLUMN_FAMILY).build()).toCompletableFuture().join()
+                .stream().map(entity -> entity.find("id").orElseThrow().get()).toList();
+
+        var page = manager.selectAsync(select().from(Constants.COLUMN_FAMILY).skip(4).limit(5).build())
+                .toCompletableFuture().join()
+                .stream().map(entity -> entity.find("id").orElseThrow().get()).toList();
+        var tail = manager.selectAsync(select().from(Constants.COLUMN_FAMILY).skip(7).build())
+                .toCompletableFuture().join()
+                .stream().map(entity -> entity.find("id").orElseThrow().get()).toList();
+
+        assertThat(all).hasSize(10);
+        assertThat(page).containsExactlyElementsOf(all.subList(4, 9));
+        assertThat(tail).containsExactlyElementsOf(all.subList(7, 10));
+        assertThat(manager.selectAsync(select().from(Constants.COLUMN_FAMILY).skip(10).build())
+                .toCompletableFuture().join()).isEmpty();
+    }
+
     @Test
     void shouldCreateUDTWithSet() {
         var entity = createEntityWithIterableSet();
@@ -0,0 +1,94 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.cassandra.communication;
+
+import com.datastax.oss.driver.api.core.CqlSession;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class CassandraSharedSessionTest {
+
+    private final List<CqlSession> sessions = new ArrayList<>();
+
+    private CassandraSharedSession subject;
+
+    @BeforeEach
+    public void setUp() {
+        subject = new CassandraSharedSession(() -> {
+            CqlSession session = Mockito.mock(CqlSession.class);
+            sessions.add(session);
+            return session;
+        }, CassandraStatementCache.DEFAULT_SIZE);
+    }
+
+    @Test
+    public void shouldCloseTheSessionWhenTheLastManagerIsClosed() {
+        var first = subject.borrow("heroes", CassandraManagerOptions.DEFAULT);
+        var second = subject.borrow("villains", CassandraManagerOptions.DEFAULT);
+        assertEquals(1, sessions.size());
+        assertEquals(2, subject.references());
+
+        first.close();
+        verify(sessions.get(0), never()).close();
+        second.close();
+        verify(sessions.get(0)).close();
+        assertEquals(0, subject.references());
+    }
+
+    @Test
+    public void shouldCountTheManagersOfAReplacedSessionApart() {
+        var first = subject.borrow("heroes", CassandraManagerOptions.DEFAULT);
+        CqlSession closedElsewhere = sessions.get(0);
+        when(closedElsewhere.isClosed()).thenReturn(true);
+
+        var second = subject.borrow("heroes", CassandraManagerOptions.DEFAULT);
+        CqlSession replacement = sessions.get(1);
+        assertNotSame(closedElsewhere, replacement);
+        assertSame(replacement, subject.get());
+        assertEquals(1, subject.references());
+
+        first.close();
+        verify(closedElsewhere).close();
+        assertEquals(1, subject.references());
+
+        second.close();
+        verify(replacement).close();
+        assertEquals(0, subject.references());
+    }
+
+    @Test
+    public void shouldCloseTheReplacementSessionWhenTheFactoryIsClosed() {
+        var first = subject.borrow("heroes", CassandraManagerOptions.DEFAULT);
+        when(sessions.get(0).isClosed()).thenReturn(true);
+        CqlSession replacement = subject.get();
+
+        subject.close();
+        verify(replacement).close();
+
+        first.close();
+        verify(sessions.get(0)).close();
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.couchbase.communication;
+
+import com.couchbase.client.core.error.DocumentNotFoundException;
+import com.couchbase.client.java.Collection;
+import com.couchbase.client.java.ReactiveCollection;
+import com.couchbase.client.java.kv.GetResult;
+import com.couchbase.client.java.kv.InsertOptions;
+import com.couchbase.client.java.kv.UpsertOptions;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Runs the key-value operations of several keys at once through {@link Collection#reactive()}: at most
+ * {@code concurrency} operations are in flight, so a batch takes about one round trip instead of one per key. The
+ * results come back in the order of the keys.
+ */
+final class CouchbaseBatch {
+
+    static final int DEFAULT_CONCURRENCY = 64;
+
+    private final int concurrency;
+
+    CouchbaseBatch(int concurrency) {
+        if (concurrency < 1) {
+            throw new IllegalArgumentException("The batch concurrency must be greater than zero: " + concurrency);
+        }
+        this.concurrency = concurrency;
+    }
+
+    /**
+     * @param collection the collection
+     * @param ids        the ids
+     * @return the document of each id, in the order of the ids, empty when it was not found
+     */
+    List<Optional<GetResult>> get(Collection collection, List<String> ids) {
+        ReactiveCollection reactive = collection.reactive();
+        return execute(ids, id -> reactive.get(id)
+                .map(Optional::of)
+                .onErrorResume(DocumentNotFoundException.class, e -> Mono.just(Optional.<GetResult>empty())));
+    }
+
+    void insert(Collection collection, List<Document> documents, InsertOptions options) {
+        ReactiveCollection reactive = collection.reactive();
+        execute(documents, document -> reactive.insert(document.id(), document.content(), options));
+    }
+
+    void upsert(Collection collection, List<Document> documents, UpsertOptions options) {
+        ReactiveCollection reactive = collection.reactive();
+        execute(documents, document -> reactive.upsert(document.id(), document.content(), options));
+    }
+
+    /**
+     * @param collection the collection
+     * @param ids        the ids, the ones that were not found are ignored
+     */
+    void remove(Collection collection, List<String> ids) {
+        ReactiveCollection reactive = collection.reactive();
+        execute(ids, id -> reactive.remove(id)
+                .map(result -> true)
+                .onErrorResume(DocumentNotFoundException.class, e -> Mono.just(false)));
+    }
+
+    int concurrency() {
+        return concurrency;
+    }
+
+    private <T, R> List<R> execute(List<T> items, Function<T, Mono<R>> operation) {
+        Objects.requireNonNull(items, "items is required");
+        if (items.isEmpty()) {
+            return List.of();
+        }
+        return Flux.fromIterable(items)
+                .flatMapSequential(operation, concurrency)
+                .collectList()
+                .block();
+    }
+
+    /**
+     * A document to write.
+     *
+     * @param id      the id
+     * @param content the content
+     */
+    record Document(String id, Object content) {
+    }
+}
@@ -26,8 +26,8 @@ import org.eclipse.jnosql.communication.keyvalue.BucketManager;
 import org.eclipse.jnosql.communication.keyvalue.KeyValueEntity;
 
 import java.time.Duration;
+import java.util.List;
 import java.util.Optional;
-import java.util.function.Supplier;
 
 import static java.util.Objects.requireNonNull;
 import static java.util.stream.Collectors.toList;
@@ -49,14 +49,22 @@ public class CouchbaseBucketManager implements BucketManager {
 
     private final String scopeName;
 
+    private final CouchbaseBucketReadiness readiness;
 
-    CouchbaseBucketManager(Bucket bucket, String bucketName, String scopeName, String collectionName) {
+    private final CouchbaseBatch batch;
+
+
+    CouchbaseBucketManager(Bucket bucket, String bucketName, String scopeName, String collectionName,
+                           CouchbaseBatch batch) {
         this.bucket = bucket;
         this.bucketName = bucketName;
         this.collectionName = collectionName;
         this.scopeName = scopeName;
         Scope scope = bucket.scope(scopeName);
         this.collection = scope.collection(collectionName);
+        this.batch = batch;
+        this.readiness = new CouchbaseBucketReadiness(bucket);
+        this.readiness.await();
     }
 
     @Override
@@ -68,7 +76,7 @@ public class CouchbaseBucketManager implements BucketManager {
     public <K, V> void put(K key, V value) {
         requireNonNull(key, "key is required");
         requireNonNull(value, "value is required");
-        waitBucketBeReadyAndGet(() -> collection.upsert(key.toString(), value));
+        readiness.get(() -> collection.upsert(key.toString(), value));
     }
 
     @Override
@@ -81,7 +89,7 @@ public class CouchbaseBucketManager implements BucketManager {
     public void put(final KeyValueEntity entity, final Duration ttl) {
         requireNonNull(entity, "entity is required");
         requireNonNull(ttl, "ttl is required");
-        waitBucketBeReadyAndDo(() -> {
+        readiness.run(() -> {
             String key = entity.key(String.class);
             Object value = convert(Value.of(entity.value()));
             collection.upsert(key, value, UpsertOptions.upsertOptions().expiry(ttl));
@@ -91,21 +99,23 @@ public class CouchbaseBucketManager implements BucketManager {
     @Override
     public void put(Iterable<KeyValueEntity> keyValueEntities) {
         requireNonNull(keyValueEntities, "keyValueEntities is required");
-        keyValueEntities.forEach(this::put);
+        List<CouchbaseBatch.Document> documents = documents(keyValueEntities);
+        readiness.run(() -> batch.upsert(collection, documents, UpsertOptions.upsertOptions()));
     }
 
     @Override
     public void put(Iterable<KeyValueEntity> keyValueEntities, Duration ttl) {
         requireNonNull(keyValueEntities, "keyValueEntities is required");
         requireNonNull(ttl, "ttl is required");
-        keyValueEntities.forEach(k -> this.put(k, ttl));
+        List<CouchbaseBatch.Document> documents = documents(keyValueEntities);
+        readiness.run(() -> batch.upsert(collection, documents, UpsertOptions.upsertOptions().expiry(ttl)));
     }
 
     @Override
     public <K> Optional<Value> get(K key) throws NullPointerException {
         requireNonNull(key, "key is required");
         try {
-            return waitBucketBeReadyAndGet(() -> {
+            return readiness.get(() -> {
                 GetResult result = this.collection.get(key.toString());
                 return Optional.of(new CouchbaseValue(result));
             });
@@ -117,35 +127,39 @@ public class CouchbaseBucketManager implements BucketManager {
     @Override
     public <K> Iterable<Value> get(Iterable<K> keys) {
         requireNonNull(keys, "keys is required");
-        return stream(keys.spliterator(), false)
-                .map(this::get)
-                .filter(Optional::isPresent)
-                .map(Optional::get)
+        List<String> ids = ids(keys);
+        return readiness.get(() -> batch.get(collection, ids)).stream()
+                .flatMap(Optional::stream)
+                .<Value>map(CouchbaseValue::new)
                 .collect(toList());
     }
 
     @Override
     public <K> void delete(K key) {
         requireNonNull(key, "key is required");
-        waitBucketBeReadyAndDo(() -> collection.remove(key.toString()));
-    }
-
-    private void waitBucketBeReadyAndDo(Runnable runnable) {
-        bucket.waitUntilReady(bucket.environment().timeoutConfig().kvDurableTimeout());
-        runnable.run();
-    }
-
-
-    private <T> T waitBucketBeReadyAndGet(Supplier<T> supplier) {
-        bucket.waitUntilReady(bucket.environment().timeoutConfig().kvDurableTimeout());
-        return supplier.get();
+        readiness.run(() -> collection.remove(key.toString()));
     }
 
 
     @Override
     public <K> void delete(Iterable<K> keys) {
         requireNonNull(keys, "keys is required");
-        keys.forEach(this::delete);
+        List<String> ids = ids(keys);
+        readiness.run(() -> batch.remove(collection, ids));
+    }
+
+    private static <K> List<String> ids(Iterable<K> keys) {
+        return stream(keys.spliterator(), false)
+                .map(key -> requireNonNull(key, "key is required").toString())
+                .collect(toList());
+    }
+
+    private static List<CouchbaseBatch.Document> documents(Iterable<KeyValueEntity> entities) {
+        return stream(entities.spliterator(), false)
+                .map(entity -> requireNonNull(entity, "entity is required"))
+                .map(entity -> new CouchbaseBatch.Document(entity.key().toString(),
+                        convert(Value.of(entity.value()))))
+                .collect(toList());
     }
 
     @Override
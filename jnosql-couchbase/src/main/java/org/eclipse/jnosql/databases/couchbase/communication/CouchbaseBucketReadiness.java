@@ -0,0 +1,111 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.couchbase.communication;
+
+import com.couchbase.client.core.error.RequestCanceledException;
+import com.couchbase.client.core.error.ServiceNotAvailableException;
+import com.couchbase.client.core.error.TimeoutException;
+import com.couchbase.client.java.Bucket;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+/**
+ * A gate that waits for a bucket to be ready once, instead of before every operation. The ready state is kept until
+ * an operation fails with an error that looks like a connectivity problem, a timeout, a canceled request or a service
+ * that is not available, so only the next operation waits for the bucket again.
+ */
+final class CouchbaseBucketReadiness {
+
+    private static final Logger LOGGER = Logger.getLogger(CouchbaseBucketReadiness.class.getName());
+
+    private final Bucket bucket;
+
+    private final Duration timeout;
+
+    private volatile boolean ready;
+
+    CouchbaseBucketReadiness(Bucket bucket) {
+        this(bucket, bucket.environment().timeoutConfig().kvDurableTimeout());
+    }
+
+    CouchbaseBucketReadiness(Bucket bucket, Duration timeout) {
+        this.bucket = Objects.requireNonNull(bucket, "bucket is required");
+        this.timeout = Objects.requireNonNull(timeout, "timeout is required");
+    }
+
+    /**
+     * Waits for the bucket unless it is already known to be ready.
+     */
+    void await() {
+        if (ready) {
+            return;
+        }
+        synchronized (this) {
+            if (!ready) {
+                bucket.waitUntilReady(timeout);
+                ready = true;
+            }
+        }
+    }
+
+    <T> T get(Supplier<T> operation) {
+        await();
+        try {
+            return operation.get();
+        } catch (RuntimeException exception) {
+            failed(exception);
+            throw exception;
+        }
+    }
+
+    /**
+     * Resets the ready state when the error looks like a connectivity problem; for the errors raised outside
+     * {@link #get(Supplier)}, e.g. by a lazy stream.
+     *
+     * @param exception the error of an operation
+     */
+    void failed(Throwable exception) {
+        if (isConnectivityProblem(exception)) {
+            LOGGER.fine(() -> "The bucket " + bucket.name() + " will be checked again before the next operation: "
+                    + exception.getMessage());
+            ready = false;
+        }
+    }
+
+    void run(Runnable operation) {
+        get(() -> {
+            operation.run();
+            return null;
+        });
+    }
+
+    boolean isReady() {
+        return ready;
+    }
+
+    static boolean isConnectivityProblem(Throwable exception) {
+        for (Throwable cause = exception; cause != null; cause = cause.getCause()) {
+            if (cause instanceof TimeoutException
+                    || cause instanceof RequestCanceledException
+                    || cause instanceof ServiceNotAvailableException) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -43,6 +43,10 @@ public abstract class CouchbaseConfiguration {
     protected String collection;
     protected Set<String> collections = new LinkedHashSet<>();
 
+    protected int batchConcurrency = CouchbaseBatch.DEFAULT_CONCURRENCY;
+
+    protected boolean adhoc = true;
+
 
     protected void update(Settings settings) {
         this.host = getHost(settings);
@@ -52,6 +56,8 @@ public abstract class CouchbaseConfiguration {
         this.collections = getCollections(settings);
         this.index = getIndex(settings);
         this.collection = getCollection(settings);
+        this.batchConcurrency = getBatchConcurrency(settings);
+        this.adhoc = getAdhoc(settings);
     }
 
     protected String getUser(Settings settings) {
@@ -75,6 +81,18 @@ public abstract class CouchbaseConfiguration {
                 .map(Object::toString).orElse(null);
     }
 
+    private int getBatchConcurrency(Settings settings) {
+        return settings.get(CouchbaseConfigurations.BATCH_CONCURRENCY, Integer.class)
+                .orElse(CouchbaseBatch.DEFAULT_CONCURRENCY);
+    }
+
+    private boolean getAdhoc(Settings settings) {
+        return settings.get(CouchbaseConfigurations.QUERY_ADHOC)
+                .map(Object::toString)
+                .map(Boolean::parseBoolean)
+                .orElse(true);
+    }
+
     private Set<String> getCollections(Settings settings) {
         Set<String> collections = new LinkedHashSet<>();
         settings.get(CouchbaseConfigurations.COLLECTIONS)
@@ -142,6 +160,22 @@ public abstract class CouchbaseConfiguration {
         this.collection = collection;
     }
 
+    /**
+     * Set the maximum number of key-value operations in flight of a batch
+     * @param batchConcurrency the batch concurrency
+     */
+    public void setBatchConcurrency(int batchConcurrency) {
+        this.batchConcurrency = batchConcurrency;
+    }
+
+    /**
+     * Set whether the N1QL queries run as adhoc statements
+     * @param adhoc false to let the query service prepare the statements and reuse their plans
+     */
+    public void setAdhoc(boolean adhoc) {
+        this.adhoc = adhoc;
+    }
+
     /**
      * add collection in the settings
      *
@@ -159,7 +193,8 @@ public abstract class CouchbaseConfiguration {
      */
     public CouchbaseSettings toCouchbaseSettings() {
         return new CouchbaseSettings(this.host, this.user, this.password,
-                this.scope, this.index, this.collection, this.collections.stream().toList());
+                this.scope, this.index, this.collection, this.collections.stream().toList(), this.batchConcurrency,
+                this.adhoc);
     }
 
     @Override
@@ -61,7 +61,17 @@ public enum CouchbaseConfigurations implements Supplier<String> {
      * At the start-up of a {@link CouchbaseConfiguration}, it will read this property to check if the index does exist,
      * if not it will create combined by scope and the database.
      */
-    INDEX("jnosql.couchbase.index");
+    INDEX("jnosql.couchbase.index"),
+    /**
+     * The maximum number of key-value operations in flight when several keys are read, written or removed at once.
+     * The default value is 64.
+     */
+    BATCH_CONCURRENCY("jnosql.couchbase.batch.concurrency"),
+    /**
+     * Whether the N1QL queries run as adhoc statements. When it is false, the query service prepares each statement
+     * once and reuses its plan. The default value is true.
+     */
+    QUERY_ADHOC("jnosql.couchbase.query.adhoc");
 
     private final String configuration;
 
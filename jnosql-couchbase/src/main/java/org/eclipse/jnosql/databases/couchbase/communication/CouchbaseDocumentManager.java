@@ -31,7 +31,7 @@ public interface CouchbaseDocumentManager extends DatabaseManager {
      *
      * @param n1ql   the query
      * @param params the params
-     * @return the query result
+     * @return the query result, whose rows are read as the stream is consumed; close it to cancel the query
      * @throws NullPointerException when either n1ql or params are null
      */
     Stream<CommunicationEntity> n1qlQuery(String n1ql, JsonObject params) throws NullPointerException;
@@ -41,7 +41,7 @@ public interface CouchbaseDocumentManager extends DatabaseManager {
      * Executes the n1qlquery  plain query and then result que result
      *
      * @param n1ql the query
-     * @return the query result
+     * @return the query result, whose rows are read as the stream is consumed; close it to cancel the query
      * @throws NullPointerException when either n1ql or params are null
      */
     Stream<CommunicationEntity> n1qlQuery(String n1ql) throws NullPointerException;
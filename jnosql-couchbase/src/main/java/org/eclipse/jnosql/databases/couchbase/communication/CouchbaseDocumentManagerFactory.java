@@ -25,6 +25,9 @@ public class CouchbaseDocumentManagerFactory implements DatabaseManagerFactory {
 
     private final CouchbaseSettings settings;
     private final Cluster cluster;
+
+    private final N1QLCache n1qlCache = new N1QLCache(N1QLCache.DEFAULT_SIZE);
+
     CouchbaseDocumentManagerFactory(CouchbaseSettings settings) {
         this.settings = settings;
         this.cluster = settings.getCluster();
@@ -33,7 +36,8 @@ public class CouchbaseDocumentManagerFactory implements DatabaseManagerFactory {
     @Override
     public CouchbaseDocumentManager apply(String database)  {
         Objects.requireNonNull(database, "database is required");
-        return new DefaultCouchbaseDocumentManager(cluster, database);
+        return new DefaultCouchbaseDocumentManager(cluster, database,
+                new CouchbaseBatch(settings.getBatchConcurrency()), n1qlCache, settings.isAdhoc());
     }
 
 
@@ -56,9 +56,13 @@ public final class CouchbaseSettings {
     private final String collection;
     private final List<String> collections;
 
+    private final int batchConcurrency;
+
+    private final boolean adhoc;
+
     CouchbaseSettings(String host, String user, String password,
                       String scope, String index, String collection,
-                      List<String> collections) {
+                      List<String> collections, int batchConcurrency, boolean adhoc) {
         this.host = host;
         this.user = user;
         this.password = password;
@@ -66,6 +70,8 @@ public final class CouchbaseSettings {
         this.index = index;
         this.collection = collection;
         this.collections = collections;
+        this.batchConcurrency = batchConcurrency;
+        this.adhoc = adhoc;
     }
 
 
@@ -135,6 +141,24 @@ public final class CouchbaseSettings {
         return index;
     }
 
+    /**
+     * Returns the maximum number of key-value operations in flight of a batch {@link CouchbaseConfigurations#BATCH_CONCURRENCY}
+     *
+     * @return the batch concurrency {@link CouchbaseConfigurations#BATCH_CONCURRENCY}
+     */
+    public int getBatchConcurrency() {
+        return batchConcurrency;
+    }
+
+    /**
+     * Returns whether the N1QL queries run as adhoc statements {@link CouchbaseConfigurations#QUERY_ADHOC}
+     *
+     * @return the adhoc option {@link CouchbaseConfigurations#QUERY_ADHOC}
+     */
+    public boolean isAdhoc() {
+        return adhoc;
+    }
+
 
     /**
      * Create a new {@link Cluster} instance using {@link CouchbaseSettings#getHost()}
@@ -242,12 +266,13 @@ public final class CouchbaseSettings {
         return Objects.equals(host, that.host) && Objects.equals(user, that.user)
                 && Objects.equals(password, that.password) && Objects.equals(scope, that.scope)
                 && Objects.equals(index, that.index) && Objects.equals(collection, that.collection)
-                && Objects.equals(collections, that.collections);
+                && Objects.equals(collections, that.collections)
+                && batchConcurrency == that.batchConcurrency && adhoc == that.adhoc;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(host, user, password, scope, index, collection, collections);
+        return Objects.hash(host, user, password, scope, index, collection, collections, batchConcurrency, adhoc);
     }
 
     @Override
@@ -260,6 +285,8 @@ public final class CouchbaseSettings {
                 ", index='" + index + '\'' +
                 ", collection='" + collection + '\'' +
                 ", collections=" + collections +
+                ", batchConcurrency=" + batchConcurrency +
+                ", adhoc=" + adhoc +
                 '}';
     }
 }
@@ -15,15 +15,16 @@
 package org.eclipse.jnosql.databases.couchbase.communication;
 
 
-import com.couchbase.client.core.error.DocumentNotFoundException;
 import com.couchbase.client.java.Bucket;
 import com.couchbase.client.java.Cluster;
 import com.couchbase.client.java.Collection;
 import com.couchbase.client.java.json.JsonObject;
 import com.couchbase.client.java.kv.GetResult;
 import com.couchbase.client.java.kv.InsertOptions;
+import com.couchbase.client.java.kv.UpsertOptions;
 import com.couchbase.client.java.query.QueryOptions;
 import com.couchbase.client.java.query.QueryResult;
+import com.couchbase.client.java.query.ReactiveQueryResult;
 import org.eclipse.jnosql.communication.semistructured.CommunicationEntity;
 import org.eclipse.jnosql.communication.semistructured.DeleteQuery;
 import org.eclipse.jnosql.communication.semistructured.Element;
@@ -31,11 +32,11 @@ import org.eclipse.jnosql.communication.semistructured.SelectQuery;
 
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
-import java.util.function.Supplier;
-import java.util.logging.Level;
-import java.util.logging.Logger;
+import java.util.Optional;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
@@ -47,17 +48,29 @@ import static java.util.Objects.requireNonNull;
  */
 class DefaultCouchbaseDocumentManager implements CouchbaseDocumentManager {
 
-    private static final Logger LOGGER = Logger.getLogger(DefaultCouchbaseDocumentManager.class.getName());
-
     private final Bucket bucket;
     private final String database;
 
     private final Cluster cluster;
 
-    DefaultCouchbaseDocumentManager(Cluster cluster, String database) {
+    private final CouchbaseBucketReadiness readiness;
+
+    private final CouchbaseBatch batch;
+
+    private final N1QLCache n1qlCache;
+
+    private final boolean adhoc;
+
+    DefaultCouchbaseDocumentManager(Cluster cluster, String database, CouchbaseBatch batch, N1QLCache n1qlCache,
+                                    boolean adhoc) {
         this.bucket = cluster.bucket(database);
         this.database = database;
         this.cluster = cluster;
+        this.batch = batch;
+        this.n1qlCache = n1qlCache;
+        this.adhoc = adhoc;
+        this.readiness = new CouchbaseBucketReadiness(bucket);
+        this.readiness.await();
     }
 
     @Override
@@ -68,7 +81,7 @@ class DefaultCouchbaseDocumentManager implements CouchbaseDocumentManager {
     @Override
     public CommunicationEntity insert(CommunicationEntity entity) throws NullPointerException {
         requireNonNull(entity, "entity is required");
-        return waitBucketBeReadyAndGet(() -> {
+        return readiness.get(() -> {
             entity.add(EntityConverter.COLLECTION_FIELD, entity.name());
             JsonObject json = EntityConverter.convert(entity);
             Element id = entity.find(EntityConverter.ID_FIELD)
@@ -83,7 +96,7 @@ class DefaultCouchbaseDocumentManager implements CouchbaseDocumentManager {
     public CommunicationEntity insert(CommunicationEntity entity, Duration ttl) {
         requireNonNull(entity, "entity is required");
         requireNonNull(ttl, "ttl is required");
-        return waitBucketBeReadyAndGet(() -> {
+        return readiness.get(() -> {
             JsonObject json = EntityConverter.convert(entity);
             Element id = entity.find(EntityConverter.ID_FIELD)
                     .orElseThrow(() -> new CouchbaseNoKeyFoundException(entity.toString()));
@@ -96,8 +109,12 @@ class DefaultCouchbaseDocumentManager implements CouchbaseDocumentManager {
     @Override
     public Iterable<CommunicationEntity> insert(Iterable<CommunicationEntity> entities) {
         Objects.requireNonNull(entities, "entities is required");
-        return StreamSupport.stream(entities.spliterator(), false)
-                .map(this::insert).collect(Collectors.toList());
+        List<CommunicationEntity> inserted = StreamSupport.stream(entities.spliterator(), false)
+                .collect(Collectors.toList());
+        Map<String, List<CouchbaseBatch.Document>> documents = documents(inserted);
+        readiness.run(() -> documents.forEach((name, values) ->
+                batch.insert(bucket.collection(name), values, InsertOptions.insertOptions())));
+        return inserted;
     }
 
     @Override
@@ -111,7 +128,7 @@ class DefaultCouchbaseDocumentManager implements CouchbaseDocumentManager {
     @Override
     public CommunicationEntity update(CommunicationEntity entity) {
         requireNonNull(entity, "entity is required");
-        return waitBucketBeReadyAndGet(() -> {
+        return readiness.get(() -> {
             entity.add(EntityConverter.COLLECTION_FIELD, entity.name());
             JsonObject json = EntityConverter.convert(entity);
             Element id = entity.find(EntityConverter.ID_FIELD)
@@ -125,13 +142,34 @@ class DefaultCouchbaseDocumentManager implements CouchbaseDocumentManager {
     @Override
     public Iterable<CommunicationEntity> update(Iterable<CommunicationEntity> entities) {
         Objects.requireNonNull(entities, "entities is required");
-        return StreamSupport.stream(entities.spliterator(), false)
-                .map(this::update).collect(Collectors.toList());
+        List<CommunicationEntity> updated = StreamSupport.stream(entities.spliterator(), false)
+                .collect(Collectors.toList());
+        Map<String, List<CouchbaseBatch.Document>> documents = documents(updated);
+        readiness.run(() -> documents.forEach((name, values) ->
+                batch.upsert(bucket.collection(name), values, UpsertOptions.upsertOptions())));
+        return updated;
+    }
+
+    /**
+     * @return the documents of the entities grouped by collection, in the order of the entities
+     */
+    private static Map<String, List<CouchbaseBatch.Document>> documents(List<CommunicationEntity> entities) {
+        Map<String, List<CouchbaseBatch.Document>> documents = new LinkedHashMap<>();
+        for (CommunicationEntity entity : entities) {
+            requireNonNull(entity, "entity is required");
+            entity.add(EntityConverter.COLLECTION_FIELD, entity.name());
+            JsonObject json = EntityConverter.convert(entity);
+            Element id = entity.find(EntityConverter.ID_FIELD)
+                    .orElseThrow(() -> new CouchbaseNoKeyFoundException(entity.toString()));
+            documents.computeIfAbsent(entity.name(), name -> new ArrayList<>())
+                    .add(new CouchbaseBatch.Document(id.get(String.class), json));
+        }
+        return documents;
     }
 
     @Override
     public void delete(DeleteQuery query) {
-        waitBucketBeReadyAndDo(() -> {
+        readiness.run(() -> {
             Objects.requireNonNull(query, "query is required");
             Collection collection = bucket.collection(query.name());
             SelectQuery delete = DeleteQueryWrapper.of(query);
@@ -143,58 +181,42 @@ class DefaultCouchbaseDocumentManager implements CouchbaseDocumentManager {
         });
     }
 
-    private void waitBucketBeReadyAndDo(Runnable runnable) {
-        bucket.waitUntilReady(bucket.environment().timeoutConfig().kvDurableTimeout());
-        runnable.run();
-    }
-
-
-    private <T> T waitBucketBeReadyAndGet(Supplier<T> supplier) {
-        bucket.waitUntilReady(bucket.environment().timeoutConfig().kvDurableTimeout());
-        return supplier.get();
-    }
 
     @Override
     public Stream<CommunicationEntity> select(final SelectQuery query) throws NullPointerException {
         Objects.requireNonNull(query, "query is required");
-        return waitBucketBeReadyAndGet(() -> {
-            N1QLQuery n1QLQuery = N1QLBuilder.of(query, database, bucket.defaultScope().name()).get();
-            List<JsonObject> jsons = new ArrayList<>();
+        return readiness.get(() -> {
+            N1QLQuery n1QLQuery = N1QLBuilder.of(query, database, bucket.defaultScope().name(), n1qlCache).get();
+            Stream<CommunicationEntity> entities = Stream.empty();
             if (n1QLQuery.hasIds()) {
                 Collection collection = bucket.collection(query.name());
-                for (String id : n1QLQuery.ids()) {
-                    try {
-                        GetResult result = collection.get(id);
-                        jsons.add(result.contentAsObject());
-                    } catch (DocumentNotFoundException exp) {
-                        LOGGER.log(Level.FINEST, "The id was not found: " + id);
-                    }
-                }
+                List<JsonObject> jsons = batch.get(collection, n1QLQuery.ids()).stream()
+                        .flatMap(Optional::stream)
+                        .map(GetResult::contentAsObject)
+                        .toList();
+                entities = EntityConverter.convert(jsons, database);
             }
 
             if (!n1QLQuery.hasOnlyIds()) {
-                QueryResult result;
-                if (n1QLQuery.isParameterEmpty()) {
-                    result = cluster.query(n1QLQuery.query());
-                } else {
-                    result = cluster.query(n1QLQuery.query(), QueryOptions
-                            .queryOptions().parameters(n1QLQuery.params()));
+                QueryOptions options = queryOptions();
+                if (!n1QLQuery.isParameterEmpty()) {
+                    options.parameters(n1QLQuery.params());
                 }
-                jsons.addAll(result.rowsAsObject());
+                entities = Stream.concat(entities, stream(n1QLQuery.query(), options));
             }
-            return EntityConverter.convert(jsons, database);
+            return entities;
         });
     }
 
     @Override
     public long count(String documentCollection) {
         Objects.requireNonNull(documentCollection, "documentCollection is required");
-        return waitBucketBeReadyAndGet(() -> {
+        return readiness.get(() -> {
             SelectQuery countQuery = SelectQuery
                     .select("COUNT(*)").from(documentCollection).build();
             N1QLQuery n1QLQuery = N1QLBuilder
-                    .of(countQuery, database, bucket.defaultScope().name()).get();
-            QueryResult query = cluster.query(n1QLQuery.query());
+                    .of(countQuery, database, bucket.defaultScope().name(), n1qlCache).get();
+            QueryResult query = cluster.query(n1QLQuery.query(), queryOptions());
             List<JsonObject> result = query.rowsAsObject();
             var count = result.stream().findFirst()
                     .map(data -> data.getNumber("$1"))
@@ -207,23 +229,35 @@ class DefaultCouchbaseDocumentManager implements CouchbaseDocumentManager {
     public Stream<CommunicationEntity> n1qlQuery(final String n1ql, final JsonObject params) throws NullPointerException {
         requireNonNull(n1ql, "n1qlQuery is required");
         requireNonNull(params, "params is required");
-        return waitBucketBeReadyAndGet(() -> {
-            QueryResult query = cluster.query(n1ql, QueryOptions
-                    .queryOptions().parameters(params));
-            return EntityConverter.convert(query.rowsAsObject(), database);
-        });
+        return readiness.get(() -> stream(n1ql, queryOptions().parameters(params)));
     }
 
 
     @Override
     public Stream<CommunicationEntity> n1qlQuery(String n1ql) throws NullPointerException {
         requireNonNull(n1ql, "n1qlQuery is required");
-        return waitBucketBeReadyAndGet(() -> {
-            QueryResult query = cluster.query(n1ql);
-            return EntityConverter.convert(query.rowsAsObject(), database);
-        });
+        return readiness.get(() -> stream(n1ql, queryOptions()));
+    }
+
+
+    /**
+     * Streams the rows of the query from the reactive API, converting each one when it is read: the rows are
+     * requested in small batches, so the result is never held in memory, and closing the stream cancels the query.
+     * The errors are raised while the stream is read, after
+     * {@link CouchbaseBucketReadiness#get(java.util.function.Supplier)} returned, so they are reported to the
+     * readiness gate here.
+     */
+    private Stream<CommunicationEntity> stream(String n1ql, QueryOptions options) {
+        return cluster.reactive().query(n1ql, options)
+                .flatMapMany(ReactiveQueryResult::rowsAsObject)
+                .doOnError(readiness::failed)
+                .map(json -> EntityConverter.convert(json, database))
+                .toStream();
     }
 
+    private QueryOptions queryOptions() {
+        return QueryOptions.queryOptions().adhoc(adhoc);
+    }
 
     @Override
     public void close() {
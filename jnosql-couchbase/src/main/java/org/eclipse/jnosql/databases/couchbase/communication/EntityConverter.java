@@ -24,8 +24,6 @@ import org.eclipse.jnosql.communication.semistructured.Element;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
-import java.util.Map;
-import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Consumer;
 import java.util.stream.Stream;
@@ -46,37 +44,45 @@ final class EntityConverter {
 
 
     static Stream<CommunicationEntity> convert(List<JsonObject> result, String database) {
-        return
-                result.stream()
-                        .map(JsonObject::toMap)
-                        .filter(Objects::nonNull)
-                        .map(map -> {
-                            if (map.size() == 1) {
-                                Map.Entry<String, Object> entry = map.entrySet().stream().findFirst().get();
-                                if (entry.getValue() instanceof Map) {
-                                    List<Element> documents = toDocuments((Map<String, Object>) entry.getValue());
-                                    return CommunicationEntity.of(entry.getKey(), documents);
-                                }
-                            }
-                            List<Element> documents = toDocuments(map);
-                            Optional<Element> entityDocument = documents.stream().filter(d -> COLLECTION_FIELD.equals(d.name())).findFirst();
-                            String collection = entityDocument.map(d -> d.get(String.class)).orElse(database);
-                            return CommunicationEntity.of(collection, documents);
-                        });
+        return result.stream().map(json -> convert(json, database));
     }
 
-    private static List<Element> toDocuments(Map<String, Object> map) {
+    /**
+     * Converts a row, walking the {@link JsonObject} itself instead of the copy of {@link JsonObject#toMap()}.
+     *
+     * @param json     the row
+     * @param database the database, the name of the entity when the row has no {@link #COLLECTION_FIELD}
+     * @return the entity
+     */
+    static CommunicationEntity convert(JsonObject json, String database) {
+        if (json.size() == 1) {
+            String name = json.getNames().iterator().next();
+            if (json.get(name) instanceof JsonObject document) {
+                return CommunicationEntity.of(name, toDocuments(document));
+            }
+        }
+        List<Element> documents = toDocuments(json);
+        Optional<Element> entityDocument = documents.stream().filter(d -> COLLECTION_FIELD.equals(d.name())).findFirst();
+        String collection = entityDocument.map(d -> d.get(String.class)).orElse(database);
+        return CommunicationEntity.of(collection, documents);
+    }
+
+    private static List<Element> toDocuments(JsonObject json) {
         List<Element> documents = new ArrayList<>();
-        for (String key : map.keySet()) {
-            Object value = map.get(key);
-            if (Map.class.isInstance(value)) {
-                documents.add(Element.of(key, toDocuments(Map.class.cast(value))));
-            } else if (isADocumentIterable(value)) {
-                List<List<Element>> subDocuments = new ArrayList<>();
-                stream(Iterable.class.cast(value).spliterator(), false)
-                        .map(m -> toDocuments(Map.class.cast(m)))
-                        .forEach(e -> subDocuments.add((List<Element>) e));
-                documents.add(Element.of(key, subDocuments));
+        for (String key : json.getNames()) {
+            Object value = json.get(key);
+            if (value instanceof JsonObject document) {
+                documents.add(Element.of(key, toDocuments(document)));
+            } else if (value instanceof JsonArray array) {
+                if (isADocumentArray(array)) {
+                    List<List<Element>> subDocuments = new ArrayList<>(array.size());
+                    for (Object element : array) {
+                        subDocuments.add(toDocuments((JsonObject) element));
+                    }
+                    documents.add(Element.of(key, subDocuments));
+                } else {
+                    documents.add(Element.of(key, array.toList()));
+                }
             } else {
                 documents.add(Element.of(key, value));
             }
@@ -84,10 +90,13 @@ final class EntityConverter {
         return documents;
     }
 
-    private static boolean isADocumentIterable(Object value) {
-        return Iterable.class.isInstance(value) &&
-                stream(Iterable.class.cast(value).spliterator(), false)
-                        .allMatch(Map.class::isInstance);
+    private static boolean isADocumentArray(JsonArray array) {
+        for (Object element : array) {
+            if (!(element instanceof JsonObject)) {
+                return false;
+            }
+        }
+        return true;
     }
 
     static String getPrefix(String collection, String id) {
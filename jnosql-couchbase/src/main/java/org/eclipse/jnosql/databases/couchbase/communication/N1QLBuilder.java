@@ -23,36 +23,63 @@ import org.eclipse.jnosql.communication.semistructured.SelectQuery;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.ThreadLocalRandom;
 import java.util.function.Supplier;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
+/**
+ * Renders a {@link SelectQuery} to N1QL. The values are sent as named parameters, named after the field and the
+ * position of the parameter in the query, e.g. {@code $age_0}, so the same query shape always has the same text.
+ * When a {@link N1QLCache} is given, a shape is rendered once and the next queries of that shape only bind their
+ * values.
+ */
 final class N1QLBuilder implements Supplier<N1QLQuery> {
 
+    private static final Pattern NOT_IDENTIFIER = Pattern.compile("[^A-Za-z0-9_]");
+
     private final SelectQuery query;
 
     private final String database;
 
     private final String scope;
 
-    private N1QLBuilder(SelectQuery query, String database, String scope) {
+    private final N1QLCache cache;
+
+    private int parameters;
+
+    private N1QLBuilder(SelectQuery query, String database, String scope, N1QLCache cache) {
         this.query = query;
         this.database = database;
         this.scope = scope;
+        this.cache = cache;
     }
 
     @Override
     public N1QLQuery get() {
-        StringBuilder n1ql = new StringBuilder();
         JsonObject params = JsonObject.create();
         List<String> ids = new ArrayList<>();
+        if (cache == null) {
+            return N1QLQuery.of(render(params, ids), params, ids);
+        }
+        N1QLCache.Shape shape = shape();
+        String n1ql = cache.get(shape);
+        if (n1ql == null) {
+            n1ql = render(params, ids).toString();
+            cache.put(shape, n1ql);
+        } else {
+            parameters = 0;
+            query.condition().ifPresent(c -> condition(c, null, params, ids));
+        }
+        return new N1QLQuery(n1ql, params, ids);
+    }
+
+    private StringBuilder render(JsonObject params, List<String> ids) {
+        parameters = 0;
+        StringBuilder n1ql = new StringBuilder();
 
         n1ql.append("select ");
         n1ql.append(select()).append(' ');
-        n1ql.append("from ")
-                .append(database).append(".")
-                .append(scope).append(".")
-                .append(query.name());
+        n1ql.append("from ").append(keyspace());
 
         query.condition().ifPresent(c -> {
             n1ql.append(" WHERE ");
@@ -62,10 +89,7 @@ final class N1QLBuilder implements Supplier<N1QLQuery> {
 
         if (!query.sorts().isEmpty()) {
             n1ql.append(" ORDER BY ");
-            String order = query.sorts().stream()
-                    .map(s -> s.property() + " " + (s.isAscending() ? Direction.ASC : Direction.DESC))
-                    .collect(Collectors.joining(", "));
-            n1ql.append(order);
+            n1ql.append(String.join(", ", sorts()));
         }
 
         if (query.limit() > 0) {
@@ -76,10 +100,41 @@ final class N1QLBuilder implements Supplier<N1QLQuery> {
             n1ql.append(" OFFSET ").append(query.skip());
         }
 
-        return N1QLQuery.of(n1ql, params, ids);
+        return n1ql;
     }
 
+    private N1QLCache.Shape shape() {
+        StringBuilder condition = new StringBuilder();
+        query.condition().ifPresent(c -> shape(c, condition));
+        return new N1QLCache.Shape(keyspace(), query.columns(), condition.toString(), sorts(), query.limit(),
+                query.skip());
+    }
 
+    private void shape(CriteriaCondition condition, StringBuilder shape) {
+        Element document = condition.element();
+        shape.append(condition.condition()).append('(');
+        switch (condition.condition()) {
+            case NOT -> shape(document.get(CriteriaCondition.class), shape);
+            case AND, OR -> document.get(new TypeReference<List<CriteriaCondition>>() {
+            }).forEach(c -> shape(c, shape.append(' ')));
+            default -> shape.append(document.name());
+        }
+        shape.append(')');
+    }
+
+    private String keyspace() {
+        return database + "." + scope + "." + query.name();
+    }
+
+    private List<String> sorts() {
+        return query.sorts().stream()
+                .map(s -> s.property() + " " + (s.isAscending() ? Direction.ASC : Direction.DESC))
+                .toList();
+    }
+
+    /**
+     * Appends the N1QL of the condition, unless n1ql is null, and binds its values.
+     */
     private void condition(CriteriaCondition condition, StringBuilder n1ql, JsonObject params, List<String> ids) {
         Element document = condition.element();
         switch (condition.condition()) {
@@ -114,7 +169,9 @@ final class N1QLBuilder implements Supplier<N1QLQuery> {
                 predicate(n1ql, " LIKE ", document, params);
                 return;
             case NOT:
-                n1ql.append(" NOT ");
+                if (n1ql != null) {
+                    n1ql.append(" NOT ");
+                }
                 condition(document.get(CriteriaCondition.class), n1ql, params, ids);
                 return;
             case OR:
@@ -134,18 +191,17 @@ final class N1QLBuilder implements Supplier<N1QLQuery> {
     }
 
     private void predicateBetween(StringBuilder n1ql, JsonObject params, Element document) {
-        n1ql.append(" BETWEEN ");
-        ThreadLocalRandom random = ThreadLocalRandom.current();
-        String name = identifierOf(document.name());
-
         List<Object> values = new ArrayList<>();
         ((Iterable<?>) document.get()).forEach(values::add);
 
-        String param = "$".concat(document.name()).concat("_").concat(Integer.toString(random.nextInt(0, 100)));
-        String param2 = "$".concat(document.name()).concat("_").concat(Integer.toString(random.nextInt(0, 100)));
-        n1ql.append(name).append(" ").append(param).append(" AND ").append(param2);
+        String param = parameter(document);
+        String param2 = parameter(document);
         params.put(param, values.get(0));
         params.put(param2, values.get(1));
+        if (n1ql != null) {
+            n1ql.append(" BETWEEN ");
+            n1ql.append(identifierOf(document.name())).append(" ").append(param).append(" AND ").append(param2);
+        }
     }
 
     private void appendCondition(StringBuilder n1ql, JsonObject params,
@@ -153,8 +209,11 @@ final class N1QLBuilder implements Supplier<N1QLQuery> {
                                  String condition, List<String> ids) {
         int index = 0;
         for (CriteriaCondition documentCondition : conditions) {
-            StringBuilder query = new StringBuilder();
+            StringBuilder query = n1ql == null ? null : new StringBuilder();
             condition(documentCondition, query, params, ids);
+            if (n1ql == null) {
+                continue;
+            }
             if(index == 0){
                  n1ql.append(" ").append(query);
             } else if(!query.isEmpty()) {
@@ -168,12 +227,18 @@ final class N1QLBuilder implements Supplier<N1QLQuery> {
                            String condition,
                            Element document,
                            JsonObject params) {
-        ThreadLocalRandom random = ThreadLocalRandom.current();
-        String name = identifierOf(document.name());
-        Object value = document.get();
-        String param = "$".concat(document.name()).concat("_").concat(Integer.toString(random.nextInt(0, 100)));
-        n1ql.append(name).append(condition).append(param);
-        params.put(param, value);
+        String param = parameter(document);
+        params.put(param, document.get());
+        if (n1ql != null) {
+            n1ql.append(identifierOf(document.name())).append(condition).append(param);
+        }
+    }
+
+    /**
+     * @return the name of the next parameter, the same for the same field at the same position of the query
+     */
+    private String parameter(Element document) {
+        return "$" + NOT_IDENTIFIER.matcher(document.name()).replaceAll("_") + "_" + parameters++;
     }
 
     private String identifierOf(String name) {
@@ -190,6 +255,10 @@ final class N1QLBuilder implements Supplier<N1QLQuery> {
     }
 
     public static N1QLBuilder of(SelectQuery query, String database, String scope) {
-        return new N1QLBuilder(query, database, scope);
+        return new N1QLBuilder(query, database, scope, null);
+    }
+
+    public static N1QLBuilder of(SelectQuery query, String database, String scope, N1QLCache cache) {
+        return new N1QLBuilder(query, database, scope, cache);
     }
 }
@@ -0,0 +1,83 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.couchbase.communication;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * A bounded, least recently used, cache of the N1QL of the select queries keyed by their shape: the keyspace, the
+ * columns, the conditions without their values, the sorts, the limit and the skip. The values are always sent as
+ * parameters, so a shape is only rendered once, and its text stays the same between executions, which lets the query
+ * service reuse the plan of a prepared statement.
+ */
+final class N1QLCache {
+
+    static final int DEFAULT_SIZE = 512;
+
+    private final Map<Shape, String> queries;
+
+    N1QLCache(int size) {
+        if (size < 1) {
+            throw new IllegalArgumentException("The N1QL cache size must be greater than zero: " + size);
+        }
+        this.queries = new LinkedHashMap<>(16, 0.75F, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Shape, String> eldest) {
+                return size() > size;
+            }
+        };
+    }
+
+    /**
+     * @param shape the shape of the query
+     * @return the N1QL of the shape, null when it was not rendered yet
+     */
+    String get(Shape shape) {
+        Objects.requireNonNull(shape, "shape is required");
+        synchronized (queries) {
+            return queries.get(shape);
+        }
+    }
+
+    void put(Shape shape, String n1ql) {
+        Objects.requireNonNull(shape, "shape is required");
+        Objects.requireNonNull(n1ql, "n1ql is required");
+        synchronized (queries) {
+            queries.putIfAbsent(shape, n1ql);
+        }
+    }
+
+    int size() {
+        synchronized (queries) {
+            return queries.size();
+        }
+    }
+
+    /**
+     * The shape of a query, everything its N1QL depends on.
+     *
+     * @param keyspace  the bucket, the scope and the collection
+     * @param columns   the selected columns
+     * @param condition the conditions and their fields, without the values
+     * @param sorts     the sorts
+     * @param limit     the limit
+     * @param skip      the skip
+     */
+    record Shape(String keyspace, List<String> columns, String condition, List<String> sorts, long limit, long skip) {
+    }
+}
@@ -183,5 +183,19 @@ public class CouchbaseBucketManagerTest {
         assertEquals(0L, StreamSupport.stream(manager.get(keys).spliterator(), false).count());
     }
 
+    @Test
+    public void shouldGetMultiKeyInKeyOrderSkippingTheMissingOnes() {
+        manager.put(asList(soroEntity, entityOtavio));
+        List<String> keys = asList(KEY_SORO, "missing", KEY_OTAVIO);
+
+        Iterable<Value> values = manager.get(keys);
+
+        Assertions.assertThat(StreamSupport.stream(values.spliterator(), false)
+                .map(value -> value.get(User.class)).collect(Collectors.toList()))
+                .containsExactly(userSoro, userOtavio);
+        manager.delete(keys);
+        assertEquals(0L, StreamSupport.stream(manager.get(keys).spliterator(), false).count());
+    }
+
 
 }
\ No newline at end of file
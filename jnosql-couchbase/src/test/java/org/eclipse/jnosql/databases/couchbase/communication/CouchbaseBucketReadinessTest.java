@@ -0,0 +1,97 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.couchbase.communication;
+
+import com.couchbase.client.core.error.DocumentNotFoundException;
+import com.couchbase.client.core.error.UnambiguousTimeoutException;
+import com.couchbase.client.java.Bucket;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+public class CouchbaseBucketReadinessTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(1);
+
+    private Bucket bucket;
+
+    private CouchbaseBucketReadiness readiness;
+
+    @BeforeEach
+    public void setUp() {
+        bucket = Mockito.mock(Bucket.class);
+        readiness = new CouchbaseBucketReadiness(bucket, TIMEOUT);
+    }
+
+    @Test
+    public void shouldWaitForTheBucketOnce() {
+        readiness.await();
+        readiness.run(() -> {
+        });
+        assertEquals("value", readiness.get(() -> "value"));
+
+        assertTrue(readiness.isReady());
+        verify(bucket, times(1)).waitUntilReady(TIMEOUT);
+    }
+
+    @Test
+    public void shouldWaitAgainAfterAConnectivityProblem() {
+        readiness.await();
+
+        assertThrows(UnambiguousTimeoutException.class, () -> readiness.run(() -> {
+            throw new UnambiguousTimeoutException("timeout", null);
+        }));
+        assertFalse(readiness.isReady());
+
+        readiness.run(() -> {
+        });
+        verify(bucket, times(2)).waitUntilReady(TIMEOUT);
+    }
+
+    @Test
+    public void shouldWaitAgainAfterAReportedConnectivityProblem() {
+        readiness.await();
+
+        readiness.failed(new UnambiguousTimeoutException("timeout", null));
+        assertFalse(readiness.isReady());
+        readiness.failed(new DocumentNotFoundException(null));
+
+        readiness.run(() -> {
+        });
+        assertTrue(readiness.isReady());
+        verify(bucket, times(2)).waitUntilReady(TIMEOUT);
+    }
+
+    @Test
+    public void shouldKeepTheReadyStateOnOtherErrors() {
+        readiness.await();
+
+        assertThrows(DocumentNotFoundException.class, () -> readiness.run(() -> {
+            throw new DocumentNotFoundException(null);
+        }));
+
+        assertTrue(readiness.isReady());
+        verify(bucket, times(1)).waitUntilReady(TIMEOUT);
+    }
+}
@@ -255,6 +255,25 @@ public class CouchbaseDocumentManagerTest {
         );
     }
 
+    @Test
+   void shouldLimitTheN1QlStream() {
+        List<CommunicationEntity> entities = new ArrayList<>();
+        for (int index = 0; index < 5; index++) {
+            CommunicationEntity entity = getEntity();
+            entity.add(EntityConverter.ID_FIELD, "stream-" + index);
+            entities.add(entity);
+        }
+        entityManager.insert(entities);
+
+        await().until(() -> entityManager.n1qlQuery("select * from `jnosql`._default.person").count() >= 5);
+
+        try (var stream = entityManager.n1qlQuery("select * from `jnosql`._default.person")) {
+            List<CommunicationEntity> firsts = stream.limit(2).toList();
+            assertEquals(2, firsts.size());
+            assertThat(firsts).allMatch(e -> COLLECTION_PERSON_NAME.equals(e.name()));
+        }
+    }
+
     @Test
    void shouldCreateLimitOrderQuery(){
         CommunicationEntity entity = getEntity();
@@ -0,0 +1,83 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.couchbase.communication;
+
+import com.couchbase.client.java.Bucket;
+import com.couchbase.client.java.Cluster;
+import com.couchbase.client.java.ReactiveCluster;
+import com.couchbase.client.java.json.JsonObject;
+import com.couchbase.client.java.query.QueryOptions;
+import com.couchbase.client.java.query.ReactiveQueryResult;
+import org.eclipse.jnosql.communication.semistructured.CommunicationEntity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+public class DefaultCouchbaseDocumentManagerTest {
+
+    private static final String DATABASE = "jnosql";
+
+    private static final int ROWS = 10_000;
+
+    private final AtomicBoolean cancelled = new AtomicBoolean();
+
+    private final AtomicInteger emitted = new AtomicInteger();
+
+    private DefaultCouchbaseDocumentManager manager;
+
+    @BeforeEach
+    public void setUp() {
+        Bucket bucket = Mockito.mock(Bucket.class, Mockito.RETURNS_DEEP_STUBS);
+        when(bucket.environment().timeoutConfig().kvDurableTimeout()).thenReturn(Duration.ofSeconds(1));
+        ReactiveQueryResult result = Mockito.mock(ReactiveQueryResult.class);
+        when(result.rowsAsObject()).thenReturn(Flux.range(0, ROWS)
+                .map(index -> JsonObject.create().put("person", JsonObject.create().put("_id", "id-" + index)))
+                .doOnNext(row -> emitted.incrementAndGet())
+                .doOnCancel(() -> cancelled.set(true)));
+        ReactiveCluster reactive = Mockito.mock(ReactiveCluster.class);
+        when(reactive.query(anyString(), any(QueryOptions.class))).thenReturn(Mono.just(result));
+        Cluster cluster = Mockito.mock(Cluster.class);
+        when(cluster.bucket(DATABASE)).thenReturn(bucket);
+        when(cluster.reactive()).thenReturn(reactive);
+        manager = new DefaultCouchbaseDocumentManager(cluster, DATABASE, new CouchbaseBatch(1),
+                new N1QLCache(1), true);
+    }
+
+    @Test
+    public void shouldCancelTheN1QlQueryWhenTheStreamIsClosed() {
+        try (var stream = manager.n1qlQuery("select * from `jnosql`._default.person")) {
+            List<CommunicationEntity> firsts = stream.limit(2).toList();
+            assertEquals(2, firsts.size());
+            assertEquals("person", firsts.get(0).name());
+            assertFalse(cancelled.get());
+        }
+        assertTrue(cancelled.get());
+        assertTrue(emitted.get() < ROWS, "the rows are requested in batches, not all at once");
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.couchbase.communication;
+
+import org.eclipse.jnosql.communication.semistructured.SelectQuery;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.jnosql.communication.semistructured.SelectQuery.select;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class N1QLBuilderTest {
+
+    @Test
+    public void shouldNameTheParametersByFieldAndPosition() {
+        SelectQuery query = select().from("person").where("age").gt(10).and("age").lt(20).build();
+
+        N1QLQuery n1ql = N1QLBuilder.of(query, "jnosql", "_default").get();
+
+        assertEquals("select * from jnosql._default.person WHERE   age  > $age_0 AND  age  < $age_1", n1ql.query());
+        assertEquals(10, n1ql.params().get("$age_0"));
+        assertEquals(20, n1ql.params().get("$age_1"));
+    }
+
+    @Test
+    public void shouldRenderTheSameShapeToTheSameN1QL() {
+        SelectQuery query = select().from("person").where("name").eq("Ada").and("age").between(10, 20).build();
+        SelectQuery other = select().from("person").where("name").eq("Grace").and("age").between(30, 40).build();
+
+        assertEquals(N1QLBuilder.of(query, "jnosql", "_default").get().query(),
+                N1QLBuilder.of(other, "jnosql", "_default").get().query());
+    }
+
+    @Test
+    public void shouldRenderAShapeOnceWithTheCache() {
+        N1QLCache cache = new N1QLCache(N1QLCache.DEFAULT_SIZE);
+        SelectQuery query = select().from("person").where("name").eq("Ada").and("_id").eq("ada").build();
+        SelectQuery other = select().from("person").where("name").eq("Grace").and("_id").eq("grace").build();
+
+        N1QLQuery n1ql = N1QLBuilder.of(query, "jnosql", "_default", cache).get();
+        N1QLQuery cached = N1QLBuilder.of(other, "jnosql", "_default", cache).get();
+
+        assertEquals(1, cache.size());
+        assertEquals(n1ql.query(), cached.query());
+        assertEquals("Grace", cached.params().get("$name_0"));
+        assertThat(cached.ids()).containsExactly("grace");
+    }
+
+    @Test
+    public void shouldNotShareTheN1QLOfDifferentShapes() {
+        N1QLCache cache = new N1QLCache(N1QLCache.DEFAULT_SIZE);
+        SelectQuery query = select().from("person").where("name").eq("Ada").build();
+        SelectQuery other = select().from("person").where("name").like("Ada%").build();
+
+        N1QLQuery n1ql = N1QLBuilder.of(query, "jnosql", "_default", cache).get();
+        N1QLQuery like = N1QLBuilder.of(other, "jnosql", "_default", cache).get();
+
+        assertEquals(2, cache.size());
+        assertThat(like.query()).contains("LIKE").isNotEqualTo(n1ql.query());
+    }
+}
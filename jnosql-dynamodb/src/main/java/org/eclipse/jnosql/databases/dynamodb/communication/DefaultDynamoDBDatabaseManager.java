@@ -20,39 +20,38 @@ import org.eclipse.jnosql.communication.semistructured.CommunicationEntity;
 import org.eclipse.jnosql.communication.semistructured.DeleteQuery;
 import org.eclipse.jnosql.communication.semistructured.SelectQuery;
 import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
-import software.amazon.awssdk.services.dynamodb.model.AttributeDefinition;
 import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
 import software.amazon.awssdk.services.dynamodb.model.AttributeValueUpdate;
-import software.amazon.awssdk.services.dynamodb.model.CreateTableRequest;
-import software.amazon.awssdk.services.dynamodb.model.DeleteItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.DeleteRequest;
 import software.amazon.awssdk.services.dynamodb.model.DescribeTableRequest;
 import software.amazon.awssdk.services.dynamodb.model.DescribeTableResponse;
 import software.amazon.awssdk.services.dynamodb.model.DescribeTimeToLiveRequest;
 import software.amazon.awssdk.services.dynamodb.model.DescribeTimeToLiveResponse;
 import software.amazon.awssdk.services.dynamodb.model.ExecuteStatementRequest;
 import software.amazon.awssdk.services.dynamodb.model.ExecuteStatementResponse;
-import software.amazon.awssdk.services.dynamodb.model.KeySchemaElement;
-import software.amazon.awssdk.services.dynamodb.model.KeyType;
-import software.amazon.awssdk.services.dynamodb.model.ProvisionedThroughput;
 import software.amazon.awssdk.services.dynamodb.model.PutItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.PutRequest;
+import software.amazon.awssdk.services.dynamodb.model.QueryRequest;
 import software.amazon.awssdk.services.dynamodb.model.ResourceNotFoundException;
-import software.amazon.awssdk.services.dynamodb.model.ScalarAttributeType;
 import software.amazon.awssdk.services.dynamodb.model.ScanRequest;
 import software.amazon.awssdk.services.dynamodb.model.Select;
+import software.amazon.awssdk.services.dynamodb.model.TableDescription;
 import software.amazon.awssdk.services.dynamodb.model.TimeToLiveStatus;
 import software.amazon.awssdk.services.dynamodb.model.UpdateItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.WriteRequest;
 
 import java.time.Duration;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
-import java.util.Collection;
+import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.LinkedList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.function.Supplier;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Function;
+import java.util.logging.Logger;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
@@ -65,20 +64,48 @@ import static org.eclipse.jnosql.databases.dynamodb.communication.DynamoDBConver
 
 public class DefaultDynamoDBDatabaseManager implements DynamoDBDatabaseManager {
 
+    private static final Logger LOGGER = Logger.getLogger(DefaultDynamoDBDatabaseManager.class.getName());
+
     private final String database;
 
     private final Settings settings;
 
     private final DynamoDbClient dynamoDbClient;
 
-    private final ConcurrentHashMap<String, Supplier<String>> ttlAttributeNamesByTable = new ConcurrentHashMap<>();
+    private final DynamoDBTableMetadataCache tables;
+
+    private final DynamoDBBatchWriter batchWriter;
+
+    private final DynamoDBScanOptions scanOptions;
+
+    private final ExecutorService scanExecutor;
+
+    private final ExecutorService writeExecutor;
 
-    private final ConcurrentHashMap<String, DescribeTableResponse> tables = new ConcurrentHashMap<>();
+    private final boolean ownsExecutors;
 
     public DefaultDynamoDBDatabaseManager(String database, DynamoDbClient dynamoDbClient, Settings settings) {
+        this(database, dynamoDbClient, settings, DynamoDBParallelScan.newExecutor(), DynamoDBBatchWriter.newExecutor(),
+                true);
+    }
+
+    DefaultDynamoDBDatabaseManager(String database, DynamoDbClient dynamoDbClient, Settings settings,
+                                   ExecutorService scanExecutor, ExecutorService writeExecutor) {
+        this(database, dynamoDbClient, settings, scanExecutor, writeExecutor, false);
+    }
+
+    private DefaultDynamoDBDatabaseManager(String database, DynamoDbClient dynamoDbClient, Settings settings,
+                                           ExecutorService scanExecutor, ExecutorService writeExecutor,
+                                           boolean ownsExecutors) {
+        this.scanExecutor = scanExecutor;
+        this.writeExecutor = writeExecutor;
+        this.ownsExecutors = ownsExecutors;
         this.settings = settings;
         this.database = database;
         this.dynamoDbClient = dynamoDbClient;
+        this.batchWriter = DynamoDBBatchWriter.of(dynamoDbClient, settings, writeExecutor);
+        this.scanOptions = DynamoDBScanOptions.of(settings);
+        this.tables = DynamoDBTableMetadataCache.of(this::loadTableMetadata, settings);
     }
 
     private String resolveEntityNameAttributeName(String entityName) {
@@ -98,39 +125,64 @@ public class DefaultDynamoDBDatabaseManager implements DynamoDBDatabaseManager {
     public CommunicationEntity insert(CommunicationEntity documentEntity) {
         requireNonNull(documentEntity, "documentEntity is required");
         dynamoDbClient().putItem(PutItemRequest.builder()
-                .tableName(createTableIfNeeded(documentEntity.name()).table().tableName())
+                .tableName(createTableIfNeeded(documentEntity.name()).tableName())
                 .item(toItem(this::resolveEntityNameAttributeName, documentEntity))
                 .build());
         return documentEntity;
     }
 
-    private Supplier<String> getTTLAttributeName(String tableName) {
-        return this.ttlAttributeNamesByTable.computeIfAbsent(tableName, this::getTTLAttributeNameSupplier);
+    private String getTTLAttributeName(String tableName) {
+        return createTableIfNeeded(tableName)
+                .ttlAttribute()
+                .orElseGet(() -> tableName + " don't support TTL operations. Check if TTL support is enabled for this table.");
     }
 
-    private Supplier<String> getTTLAttributeNameSupplier(String tableName) {
-        createTableIfNeeded(tableName);
-        DescribeTimeToLiveResponse describeTimeToLiveResponse = dynamoDbClient().describeTimeToLive(DescribeTimeToLiveRequest.builder()
-                .tableName(tableName).build());
-        if (TimeToLiveStatus.ENABLED.equals(describeTimeToLiveResponse.timeToLiveDescription().timeToLiveStatus())) {
-            var ttlAttributeName = describeTimeToLiveResponse.timeToLiveDescription().attributeName();
-            return () -> ttlAttributeName;
-        }
-        return () -> tableName + " don't support TTL operations. Check if TTL support is enabled for this table.";
+    /**
+     * Drops the cached key schema, TTL attribute and indexes of the table, so they are described again on the next
+     * operation. Useful when the table was changed outside this manager.
+     *
+     * @param tableName the table name
+     * @throws NullPointerException when tableName is null
+     */
+    public void invalidateTableMetadata(String tableName) {
+        this.tables.invalidate(tableName);
     }
 
-    private DescribeTableResponse createTableIfNeeded(String tableName) {
-        return this.tables.computeIfAbsent(tableName, this::resolveTable);
+    /**
+     * Drops the cached metadata of every table.
+     */
+    public void invalidateTableMetadata() {
+        this.tables.invalidateAll();
     }
 
-    private DescribeTableResponse resolveTable(String tableName) {
+    private DynamoDBTableMetadata createTableIfNeeded(String tableName) {
+        return this.tables.get(tableName, this::resolveTable);
+    }
+
+    private DynamoDBTableMetadata resolveTable(String tableName) {
         try {
-            return getDescribeTableResponse(tableName);
+            return loadTableMetadata(tableName);
         } catch (ResourceNotFoundException ex) {
             if (!shouldCreateTables())
                 throw ex;
-            return createTable(tableName);
+            return DynamoDBTableMetadata.of(createTable(tableName).table(), null);
+        }
+    }
+
+    private DynamoDBTableMetadata loadTableMetadata(String tableName) {
+        TableDescription table = getDescribeTableResponse(tableName).table();
+        // the TTL attribute rarely changes: a refresh keeps the cached one, it is described again after an invalidation
+        var cached = this.tables.cached(tableName);
+        if (cached.isPresent()) {
+            return DynamoDBTableMetadata.of(table, cached.get().ttlAttributeName());
+        }
+        DescribeTimeToLiveResponse describeTimeToLiveResponse = dynamoDbClient().describeTimeToLive(DescribeTimeToLiveRequest.builder()
+                .tableName(tableName).build());
+        String ttlAttributeName = null;
+        if (TimeToLiveStatus.ENABLED.equals(describeTimeToLiveResponse.timeToLiveDescription().timeToLiveStatus())) {
+            ttlAttributeName = describeTimeToLiveResponse.timeToLiveDescription().attributeName();
         }
+        return DynamoDBTableMetadata.of(table, ttlAttributeName);
     }
 
     private DescribeTableResponse getDescribeTableResponse(String tableName) {
@@ -141,12 +193,7 @@ public class DefaultDynamoDBDatabaseManager implements DynamoDBDatabaseManager {
 
     private DescribeTableResponse createTable(String tableName) {
         try (var waiter = dynamoDbClient().waiter()) {
-            dynamoDbClient().createTable(CreateTableRequest.builder()
-                    .tableName(tableName)
-                    .keySchema(defaultKeySchemaFor())
-                    .attributeDefinitions(defaultAttributeDefinitionsFor())
-                    .provisionedThroughput(defaultProvisionedThroughputFor())
-                    .build());
+            dynamoDbClient().createTable(DynamoTableUtils.createEntityTableRequest(tableName, getEntityAttributeName()));
 
             var tableRequest = DescribeTableRequest.builder().tableName(tableName).build();
             var waiterResponse = waiter.waitUntilTableExists(tableRequest);
@@ -154,24 +201,6 @@ public class DefaultDynamoDBDatabaseManager implements DynamoDBDatabaseManager {
         }
     }
 
-    private ProvisionedThroughput defaultProvisionedThroughputFor() {
-        return DynamoTableUtils.createProvisionedThroughput(null, null);
-    }
-
-    private Collection<AttributeDefinition> defaultAttributeDefinitionsFor() {
-        return List.of(
-                AttributeDefinition.builder().attributeName(getEntityAttributeName()).attributeType(ScalarAttributeType.S).build(),
-                AttributeDefinition.builder().attributeName(DynamoDBConverter.ID).attributeType(ScalarAttributeType.S).build()
-        );
-    }
-
-    private Collection<KeySchemaElement> defaultKeySchemaFor() {
-        return List.of(
-                KeySchemaElement.builder().attributeName(getEntityAttributeName()).keyType(KeyType.HASH).build(),
-                KeySchemaElement.builder().attributeName(DynamoDBConverter.ID).keyType(KeyType.RANGE).build()
-        );
-    }
-
     private boolean shouldCreateTables() {
         return this.settings
                 .get(DynamoDBConfigurations.CREATE_TABLES, Boolean.class)
@@ -186,25 +215,41 @@ public class DefaultDynamoDBDatabaseManager implements DynamoDBDatabaseManager {
     public CommunicationEntity insert(CommunicationEntity documentEntity, Duration ttl) {
         requireNonNull(documentEntity, "documentEntity is required");
         requireNonNull(ttl, "ttl is required");
-        documentEntity.add(getTTLAttributeName(documentEntity.name()).get(), Instant.now().plus(ttl).truncatedTo(ChronoUnit.SECONDS));
-        return insert(documentEntity);
+        return insert(withTTL(documentEntity, ttl));
+    }
+
+    private CommunicationEntity withTTL(CommunicationEntity documentEntity, Duration ttl) {
+        documentEntity.add(getTTLAttributeName(documentEntity.name()), Instant.now().plus(ttl).truncatedTo(ChronoUnit.SECONDS));
+        return documentEntity;
     }
 
     @Override
     public Iterable<CommunicationEntity> insert(Iterable<CommunicationEntity> entities) {
         requireNonNull(entities, "entities are required");
-        return StreamSupport.stream(entities.spliterator(), false)
-                .map(this::insert)
-                .toList();
+        List<CommunicationEntity> result = new ArrayList<>();
+        Map<String, Map<Map<String, AttributeValue>, WriteRequest>> requestsByTable = new LinkedHashMap<>();
+        for (CommunicationEntity entity : entities) {
+            requireNonNull(entity, "entity is required");
+            var table = createTableIfNeeded(entity.name());
+            var item = toItem(this::resolveEntityNameAttributeName, entity);
+            // BatchWriteItem rejects a chunk with the same key twice, the last one wins as with putItem
+            requestsByTable.computeIfAbsent(table.tableName(), k -> new LinkedHashMap<>())
+                    .put(table.keyOf(item), WriteRequest.builder()
+                            .putRequest(PutRequest.builder().item(item).build())
+                            .build());
+            result.add(entity);
+        }
+        requestsByTable.forEach((tableName, requests) -> batchWriter.write(tableName, requests.values()));
+        return result;
     }
 
     @Override
     public Iterable<CommunicationEntity> insert(Iterable<CommunicationEntity> entities, Duration ttl) {
         requireNonNull(entities, "entities is required");
         requireNonNull(ttl, "ttl is required");
-        return StreamSupport.stream(entities.spliterator(), false)
-                .map(e -> this.insert(e, ttl))
-                .toList();
+        return insert(StreamSupport.stream(entities.spliterator(), false)
+                .map(e -> withTTL(requireNonNull(e, "entity is required"), ttl))
+                .toList());
     }
 
     @Override
@@ -214,7 +259,7 @@ public class DefaultDynamoDBDatabaseManager implements DynamoDBDatabaseManager {
         Map<String, AttributeValueUpdate> attributeUpdates = asItemToUpdate(documentEntity);
         itemKey.keySet().forEach(attributeUpdates::remove);
         dynamoDbClient().updateItem(UpdateItemRequest.builder()
-                .tableName(createTableIfNeeded(documentEntity.name()).table().tableName())
+                .tableName(createTableIfNeeded(documentEntity.name()).tableName())
                 .key(itemKey)
                 .attributeUpdates(attributeUpdates)
                 .build());
@@ -222,17 +267,11 @@ public class DefaultDynamoDBDatabaseManager implements DynamoDBDatabaseManager {
     }
 
     private Map<String, AttributeValue> getItemKey(CommunicationEntity documentEntity) {
-        DescribeTableResponse describeTableResponse = this.tables.computeIfAbsent(documentEntity.name(), this::getDescribeTableResponse);
-        Map<String, AttributeValue> itemKey = describeTableResponse
-                .table()
-                .keySchema()
-                .stream()
-                .map(attribute -> Map.of(attribute.attributeName(),
-                        toAttributeValue(documentEntity.find(attribute.attributeName(), Object.class).orElse(null))))
-                .reduce(new HashMap<>(), (a, b) -> {
-                    a.putAll(b);
-                    return a;
-                });
+        List<String> keyAttributes = this.tables.get(documentEntity.name()).keyAttributes();
+        Map<String, AttributeValue> itemKey = new HashMap<>(keyAttributes.size() * 2 + 2);
+        for (String attribute : keyAttributes) {
+            itemKey.put(attribute, toAttributeValue(documentEntity.find(attribute, Object.class).orElse(null)));
+        }
         itemKey.put(getEntityAttributeName(), toAttributeValue(documentEntity.name()));
         return itemKey;
     }
@@ -253,34 +292,82 @@ public class DefaultDynamoDBDatabaseManager implements DynamoDBDatabaseManager {
     public void delete(DeleteQuery deleteQuery) {
         Objects.requireNonNull(deleteQuery, "deleteQuery is required");
 
-        List<String> primaryKeys = getDescribeTableResponse(deleteQuery.name())
-                .table()
-                .keySchema()
-                .stream()
-                .map(KeySchemaElement::attributeName).toList();
-
+        DynamoDBTableMetadata table = this.tables.get(deleteQuery.name());
 
         var selectQueryBuilder = SelectQuery.builder()
-                .select(primaryKeys.toArray(new String[0]))
+                .select(table.keyAttributes().toArray(new String[0]))
                 .from(deleteQuery.name());
 
         deleteQuery.condition().ifPresent(selectQueryBuilder::where);
 
-        select(selectQueryBuilder.build()).forEach(
-                documentEntity ->
-                        dynamoDbClient().deleteItem(DeleteItemRequest.builder()
-                                .tableName(deleteQuery.name())
-                                .key(getItemKey(documentEntity))
-                                .build()));
+        // the projected items already are the keys, no need to convert them to entities and back
+        try (Stream<Map<String, AttributeValue>> items = items(selectQueryBuilder.build(), table, scanOptions)) {
+            batchWriter.write(table.tableName(), items
+                    .map(item -> WriteRequest.builder()
+                            .deleteRequest(DeleteRequest.builder().key(table.keyOf(item)).build())
+                            .build())
+                    .iterator());
+        }
     }
 
     @Override
     public Stream<CommunicationEntity> select(SelectQuery query) {
+        return select(query, scanOptions);
+    }
+
+    @Override
+    public Stream<CommunicationEntity> select(SelectQuery query, DynamoDBScanOptions options) {
         Objects.requireNonNull(query, "query is required");
+        Objects.requireNonNull(options, "options is required");
+        DynamoDBTableMetadata table = this.tables.get(query.name());
         DynamoDBQuery dynamoDBQuery = DynamoDBQuery
-                .builderOf(query.name(), getEntityAttributeName(), query)
+                .builderOf(query.name(), getEntityAttributeName(), query, table.keySchema(), table.indexes())
                 .get();
 
+        Stream<CommunicationEntity> entities = items(dynamoDBQuery, options)
+                .map(item -> toCommunicationEntity(this::resolveEntityNameAttributeName, item));
+        if (!query.sorts().isEmpty() && !dynamoDBQuery.isSortedByKey()) {
+            entities = entities.sorted(DynamoDBSorts.comparator(query.sorts()));
+        }
+        if (query.skip() > 0) {
+            entities = entities.skip(query.skip());
+        }
+        if (query.limit() > 0) {
+            entities = entities.limit(query.limit());
+        }
+        return entities;
+    }
+
+    private Stream<Map<String, AttributeValue>> items(SelectQuery query, DynamoDBTableMetadata table, DynamoDBScanOptions options) {
+        return items(DynamoDBQuery.builderOf(query.name(), getEntityAttributeName(), query, table.keySchema(),
+                table.indexes()).get(), options);
+    }
+
+    private Stream<Map<String, AttributeValue>> items(DynamoDBQuery dynamoDBQuery, DynamoDBScanOptions options) {
+        LOGGER.fine(dynamoDBQuery::plan);
+        return dynamoDBQuery.isQuery() ? query(dynamoDBQuery) : scan(dynamoDBQuery, options);
+    }
+
+    private Stream<Map<String, AttributeValue>> query(DynamoDBQuery dynamoDBQuery) {
+        QueryRequest.Builder queryRequest = QueryRequest.builder()
+                .consistentRead(dynamoDBQuery.consistentRead())
+                .tableName(dynamoDBQuery.table())
+                .indexName(dynamoDBQuery.indexName())
+                .projectionExpression(dynamoDBQuery.projectionExpression())
+                .keyConditionExpression(dynamoDBQuery.keyConditionExpression())
+                .scanIndexForward(dynamoDBQuery.scanIndexForward())
+                .limit(dynamoDBQuery.limit())
+                .filterExpression(dynamoDBQuery.filterExpression())
+                .expressionAttributeNames(dynamoDBQuery.expressionAttributeNames())
+                .expressionAttributeValues(dynamoDBQuery.expressionAttributeValues())
+                .select(dynamoDBQuery.projectionExpression() != null ? Select.SPECIFIC_ATTRIBUTES : Select.ALL_ATTRIBUTES);
+
+        return StreamSupport
+                .stream(dynamoDbClient().queryPaginator(queryRequest.build()).spliterator(), false)
+                .flatMap(queryResponse -> queryResponse.items().stream());
+    }
+
+    private Stream<Map<String, AttributeValue>> scan(DynamoDBQuery dynamoDBQuery, DynamoDBScanOptions options) {
         ScanRequest.Builder selectRequest = ScanRequest.builder()
                 .consistentRead(true)
                 .tableName(dynamoDBQuery.table())
@@ -290,10 +377,13 @@ public class DefaultDynamoDBDatabaseManager implements DynamoDBDatabaseManager {
                 .expressionAttributeValues(dynamoDBQuery.expressionAttributeValues())
                 .select(dynamoDBQuery.projectionExpression() != null ? Select.SPECIFIC_ATTRIBUTES : Select.ALL_ATTRIBUTES);
 
+        if (options.isParallel()) {
+            return new DynamoDBParallelScan(dynamoDbClient(), selectRequest.build(), options, scanExecutor).items();
+        }
+
         return StreamSupport
                 .stream(dynamoDbClient().scanPaginator(selectRequest.build()).spliterator(), false)
-                .flatMap(scanResponse -> scanResponse.items().stream()
-                        .map(item -> toCommunicationEntity(this::resolveEntityNameAttributeName, item)));
+                .flatMap(scanResponse -> scanResponse.items().stream());
     }
 
     @Override
@@ -310,6 +400,10 @@ public class DefaultDynamoDBDatabaseManager implements DynamoDBDatabaseManager {
 
     @Override
     public void close() {
+        if (ownsExecutors) {
+            this.scanExecutor.shutdownNow();
+            this.writeExecutor.shutdownNow();
+        }
         this.dynamoDbClient.close();
     }
 
@@ -317,22 +411,15 @@ public class DefaultDynamoDBDatabaseManager implements DynamoDBDatabaseManager {
     public Stream<CommunicationEntity> partiQL(String query, Object... params) {
         Objects.requireNonNull(query, "query is required");
         List<AttributeValue> parameters = Stream.of(params).map(DynamoDBConverter::toAttributeValue).toList();
-        ExecuteStatementResponse executeStatementResponse = dynamoDbClient()
+        Function<String, ExecuteStatementResponse> executeStatement = nextToken -> dynamoDbClient()
                 .executeStatement(ExecuteStatementRequest.builder()
                         .statement(query)
                         .parameters(parameters)
+                        .nextToken(nextToken)
                         .build());
-        List<CommunicationEntity> result = new LinkedList<>();
-        executeStatementResponse.items().forEach(item -> result.add(toCommunicationEntity(this::resolveEntityNameAttributeName, item)));
-        while (executeStatementResponse.nextToken() != null) {
-            executeStatementResponse = dynamoDbClient()
-                    .executeStatement(ExecuteStatementRequest.builder()
-                            .statement(query)
-                            .parameters(parameters)
-                            .nextToken(executeStatementResponse.nextToken())
-                            .build());
-            executeStatementResponse.items().forEach(item -> result.add(toCommunicationEntity(this::resolveEntityNameAttributeName, item)));
-        }
-        return result.stream();
+        return Stream.iterate(executeStatement.apply(null), Objects::nonNull,
+                        response -> response.nextToken() == null ? null : executeStatement.apply(response.nextToken()))
+                .flatMap(response -> response.items().stream())
+                .map(item -> toCommunicationEntity(this::resolveEntityNameAttributeName, item));
     }
 }
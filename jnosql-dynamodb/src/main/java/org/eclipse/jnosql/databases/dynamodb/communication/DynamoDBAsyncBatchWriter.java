@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ *
+ * Contributors:
+ *
+ * Maximillian Arruda
+ */
+
+package org.eclipse.jnosql.databases.dynamodb.communication;
+
+import org.eclipse.jnosql.communication.CommunicationException;
+import org.eclipse.jnosql.communication.Settings;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.core.async.SdkPublisher;
+import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.WriteRequest;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * The {@link DynamoDbAsyncClient} counterpart of {@link DynamoDBBatchWriter}: the chunks are sent on
+ * {@code concurrency} lanes, each lane sends its next chunk when the previous one was fully processed, so no thread
+ * is blocked while the requests are in flight.
+ */
+final class DynamoDBAsyncBatchWriter {
+
+    private final DynamoDbAsyncClient client;
+
+    private final int concurrency;
+
+    private final int maxRetries;
+
+    DynamoDBAsyncBatchWriter(DynamoDbAsyncClient client, int concurrency, int maxRetries) {
+        this.client = Objects.requireNonNull(client, "client is required");
+        if (concurrency < 1) {
+            throw new IllegalArgumentException("The batch write concurrency must be greater than zero: " + concurrency);
+        }
+        if (maxRetries < 0) {
+            throw new IllegalArgumentException("The batch write max retries must be greater or equals than zero: " + maxRetries);
+        }
+        this.concurrency = concurrency;
+        this.maxRetries = maxRetries;
+    }
+
+    static DynamoDBAsyncBatchWriter of(DynamoDbAsyncClient client, Settings settings) {
+        int concurrency = settings.get(DynamoDBConfigurations.BATCH_WRITE_CONCURRENCY, Integer.class)
+                .orElse(DynamoDBBatchWriter.DEFAULT_CONCURRENCY);
+        int maxRetries = settings.get(DynamoDBConfigurations.BATCH_WRITE_MAX_RETRIES, Integer.class)
+                .orElse(DynamoDBBatchWriter.DEFAULT_MAX_RETRIES);
+        return new DynamoDBAsyncBatchWriter(client, concurrency, maxRetries);
+    }
+
+    /**
+     * Writes all the requests into the table.
+     *
+     * @param tableName the table name
+     * @param requests  the put or delete requests
+     * @return a future completed when every chunk was fully processed, or completed exceptionally with a
+     * {@link CommunicationException} when a chunk still has unprocessed items after the retries
+     */
+    CompletableFuture<Void> write(String tableName, Iterable<WriteRequest> requests) {
+        Objects.requireNonNull(tableName, "tableName is required");
+        Objects.requireNonNull(requests, "requests is required");
+        Iterator<WriteRequest> iterator = requests.iterator();
+        return CompletableFuture.allOf(IntStream.range(0, concurrency)
+                .mapToObj(lane -> lane(tableName, iterator))
+                .toArray(CompletableFuture[]::new));
+    }
+
+    /**
+     * Writes the requests as they are published: they are grouped in chunks of {@code concurrency} batches, and the
+     * next chunk is only requested once the previous one was written, so the requests are never all held in memory.
+     *
+     * @param tableName the table name
+     * @param requests  the put or delete requests
+     * @return a future completed when every request was written, or completed exceptionally when either the
+     * publisher or a chunk failed
+     */
+    CompletableFuture<Void> write(String tableName, SdkPublisher<WriteRequest> requests) {
+        Objects.requireNonNull(tableName, "tableName is required");
+        Objects.requireNonNull(requests, "requests is required");
+        CompletableFuture<Void> written = new CompletableFuture<>();
+        requests.buffer(DynamoDBBatchWriter.MAX_BATCH_SIZE * concurrency).subscribe(new Subscriber<>() {
+
+            private Subscription subscription;
+
+            private CompletableFuture<Void> inFlight = CompletableFuture.completedFuture(null);
+
+            @Override
+            public void onSubscribe(Subscription subscription) {
+                this.subscription = subscription;
+                subscription.request(1);
+            }
+
+            @Override
+            public void onNext(List<WriteRequest> chunk) {
+                inFlight = write(tableName, chunk).whenComplete((ignored, error) -> {
+                    if (error != null) {
+                        subscription.cancel();
+                        written.completeExceptionally(error);
+                    } else {
+                        subscription.request(1);
+                    }
+                });
+            }
+
+            @Override
+            public void onError(Throwable error) {
+                written.completeExceptionally(error);
+            }
+
+            @Override
+            public void onComplete() {
+                // the last chunk is published along with the completion, it may still be in flight
+                inFlight.whenComplete((ignored, error) -> {
+                    if (error == null) {
+                        written.complete(null);
+                    }
+                });
+            }
+        });
+        return written;
+    }
+
+    private CompletableFuture<Void> lane(String tableName, Iterator<WriteRequest> requests) {
+        List<WriteRequest> chunk;
+        synchronized (requests) {
+            if (!requests.hasNext()) {
+                return CompletableFuture.completedFuture(null);
+            }
+            chunk = DynamoDBBatchWriter.nextChunk(requests);
+        }
+        return writeChunk(tableName, Map.of(tableName, chunk), 0)
+                .thenCompose(ignored -> lane(tableName, requests));
+    }
+
+    private CompletableFuture<Void> writeChunk(String tableName, Map<String, List<WriteRequest>> items, int attempt) {
+        return client.batchWriteItem(BatchWriteItemRequest.builder().requestItems(items).build())
+                .thenCompose(response -> {
+                    if (!response.hasUnprocessedItems() || response.unprocessedItems().isEmpty()) {
+                        return CompletableFuture.completedFuture(null);
+                    }
+                    var unprocessed = response.unprocessedItems();
+                    if (attempt >= maxRetries) {
+                        int size = unprocessed.values().stream().mapToInt(List::size).sum();
+                        return CompletableFuture.failedFuture(new CommunicationException("BatchWriteItem on the table "
+                                + tableName + " left " + size + " unprocessed items after " + maxRetries + " retries"));
+                    }
+                    var delayed = CompletableFuture.delayedExecutor(DynamoDBBatchWriter.backoffMillis(attempt),
+                            TimeUnit.MILLISECONDS);
+                    return CompletableFuture.runAsync(() -> {
+                    }, delayed).thenCompose(ignored -> writeChunk(tableName, unprocessed, attempt + 1));
+                });
+    }
+}
@@ -0,0 +1,175 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ *
+ * Contributors:
+ *
+ * Maximillian Arruda
+ */
+
+package org.eclipse.jnosql.databases.dynamodb.communication;
+
+import org.eclipse.jnosql.communication.Value;
+import org.eclipse.jnosql.communication.driver.ValueJSON;
+import org.eclipse.jnosql.communication.keyvalue.KeyValueEntity;
+import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.DeleteItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.PutItemRequest;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * The non-blocking counterpart of {@link DynamoDBBucketManager} on top of the {@link DynamoDbAsyncClient}.
+ * <p>The {@link DynamoDbAsyncClient} belongs to the {@link DynamoDBBucketManagerFactory} that created this manager,
+ * so {@link #close()} does not close it.</p>
+ */
+public class DynamoDBAsyncBucketManager implements AutoCloseable {
+
+    private final DynamoDbAsyncClient client;
+
+    private final String tableName;
+
+    private final DynamoDBAsyncBatchWriter batchWriter;
+
+    DynamoDBAsyncBucketManager(DynamoDbAsyncClient client, String tableName, DynamoDBAsyncBatchWriter batchWriter) {
+        this.client = client;
+        this.tableName = tableName;
+        this.batchWriter = batchWriter;
+    }
+
+    /**
+     * @return the bucket name
+     */
+    public String name() {
+        return tableName;
+    }
+
+    /**
+     * Associates the value with the key
+     *
+     * @param key   the key
+     * @param value the value
+     * @param <K>   the key type
+     * @param <V>   the value type
+     * @return a future completed when the item was written
+     * @throws NullPointerException when either key or value are null
+     */
+    public <K, V> CompletableFuture<Void> put(K key, V value) {
+        Objects.requireNonNull(key, "key is required");
+        Objects.requireNonNull(value, "value is required");
+        return client.putItem(PutItemRequest.builder()
+                        .tableName(tableName)
+                        .item(DynamoDBUtils.createAttributeValues(key, value))
+                        .build())
+                .thenApply(response -> null);
+    }
+
+    /**
+     * Saves the {@link KeyValueEntity}
+     *
+     * @param entity the entity to be put
+     * @return a future completed when the item was written
+     * @throws NullPointerException when entity is null
+     */
+    public CompletableFuture<Void> put(KeyValueEntity entity) {
+        Objects.requireNonNull(entity, "entity is required");
+        return put(entity.key(), entity.value());
+    }
+
+    /**
+     * Saves the {@link KeyValueEntity} instances through BatchWriteItem requests
+     *
+     * @param entities the entities to be put
+     * @return a future completed when the items were written
+     * @throws NullPointerException when entities is null
+     */
+    public CompletableFuture<Void> put(Iterable<KeyValueEntity> entities) {
+        Objects.requireNonNull(entities, "entities is required");
+        return batchWriter.write(tableName, DynamoDBUtils.createPutWriteRequests(entities));
+    }
+
+    /**
+     * Finds the value associated with the key
+     *
+     * @param key the key
+     * @param <K> the key type
+     * @return a future with the value, empty when it is not found
+     * @throws NullPointerException when key is null
+     */
+    public <K> CompletableFuture<Optional<Value>> get(K key) {
+        Objects.requireNonNull(key, "key is required");
+        if (key.toString().isEmpty()) {
+            return CompletableFuture.failedFuture(new IllegalArgumentException("The Key is irregular"));
+        }
+        return client.getItem(DynamoDBUtils.createGetItemRequest(key, tableName))
+                .thenApply(response -> Optional.ofNullable(response.item().get(ConfigurationAmazonEntity.VALUE))
+                        .map(AttributeValue::s)
+                        .map(ValueJSON::of));
+    }
+
+    /**
+     * Finds the values associated with the keys
+     *
+     * @param keys the keys
+     * @param <K>  the key type
+     * @return a future with the values found
+     * @throws NullPointerException when keys is null
+     */
+    public <K> CompletableFuture<List<Value>> get(Iterable<K> keys) {
+        Objects.requireNonNull(keys, "keys is required");
+        return client.batchGetItem(DynamoDBUtils.createBatchGetItemRequest(keys, tableName))
+                .thenApply(response -> response.responses()
+                        .values()
+                        .stream()
+                        .flatMap(Collection::stream)
+                        .map(item -> item.get(ConfigurationAmazonEntity.VALUE))
+                        .map(AttributeValue::s)
+                        .<Value>map(ValueJSON::of)
+                        .toList());
+    }
+
+    /**
+     * Removes the value associated with the key
+     *
+     * @param key the key
+     * @param <K> the key type
+     * @return a future completed when the item was removed
+     * @throws NullPointerException when key is null
+     */
+    public <K> CompletableFuture<Void> delete(K key) {
+        Objects.requireNonNull(key, "key is required");
+        return client.deleteItem(DeleteItemRequest.builder()
+                        .tableName(tableName)
+                        .key(DynamoDBUtils.createKeyAttributeValues(key))
+                        .build())
+                .thenApply(response -> null);
+    }
+
+    /**
+     * Removes the values associated with the keys through BatchWriteItem requests
+     *
+     * @param keys the keys
+     * @param <K>  the key type
+     * @return a future completed when the items were removed
+     * @throws NullPointerException when keys is null
+     */
+    public <K> CompletableFuture<Void> delete(Iterable<K> keys) {
+        Objects.requireNonNull(keys, "keys is required");
+        return batchWriter.write(tableName, DynamoDBUtils.createDeleteWriteRequests(keys));
+    }
+
+    @Override
+    public void close() {
+    }
+}
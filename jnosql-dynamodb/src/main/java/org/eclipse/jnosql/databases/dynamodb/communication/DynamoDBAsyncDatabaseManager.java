@@ -0,0 +1,465 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ *
+ * Contributors:
+ *
+ * Maximillian Arruda
+ */
+
+package org.eclipse.jnosql.databases.dynamodb.communication;
+
+import org.eclipse.jnosql.communication.Settings;
+import org.eclipse.jnosql.communication.semistructured.CommunicationEntity;
+import org.eclipse.jnosql.communication.semistructured.DeleteQuery;
+import org.eclipse.jnosql.communication.semistructured.SelectQuery;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.core.async.SdkPublisher;
+import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValueUpdate;
+import software.amazon.awssdk.services.dynamodb.model.DeleteRequest;
+import software.amazon.awssdk.services.dynamodb.model.DescribeTableRequest;
+import software.amazon.awssdk.services.dynamodb.model.DescribeTableResponse;
+import software.amazon.awssdk.services.dynamodb.model.DescribeTimeToLiveRequest;
+import software.amazon.awssdk.services.dynamodb.model.PutItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.PutRequest;
+import software.amazon.awssdk.services.dynamodb.model.QueryRequest;
+import software.amazon.awssdk.services.dynamodb.model.ResourceNotFoundException;
+import software.amazon.awssdk.services.dynamodb.model.ScanRequest;
+import software.amazon.awssdk.services.dynamodb.model.Select;
+import software.amazon.awssdk.services.dynamodb.model.TimeToLiveStatus;
+import software.amazon.awssdk.services.dynamodb.model.UpdateItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.WriteRequest;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.StreamSupport;
+
+import static java.util.Objects.requireNonNull;
+import static org.eclipse.jnosql.databases.dynamodb.communication.DynamoDBConverter.entityAttributeName;
+import static org.eclipse.jnosql.databases.dynamodb.communication.DynamoDBConverter.toAttributeValue;
+import static org.eclipse.jnosql.databases.dynamodb.communication.DynamoDBConverter.toCommunicationEntity;
+import static org.eclipse.jnosql.databases.dynamodb.communication.DynamoDBConverter.toItem;
+import static org.eclipse.jnosql.databases.dynamodb.communication.DynamoDBConverter.toItemUpdate;
+
+/**
+ * The non-blocking counterpart of {@link DefaultDynamoDBDatabaseManager} on top of the {@link DynamoDbAsyncClient}:
+ * the write operations return a {@link CompletableFuture} and the queries a {@link Publisher} backed by the
+ * Scan and Query paginators. It follows the same single table strategy and the same settings.
+ * <p>The {@link DynamoDbAsyncClient} belongs to the {@link DynamoDBDatabaseManagerFactory} that created this manager,
+ * so {@link #close()} does not close it.</p>
+ */
+public class DynamoDBAsyncDatabaseManager implements AutoCloseable {
+
+    private final String database;
+
+    private final Settings settings;
+
+    private final DynamoDbAsyncClient dynamoDbAsyncClient;
+
+    private final DynamoDBAsyncBatchWriter batchWriter;
+
+    private final DynamoDBAsyncTableMetadataCache tables;
+
+    public DynamoDBAsyncDatabaseManager(String database, DynamoDbAsyncClient dynamoDbAsyncClient, Settings settings) {
+        this.database = requireNonNull(database, "database is required");
+        this.dynamoDbAsyncClient = requireNonNull(dynamoDbAsyncClient, "dynamoDbAsyncClient is required");
+        this.settings = requireNonNull(settings, "settings is required");
+        this.batchWriter = DynamoDBAsyncBatchWriter.of(dynamoDbAsyncClient, settings);
+        this.tables = DynamoDBAsyncTableMetadataCache.of(this::loadTableMetadata, settings);
+    }
+
+    /**
+     * @return the database name
+     */
+    public String name() {
+        return database;
+    }
+
+    /**
+     * @return a {@link DynamoDbAsyncClient} instance for custom utilization
+     */
+    public DynamoDbAsyncClient dynamoDbAsyncClient() {
+        return dynamoDbAsyncClient;
+    }
+
+    /**
+     * Inserts an entity
+     *
+     * @param entity the entity to be inserted
+     * @return a future with the inserted entity
+     * @throws NullPointerException when entity is null
+     */
+    public CompletableFuture<CommunicationEntity> insert(CommunicationEntity entity) {
+        requireNonNull(entity, "entity is required");
+        return createTableIfNeeded(entity.name())
+                .thenCompose(table -> dynamoDbAsyncClient.putItem(PutItemRequest.builder()
+                        .tableName(table.tableName())
+                        .item(toItem(this::resolveEntityNameAttributeName, entity))
+                        .build()))
+                .thenApply(response -> entity);
+    }
+
+    /**
+     * Inserts an entity with time to live, the table must have TTL enabled
+     *
+     * @param entity the entity to be inserted
+     * @param ttl    the time to live
+     * @return a future with the inserted entity
+     * @throws NullPointerException when either entity or ttl are null
+     */
+    public CompletableFuture<CommunicationEntity> insert(CommunicationEntity entity, Duration ttl) {
+        requireNonNull(entity, "entity is required");
+        requireNonNull(ttl, "ttl is required");
+        return withTTL(entity, ttl).thenCompose(this::insert);
+    }
+
+    /**
+     * Inserts the entities through BatchWriteItem requests
+     *
+     * @param entities the entities to be inserted
+     * @return a future with the inserted entities
+     * @throws NullPointerException when entities is null
+     */
+    public CompletableFuture<List<CommunicationEntity>> insert(Iterable<CommunicationEntity> entities) {
+        requireNonNull(entities, "entities is required");
+        var result = StreamSupport.stream(entities.spliterator(), false)
+                .map(entity -> requireNonNull(entity, "entity is required"))
+                .toList();
+        Map<String, List<CommunicationEntity>> entitiesByName = new LinkedHashMap<>();
+        result.forEach(entity -> entitiesByName.computeIfAbsent(entity.name(), k -> new ArrayList<>()).add(entity));
+        return CompletableFuture.allOf(entitiesByName.entrySet().stream()
+                        .map(entry -> createTableIfNeeded(entry.getKey())
+                                .thenCompose(table -> batchWriter.write(table.tableName(),
+                                        putRequests(table, entry.getValue()))))
+                        .toArray(CompletableFuture[]::new))
+                .thenApply(ignored -> result);
+    }
+
+    /**
+     * Inserts the entities with time to live, the tables must have TTL enabled
+     *
+     * @param entities the entities to be inserted
+     * @param ttl      the time to live
+     * @return a future with the inserted entities
+     * @throws NullPointerException when either entities or ttl are null
+     */
+    public CompletableFuture<List<CommunicationEntity>> insert(Iterable<CommunicationEntity> entities, Duration ttl) {
+        requireNonNull(entities, "entities is required");
+        requireNonNull(ttl, "ttl is required");
+        var futures = StreamSupport.stream(entities.spliterator(), false)
+                .map(entity -> withTTL(requireNonNull(entity, "entity is required"), ttl))
+                .toList();
+        return CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new))
+                .thenCompose(ignored -> insert(futures.stream().map(CompletableFuture::join).toList()));
+    }
+
+    /**
+     * Updates an entity
+     *
+     * @param entity the entity to be updated
+     * @return a future with the updated entity
+     * @throws NullPointerException when entity is null
+     */
+    public CompletableFuture<CommunicationEntity> update(CommunicationEntity entity) {
+        requireNonNull(entity, "entity is required");
+        return createTableIfNeeded(entity.name())
+                .thenCompose(table -> {
+                    Map<String, AttributeValue> itemKey = getItemKey(table, entity);
+                    Map<String, AttributeValueUpdate> attributeUpdates = toItemUpdate(this::resolveEntityNameAttributeName, entity);
+                    itemKey.keySet().forEach(attributeUpdates::remove);
+                    return dynamoDbAsyncClient.updateItem(UpdateItemRequest.builder()
+                            .tableName(table.tableName())
+                            .key(itemKey)
+                            .attributeUpdates(attributeUpdates)
+                            .build());
+                })
+                .thenApply(response -> entity);
+    }
+
+    /**
+     * Updates the entities, one UpdateItem request per entity running concurrently
+     *
+     * @param entities the entities to be updated
+     * @return a future with the updated entities
+     * @throws NullPointerException when entities is null
+     */
+    public CompletableFuture<List<CommunicationEntity>> update(Iterable<CommunicationEntity> entities) {
+        requireNonNull(entities, "entities is required");
+        var futures = StreamSupport.stream(entities.spliterator(), false)
+                .map(this::update)
+                .toList();
+        return CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new))
+                .thenApply(ignored -> futures.stream().map(CompletableFuture::join).toList());
+    }
+
+    /**
+     * Deletes the items that match the query through BatchWriteItem requests
+     *
+     * @param query the delete query
+     * @return a future completed when the items were deleted
+     * @throws NullPointerException when query is null
+     */
+    public CompletableFuture<Void> delete(DeleteQuery query) {
+        requireNonNull(query, "query is required");
+        return describeTable(query.name()).thenCompose(table -> {
+            var selectQueryBuilder = SelectQuery.builder()
+                    .select(table.keyAttributes().toArray(new String[0]))
+                    .from(query.name());
+            query.condition().ifPresent(selectQueryBuilder::where);
+            // the projected items already are the keys, they are deleted page by page as they arrive
+            return batchWriter.write(table.tableName(), items(dynamoDBQuery(table, selectQueryBuilder.build()))
+                    .map(item -> WriteRequest.builder()
+                            .deleteRequest(DeleteRequest.builder().key(table.keyOf(item)).build())
+                            .build()));
+        });
+    }
+
+    /**
+     * Executes the select as a Query when the condition pins the partition key, otherwise as a Scan. The skip and
+     * the limit are applied on the publisher, and a sort that is not the order of the RANGE key is done in memory, as
+     * {@link DefaultDynamoDBDatabaseManager#select(SelectQuery)} does
+     *
+     * @param query the select query
+     * @return a {@link Publisher} of the entities, the requests start on subscription
+     * @throws NullPointerException when query is null
+     */
+    public Publisher<CommunicationEntity> select(SelectQuery query) {
+        requireNonNull(query, "query is required");
+        return subscriber -> describeTable(query.name()).whenComplete((table, error) -> {
+            if (error != null) {
+                subscriber.onSubscribe(new EmptySubscription());
+                subscriber.onError(unwrap(error));
+            } else {
+                entities(table, query).subscribe(subscriber);
+            }
+        });
+    }
+
+    /**
+     * Returns the approximate number of items of a table, from the table description
+     *
+     * @param tableName the table name
+     * @return a future with the number of items, zero when the table does not exist
+     * @throws NullPointerException when tableName is null
+     */
+    public CompletableFuture<Long> count(String tableName) {
+        Objects.requireNonNull(tableName, "tableName is required");
+        return dynamoDbAsyncClient.describeTable(DescribeTableRequest.builder().tableName(tableName).build())
+                .thenApply(response -> response.table().itemCount())
+                .exceptionally(error -> {
+                    if (unwrap(error) instanceof ResourceNotFoundException) {
+                        return 0L;
+                    }
+                    throw error instanceof CompletionException completion ? completion : new CompletionException(error);
+                });
+    }
+
+    @Override
+    public void close() {
+    }
+
+    private SdkPublisher<CommunicationEntity> entities(DynamoDBTableMetadata table, SelectQuery query) {
+        DynamoDBQuery dynamoDBQuery = dynamoDBQuery(table, query);
+        SdkPublisher<CommunicationEntity> entities = items(dynamoDBQuery)
+                .map(item -> toCommunicationEntity(this::resolveEntityNameAttributeName, item));
+        if (!query.sorts().isEmpty() && !dynamoDBQuery.isSortedByKey()) {
+            entities = sorted(entities, DynamoDBSorts.comparator(query.sorts()));
+        }
+        if (query.skip() > 0) {
+            AtomicLong skipped = new AtomicLong();
+            entities = entities.filter(entity -> skipped.getAndIncrement() >= query.skip());
+        }
+        if (query.limit() > 0) {
+            entities = entities.limit((int) Math.min(Integer.MAX_VALUE, query.limit()));
+        }
+        return entities;
+    }
+
+    /**
+     * DynamoDB only returns the items of a Query ordered by the RANGE key, any other sort needs every item: the
+     * entities are held back and emitted sorted once the last page arrived.
+     */
+    private static SdkPublisher<CommunicationEntity> sorted(SdkPublisher<CommunicationEntity> entities,
+                                                            Comparator<CommunicationEntity> comparator) {
+        List<CommunicationEntity> buffer = new ArrayList<>();
+        return entities.filter(entity -> {
+            buffer.add(entity);
+            return false;
+        }).addTrailingData(() -> {
+            buffer.sort(comparator);
+            return buffer;
+        });
+    }
+
+    private DynamoDBQuery dynamoDBQuery(DynamoDBTableMetadata table, SelectQuery query) {
+        return DynamoDBQuery
+                .builderOf(query.name(), getEntityAttributeName(), query, table.keySchema(), table.indexes())
+                .get();
+    }
+
+    private SdkPublisher<Map<String, AttributeValue>> items(DynamoDBQuery dynamoDBQuery) {
+        Select select = dynamoDBQuery.projectionExpression() != null ? Select.SPECIFIC_ATTRIBUTES : Select.ALL_ATTRIBUTES;
+        if (dynamoDBQuery.isQuery()) {
+            return dynamoDbAsyncClient.queryPaginator(QueryRequest.builder()
+                    .consistentRead(dynamoDBQuery.consistentRead())
+                    .tableName(dynamoDBQuery.table())
+                    .indexName(dynamoDBQuery.indexName())
+                    .projectionExpression(dynamoDBQuery.projectionExpression())
+                    .keyConditionExpression(dynamoDBQuery.keyConditionExpression())
+                    .scanIndexForward(dynamoDBQuery.scanIndexForward())
+                    .limit(dynamoDBQuery.limit())
+                    .filterExpression(dynamoDBQuery.filterExpression())
+                    .expressionAttributeNames(dynamoDBQuery.expressionAttributeNames())
+                    .expressionAttributeValues(dynamoDBQuery.expressionAttributeValues())
+                    .select(select)
+                    .build()).items();
+        }
+        return dynamoDbAsyncClient.scanPaginator(ScanRequest.builder()
+                .consistentRead(true)
+                .tableName(dynamoDBQuery.table())
+                .projectionExpression(dynamoDBQuery.projectionExpression())
+                .filterExpression(dynamoDBQuery.filterExpression())
+                .expressionAttributeNames(dynamoDBQuery.expressionAttributeNames())
+                .expressionAttributeValues(dynamoDBQuery.expressionAttributeValues())
+                .select(select)
+                .build()).items();
+    }
+
+    private List<WriteRequest> putRequests(DynamoDBTableMetadata table, List<CommunicationEntity> entities) {
+        Map<Map<String, AttributeValue>, WriteRequest> requests = new LinkedHashMap<>();
+        for (CommunicationEntity entity : entities) {
+            var item = toItem(this::resolveEntityNameAttributeName, entity);
+            requests.put(table.keyOf(item), WriteRequest.builder().putRequest(PutRequest.builder().item(item).build()).build());
+        }
+        return new ArrayList<>(requests.values());
+    }
+
+    private Map<String, AttributeValue> getItemKey(DynamoDBTableMetadata table, CommunicationEntity entity) {
+        Map<String, AttributeValue> itemKey = new HashMap<>();
+        table.keyAttributes().forEach(attribute -> itemKey.put(attribute,
+                toAttributeValue(entity.find(attribute, Object.class).orElse(null))));
+        itemKey.put(getEntityAttributeName(), toAttributeValue(entity.name()));
+        return itemKey;
+    }
+
+    private CompletableFuture<CommunicationEntity> withTTL(CommunicationEntity entity, Duration ttl) {
+        return createTableIfNeeded(entity.name()).thenApply(table -> {
+            entity.add(table.ttlAttribute().orElseGet(() -> entity.name()
+                            + " don't support TTL operations. Check if TTL support is enabled for this table."),
+                    Instant.now().plus(ttl).truncatedTo(ChronoUnit.SECONDS));
+            return entity;
+        });
+    }
+
+    /**
+     * Drops the cached key schema, TTL attribute and indexes of the table, so they are described again on the next
+     * operation. Useful when the table was changed outside this manager.
+     *
+     * @param tableName the table name
+     * @throws NullPointerException when tableName is null
+     */
+    public void invalidateTableMetadata(String tableName) {
+        this.tables.invalidate(tableName);
+    }
+
+    /**
+     * Drops the cached metadata of every table.
+     */
+    public void invalidateTableMetadata() {
+        this.tables.invalidateAll();
+    }
+
+    private CompletableFuture<DynamoDBTableMetadata> describeTable(String tableName) {
+        return this.tables.get(tableName);
+    }
+
+    private CompletableFuture<DynamoDBTableMetadata> createTableIfNeeded(String tableName) {
+        return this.tables.get(tableName, name -> loadTableMetadata(name).exceptionallyCompose(error -> {
+            if (unwrap(error) instanceof ResourceNotFoundException && shouldCreateTables()) {
+                return createTable(name).thenApply(response -> DynamoDBTableMetadata.of(response.table(), null));
+            }
+            return CompletableFuture.failedFuture(unwrap(error));
+        }));
+    }
+
+    private CompletableFuture<DynamoDBTableMetadata> loadTableMetadata(String tableName) {
+        // the TTL attribute rarely changes: a refresh keeps the cached one, it is described again after an invalidation
+        var cached = this.tables.cached(tableName);
+        if (cached.isPresent()) {
+            return getDescribeTableResponse(tableName)
+                    .thenApply(table -> DynamoDBTableMetadata.of(table.table(), cached.get().ttlAttributeName()));
+        }
+        return getDescribeTableResponse(tableName)
+                .thenCompose(table -> dynamoDbAsyncClient.describeTimeToLive(DescribeTimeToLiveRequest.builder()
+                                .tableName(tableName).build())
+                        .thenApply(response -> {
+                            var description = response.timeToLiveDescription();
+                            String ttlAttributeName = TimeToLiveStatus.ENABLED.equals(description.timeToLiveStatus())
+                                    ? description.attributeName() : null;
+                            return DynamoDBTableMetadata.of(table.table(), ttlAttributeName);
+                        }));
+    }
+
+    private CompletableFuture<DescribeTableResponse> getDescribeTableResponse(String tableName) {
+        return dynamoDbAsyncClient.describeTable(DescribeTableRequest.builder()
+                .tableName(tableName)
+                .build());
+    }
+
+    private CompletableFuture<DescribeTableResponse> createTable(String tableName) {
+        var waiter = dynamoDbAsyncClient.waiter();
+        return dynamoDbAsyncClient.createTable(DynamoTableUtils.createEntityTableRequest(tableName, getEntityAttributeName()))
+                .thenCompose(response -> waiter.waitUntilTableExists(DescribeTableRequest.builder().tableName(tableName).build()))
+                .thenApply(waiterResponse -> waiterResponse.matched().response().orElseThrow())
+                .whenComplete((response, error) -> waiter.close());
+    }
+
+    private boolean shouldCreateTables() {
+        return this.settings
+                .get(DynamoDBConfigurations.CREATE_TABLES, Boolean.class)
+                .orElse(false);
+    }
+
+    private String resolveEntityNameAttributeName(String entityName) {
+        return this.settings.get(DynamoDBConfigurations.ENTITY_PARTITION_KEY, String.class).orElse(entityName);
+    }
+
+    private String getEntityAttributeName() {
+        return entityAttributeName(this::resolveEntityNameAttributeName);
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    }
+
+    private static final class EmptySubscription implements Subscription {
+
+        @Override
+        public void request(long n) {
+        }
+
+        @Override
+        public void cancel() {
+        }
+    }
+}
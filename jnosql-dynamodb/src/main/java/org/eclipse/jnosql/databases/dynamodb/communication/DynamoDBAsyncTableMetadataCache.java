@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ *
+ * Contributors:
+ *
+ * Maximillian Arruda
+ */
+
+package org.eclipse.jnosql.databases.dynamodb.communication;
+
+import org.eclipse.jnosql.communication.Settings;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * The non-blocking counterpart of {@link DynamoDBTableMetadataCache}: it caches the future of the
+ * {@link DynamoDBTableMetadata} per table name, with the same refresh interval and invalidation. The concurrent
+ * callers of a table that is being described share the same future. A reload that fails completes with the cached
+ * metadata, as the blocking cache does, and a first load that failed is dropped so the next call describes the table
+ * again.
+ */
+final class DynamoDBAsyncTableMetadataCache {
+
+    private static final Logger LOGGER = Logger.getLogger(DynamoDBAsyncTableMetadataCache.class.getName());
+
+    private final ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<>();
+
+    private final Function<String, CompletableFuture<DynamoDBTableMetadata>> loader;
+
+    private final long refreshAfterNanos;
+
+    private final LongSupplier nanoTime;
+
+    DynamoDBAsyncTableMetadataCache(Function<String, CompletableFuture<DynamoDBTableMetadata>> loader,
+                                    Duration refreshAfter, LongSupplier nanoTime) {
+        this.loader = Objects.requireNonNull(loader, "loader is required");
+        Objects.requireNonNull(refreshAfter, "refreshAfter is required");
+        if (refreshAfter.isNegative()) {
+            throw new IllegalArgumentException("The table metadata refresh must not be negative: " + refreshAfter);
+        }
+        this.refreshAfterNanos = refreshAfter.toNanos();
+        this.nanoTime = Objects.requireNonNull(nanoTime, "nanoTime is required");
+    }
+
+    static DynamoDBAsyncTableMetadataCache of(Function<String, CompletableFuture<DynamoDBTableMetadata>> loader,
+                                              Settings settings) {
+        Duration refresh = settings.get(DynamoDBConfigurations.TABLE_METADATA_REFRESH, Long.class)
+                .map(Duration::ofSeconds)
+                .orElse(DynamoDBTableMetadataCache.DEFAULT_REFRESH);
+        return new DynamoDBAsyncTableMetadataCache(loader, refresh, System::nanoTime);
+    }
+
+    /**
+     * @param tableName the table name
+     * @return the cached metadata, loaded when it is absent or older than the refresh interval
+     */
+    CompletableFuture<DynamoDBTableMetadata> get(String tableName) {
+        return get(tableName, loader);
+    }
+
+    /**
+     * @param tableName the table name
+     * @param loader    the loader used instead of the default one when the entry has to be loaded,
+     *                  e.g. one that creates the table when it does not exist
+     * @return the cached metadata, loaded when it is absent or older than the refresh interval
+     */
+    CompletableFuture<DynamoDBTableMetadata> get(String tableName,
+                                                 Function<String, CompletableFuture<DynamoDBTableMetadata>> loader) {
+        Objects.requireNonNull(tableName, "tableName is required");
+        Objects.requireNonNull(loader, "loader is required");
+        long now = nanoTime.getAsLong();
+        Entry cached = entries.get(tableName);
+        if (cached != null && now - cached.loadedAt() < refreshAfterNanos) {
+            return cached.metadata();
+        }
+        Entry entry = entries.compute(tableName, (name, current) -> {
+            if (current != null && now - current.loadedAt() < refreshAfterNanos) {
+                return current;
+            }
+            DynamoDBTableMetadata stale = current == null ? null : loaded(current);
+            if (stale == null) {
+                return new Entry(loader.apply(name), now);
+            }
+            return new Entry(loader.apply(name).exceptionally(error -> {
+                LOGGER.log(Level.WARNING, error, () -> "The metadata of the table " + name
+                        + " could not be refreshed, the cached one is kept");
+                return stale;
+            }), now);
+        });
+        entry.metadata().whenComplete((metadata, error) -> {
+            if (error != null) {
+                entries.remove(tableName, entry);
+            }
+        });
+        return entry.metadata();
+    }
+
+    /**
+     * @param tableName the table name
+     * @return the cached metadata once it is loaded, even when it is due for a refresh, without loading it
+     */
+    Optional<DynamoDBTableMetadata> cached(String tableName) {
+        Objects.requireNonNull(tableName, "tableName is required");
+        return Optional.ofNullable(entries.get(tableName)).map(DynamoDBAsyncTableMetadataCache::loaded);
+    }
+
+    private static DynamoDBTableMetadata loaded(Entry entry) {
+        var metadata = entry.metadata();
+        return metadata.isDone() && !metadata.isCompletedExceptionally() ? metadata.join() : null;
+    }
+
+    void invalidate(String tableName) {
+        Objects.requireNonNull(tableName, "tableName is required");
+        entries.remove(tableName);
+    }
+
+    void invalidateAll() {
+        entries.clear();
+    }
+
+    private record Entry(CompletableFuture<DynamoDBTableMetadata> metadata, long loadedAt) {
+    }
+}
@@ -0,0 +1,234 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ *
+ * Contributors:
+ *
+ * Maximillian Arruda
+ */
+
+package org.eclipse.jnosql.databases.dynamodb.communication;
+
+import org.eclipse.jnosql.communication.CommunicationException;
+import org.eclipse.jnosql.communication.Settings;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.WriteRequest;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Writes {@link WriteRequest}s through {@code BatchWriteItem}: the requests are split into chunks of
+ * {@link #MAX_BATCH_SIZE} items, the chunks run concurrently with at most {@code concurrency} in flight, and the
+ * {@code UnprocessedItems} of each chunk are resent with exponential backoff and full jitter. The chunks run on the
+ * executor owned by the manager factory, see {@link #newExecutor()}.
+ */
+final class DynamoDBBatchWriter {
+
+    private static final Logger LOGGER = Logger.getLogger(DynamoDBBatchWriter.class.getName());
+
+    /**
+     * The maximum number of put or delete requests accepted by a single {@code BatchWriteItem} call.
+     */
+    static final int MAX_BATCH_SIZE = 25;
+
+    static final int DEFAULT_CONCURRENCY = 4;
+
+    static final int DEFAULT_MAX_RETRIES = 8;
+
+    private static final Duration BASE_DELAY = Duration.ofMillis(50);
+
+    private static final Duration MAX_DELAY = Duration.ofSeconds(5);
+
+    /**
+     * The maximum number of threads of the executor, shared by the concurrent writes of a factory.
+     */
+    private static final int MAX_THREADS = 64;
+
+    private static final AtomicInteger THREADS = new AtomicInteger();
+
+    private final DynamoDbClient client;
+
+    private final int concurrency;
+
+    private final int maxRetries;
+
+    private final Executor executor;
+
+    DynamoDBBatchWriter(DynamoDbClient client, int concurrency, int maxRetries, Executor executor) {
+        this.client = Objects.requireNonNull(client, "client is required");
+        this.executor = Objects.requireNonNull(executor, "executor is required");
+        if (concurrency < 1) {
+            throw new IllegalArgumentException("The batch write concurrency must be greater than zero: " + concurrency);
+        }
+        if (maxRetries < 0) {
+            throw new IllegalArgumentException("The batch write max retries must be greater or equals than zero: " + maxRetries);
+        }
+        this.concurrency = concurrency;
+        this.maxRetries = maxRetries;
+    }
+
+    static DynamoDBBatchWriter of(DynamoDbClient client, Settings settings, Executor executor) {
+        int concurrency = settings.get(DynamoDBConfigurations.BATCH_WRITE_CONCURRENCY, Integer.class)
+                .orElse(DEFAULT_CONCURRENCY);
+        int maxRetries = settings.get(DynamoDBConfigurations.BATCH_WRITE_MAX_RETRIES, Integer.class)
+                .orElse(DEFAULT_MAX_RETRIES);
+        return new DynamoDBBatchWriter(client, concurrency, maxRetries, executor);
+    }
+
+    /**
+     * The executor of the chunks: up to {@link #MAX_THREADS} threads, created on demand, shared by the writes, and
+     * released after a minute without work; the chunks beyond that wait for a thread. It is shut down by its owner.
+     *
+     * @return a new executor
+     */
+    static ExecutorService newExecutor() {
+        var executor = new ThreadPoolExecutor(MAX_THREADS, MAX_THREADS, 1, TimeUnit.MINUTES,
+                new LinkedBlockingQueue<>(), runnable -> {
+            Thread thread = new Thread(runnable, "jnosql-dynamodb-batch-writer-" + THREADS.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    /**
+     * Writes all the requests into the table, it returns when every chunk was fully processed.
+     *
+     * @param tableName the table name
+     * @param requests  the put or delete requests, they are consumed lazily
+     * @throws CommunicationException when a chunk still has unprocessed items after the retries
+     */
+    void write(String tableName, Iterator<WriteRequest> requests) {
+        Objects.requireNonNull(tableName, "tableName is required");
+        Objects.requireNonNull(requests, "requests is required");
+        if (!requests.hasNext()) {
+            return;
+        }
+        List<WriteRequest> first = nextChunk(requests);
+        if (concurrency == 1 || !requests.hasNext()) {
+            writeChunk(tableName, first);
+            while (requests.hasNext()) {
+                writeChunk(tableName, nextChunk(requests));
+            }
+            return;
+        }
+        CompletionService<Void> completion = new ExecutorCompletionService<>(executor);
+        List<Future<Void>> submitted = new ArrayList<>();
+        try {
+            int inFlight = 0;
+            List<WriteRequest> chunk = first;
+            while (chunk != null) {
+                if (inFlight == concurrency) {
+                    await(completion);
+                    inFlight--;
+                }
+                List<WriteRequest> current = chunk;
+                submitted.add(completion.submit(() -> {
+                    writeChunk(tableName, current);
+                    return null;
+                }));
+                inFlight++;
+                chunk = requests.hasNext() ? nextChunk(requests) : null;
+            }
+            for (; inFlight > 0; inFlight--) {
+                await(completion);
+            }
+        } finally {
+            // the executor is shared, so only the chunks of this write are cancelled when it fails
+            submitted.forEach(future -> future.cancel(true));
+        }
+    }
+
+    void write(String tableName, Iterable<WriteRequest> requests) {
+        Objects.requireNonNull(requests, "requests is required");
+        write(tableName, requests.iterator());
+    }
+
+    private void writeChunk(String tableName, List<WriteRequest> chunk) {
+        Map<String, List<WriteRequest>> items = Map.of(tableName, chunk);
+        for (int attempt = 0; ; attempt++) {
+            BatchWriteItemResponse response = client.batchWriteItem(BatchWriteItemRequest.builder()
+                    .requestItems(items)
+                    .build());
+            if (!response.hasUnprocessedItems() || response.unprocessedItems().isEmpty()) {
+                return;
+            }
+            items = response.unprocessedItems();
+            if (attempt >= maxRetries) {
+                int unprocessed = items.values().stream().mapToInt(List::size).sum();
+                throw new CommunicationException("BatchWriteItem on the table " + tableName + " left " + unprocessed
+                        + " unprocessed items after " + maxRetries + " retries");
+            }
+            backoff(attempt);
+        }
+    }
+
+    private void backoff(int attempt) {
+        long delay = backoffMillis(attempt);
+        LOGGER.log(Level.FINEST, "Retrying the BatchWriteItem unprocessed items in {0} ms", delay);
+        try {
+            Thread.sleep(delay);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new CommunicationException("Interrupted while retrying the BatchWriteItem unprocessed items", exception);
+        }
+    }
+
+    /**
+     * The exponential backoff with full jitter: a random delay between zero and the base delay doubled on each
+     * attempt, capped to the max delay.
+     */
+    static long backoffMillis(int attempt) {
+        long ceiling = Math.min(MAX_DELAY.toMillis(), BASE_DELAY.toMillis() << Math.min(attempt, 16));
+        return ThreadLocalRandom.current().nextLong(ceiling + 1);
+    }
+
+    private static void await(CompletionService<Void> completion) {
+        try {
+            completion.take().get();
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new CommunicationException("Interrupted while waiting for the BatchWriteItem requests", exception);
+        } catch (ExecutionException exception) {
+            if (exception.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new CommunicationException("Error while executing the BatchWriteItem requests", exception.getCause());
+        }
+    }
+
+    static List<WriteRequest> nextChunk(Iterator<WriteRequest> requests) {
+        List<WriteRequest> chunk = new ArrayList<>(MAX_BATCH_SIZE);
+        while (chunk.size() < MAX_BATCH_SIZE && requests.hasNext()) {
+            chunk.add(requests.next());
+        }
+        return chunk;
+    }
+}
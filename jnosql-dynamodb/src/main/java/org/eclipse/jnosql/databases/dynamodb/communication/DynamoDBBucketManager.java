@@ -21,7 +21,6 @@ import org.eclipse.jnosql.communication.keyvalue.BucketManager;
 import org.eclipse.jnosql.communication.keyvalue.KeyValueEntity;
 import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
 import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
-import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemRequest;
 import software.amazon.awssdk.services.dynamodb.model.DeleteItemRequest;
 import software.amazon.awssdk.services.dynamodb.model.GetItemResponse;
 import software.amazon.awssdk.services.dynamodb.model.PutItemRequest;
@@ -31,6 +30,7 @@ import java.util.Collection;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -40,10 +40,28 @@ public class DynamoDBBucketManager implements BucketManager {
     private DynamoDbClient client;
     private String tableName;
     private static final Function<AttributeValue, String> TO_JSON = AttributeValue::s;
+    private final DynamoDBBatchWriter batchWriter;
+    private final ExecutorService writeExecutor;
 
     public DynamoDBBucketManager(DynamoDbClient client, String tableName) {
+        this(client, tableName, DynamoDBBatchWriter.newExecutor());
+    }
+
+    private DynamoDBBucketManager(DynamoDbClient client, String tableName, ExecutorService writeExecutor) {
+        this(client, tableName, new DynamoDBBatchWriter(client, DynamoDBBatchWriter.DEFAULT_CONCURRENCY,
+                DynamoDBBatchWriter.DEFAULT_MAX_RETRIES, writeExecutor), writeExecutor);
+    }
+
+    DynamoDBBucketManager(DynamoDbClient client, String tableName, DynamoDBBatchWriter batchWriter) {
+        this(client, tableName, batchWriter, null);
+    }
+
+    private DynamoDBBucketManager(DynamoDbClient client, String tableName, DynamoDBBatchWriter batchWriter,
+                                  ExecutorService writeExecutor) {
         this.client = client;
         this.tableName = tableName;
+        this.batchWriter = batchWriter;
+        this.writeExecutor = writeExecutor;
     }
 
     @Override
@@ -69,7 +87,8 @@ public class DynamoDBBucketManager implements BucketManager {
 
     @Override
     public void put(Iterable<KeyValueEntity> entities) throws NullPointerException {
-        client.batchWriteItem(BatchWriteItemRequest.builder().requestItems(DynamoDBUtils.createMapWriteRequest(entities, tableName)).build());
+        Objects.requireNonNull(entities, "entities is required");
+        batchWriter.write(tableName, DynamoDBUtils.createPutWriteRequests(entities));
     }
 
     @Override
@@ -116,11 +135,15 @@ public class DynamoDBBucketManager implements BucketManager {
 
     @Override
     public <K> void delete(Iterable<K> keys) throws NullPointerException {
-        keys.forEach(this::delete);
+        Objects.requireNonNull(keys, "keys is required");
+        batchWriter.write(tableName, DynamoDBUtils.createDeleteWriteRequests(keys));
     }
 
     @Override
     public void close() {
+        if (writeExecutor != null) {
+            writeExecutor.shutdownNow();
+        }
         client.close();
     }
 }
\ No newline at end of file
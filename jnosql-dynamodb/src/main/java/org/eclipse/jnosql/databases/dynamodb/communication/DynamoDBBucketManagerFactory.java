@@ -14,20 +14,45 @@
  */
 package org.eclipse.jnosql.databases.dynamodb.communication;
 
+import org.eclipse.jnosql.communication.Settings;
 import org.eclipse.jnosql.communication.keyvalue.BucketManagerFactory;
+import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
 import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
 
 import java.util.List;
 import java.util.Map;
 import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Supplier;
 
 public class DynamoDBBucketManagerFactory implements BucketManagerFactory {
 
     private DynamoDbClient client;
 
+    private final ExecutorService writeExecutor = DynamoDBBatchWriter.newExecutor();
+
+    private final DynamoDBBatchWriter batchWriter;
+
+    private final Settings settings;
+
+    private final Supplier<DynamoDbAsyncClient> asyncClientSupplier;
+
+    private volatile DynamoDbAsyncClient asyncClient;
+
     DynamoDBBucketManagerFactory(DynamoDbClient client) {
+        this(client, Settings.builder().build());
+    }
+
+    DynamoDBBucketManagerFactory(DynamoDbClient client, Settings settings) {
+        this(client, null, settings);
+    }
+
+    DynamoDBBucketManagerFactory(DynamoDbClient client, Supplier<DynamoDbAsyncClient> asyncClientSupplier, Settings settings) {
         this.client = client;
+        this.settings = settings;
+        this.asyncClientSupplier = asyncClientSupplier;
+        this.batchWriter = DynamoDBBatchWriter.of(client, settings, writeExecutor);
     }
 
     @Override
@@ -39,7 +64,21 @@ public class DynamoDBBucketManagerFactory implements BucketManagerFactory {
     public DynamoDBBucketManager getBucketManager(String bucketName, Long readCapacityUnits, Long writeCapacityUnit) {
 
         DynamoTableUtils.manageTables(bucketName, client, readCapacityUnits, writeCapacityUnit);
-        return new DynamoDBBucketManager(client, bucketName);
+        return new DynamoDBBucketManager(client, bucketName, batchWriter);
+    }
+
+    /**
+     * Creates a {@link DynamoDBAsyncBucketManager} to the bucket, the table is created when it does not exist.
+     * The {@link DynamoDbAsyncClient} is created on the first call and it is closed with this factory.
+     *
+     * @param bucketName the bucket name
+     * @return a DynamoDBAsyncBucketManager instance
+     * @throws UnsupportedOperationException when this factory was created without an async client
+     */
+    public DynamoDBAsyncBucketManager async(String bucketName) {
+        DynamoTableUtils.manageTables(bucketName, client, null, null);
+        var dynamoDBAsync = asyncClient();
+        return new DynamoDBAsyncBucketManager(dynamoDBAsync, bucketName, DynamoDBAsyncBatchWriter.of(dynamoDBAsync, settings));
     }
 
     @Override
@@ -64,6 +103,27 @@ public class DynamoDBBucketManagerFactory implements BucketManagerFactory {
 
     @Override
     public void close() {
+        writeExecutor.shutdownNow();
         client.close();
+        if (asyncClient != null) {
+            asyncClient.close();
+        }
+    }
+
+    private DynamoDbAsyncClient asyncClient() {
+        var dynamoDBAsync = asyncClient;
+        if (dynamoDBAsync == null) {
+            synchronized (this) {
+                dynamoDBAsync = asyncClient;
+                if (dynamoDBAsync == null) {
+                    if (asyncClientSupplier == null) {
+                        throw new UnsupportedOperationException("This factory was created without a DynamoDbAsyncClient");
+                    }
+                    dynamoDBAsync = asyncClientSupplier.get();
+                    asyncClient = dynamoDBAsync;
+                }
+            }
+        }
+        return dynamoDBAsync;
     }
 }
@@ -24,7 +24,14 @@ public enum  DynamoDBConfigurations implements Supplier<String> {
     AWS_ACCESSKEY("jnosql.dynamodb.awsaccesskey"),
     AWS_SECRET_ACCESS("jnosql.dynamodb.secretaccess"),
     ENTITY_PARTITION_KEY("jnosql.dynamodb.entity.pk"),
-    CREATE_TABLES("jnosql.dynamodb.create.tables");
+    CREATE_TABLES("jnosql.dynamodb.create.tables"),
+    BATCH_WRITE_CONCURRENCY("jnosql.dynamodb.batch.write.concurrency"),
+    BATCH_WRITE_MAX_RETRIES("jnosql.dynamodb.batch.write.max.retries"),
+    SCAN_SEGMENTS("jnosql.dynamodb.scan.segments"),
+    SCAN_WORKERS("jnosql.dynamodb.scan.workers"),
+    SCAN_ORDERED("jnosql.dynamodb.scan.ordered"),
+    SCAN_IDLE_TIMEOUT("jnosql.dynamodb.scan.idle.timeout"),
+    TABLE_METADATA_REFRESH("jnosql.dynamodb.table.metadata.refresh");
 
     private final String configuration;
 
@@ -17,8 +17,10 @@ package org.eclipse.jnosql.databases.dynamodb.communication;
 
 import org.eclipse.jnosql.communication.semistructured.CommunicationEntity;
 import org.eclipse.jnosql.communication.semistructured.DatabaseManager;
+import org.eclipse.jnosql.communication.semistructured.SelectQuery;
 import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
 
+import java.util.Objects;
 import java.util.stream.Stream;
 
 /**
@@ -37,6 +39,27 @@ public interface DynamoDBDatabaseManager extends DatabaseManager {
      */
     Stream<CommunicationEntity> partiQL(String query, Object... params);
 
+    /**
+     * Executes the select with the given scan options. They only apply when the query cannot be sent as a
+     * Query, then a parallel Scan reads the table in {@link DynamoDBScanOptions#segments()} segments concurrently.
+     * <p>The stream of a parallel Scan holds worker threads, so it should be closed when it is not fully consumed.</p>
+     * <p>The default implementation only supports a sequential Scan, which it runs through {@link #select(SelectQuery)}.</p>
+     *
+     * @param query   the select query
+     * @param options the scan options
+     * @return a {@link Stream} of {@link CommunicationEntity} representing the query result
+     * @throws NullPointerException          when the query or the options are null
+     * @throws UnsupportedOperationException when the options are parallel and the implementation does not support it
+     */
+    default Stream<CommunicationEntity> select(SelectQuery query, DynamoDBScanOptions options) {
+        Objects.requireNonNull(query, "query is required");
+        Objects.requireNonNull(options, "options is required");
+        if (options.isParallel()) {
+            throw new UnsupportedOperationException("This manager does not support a parallel Scan: " + options);
+        }
+        return select(query);
+    }
+
 
     /**
      * @return a {@link DynamoDbClient} instance for custom utilization
@@ -17,27 +17,77 @@ package org.eclipse.jnosql.databases.dynamodb.communication;
 
 import org.eclipse.jnosql.communication.Settings;
 import org.eclipse.jnosql.communication.semistructured.DatabaseManagerFactory;
+import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
 import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
 
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Supplier;
 
 public class DynamoDBDatabaseManagerFactory implements DatabaseManagerFactory {
 
     private final DynamoDbClient dynamoDB;
     private final Settings settings;
+    private final Supplier<DynamoDbAsyncClient> dynamoDBAsyncSupplier;
+    private volatile DynamoDbAsyncClient dynamoDBAsync;
+    private final ExecutorService scanExecutor = DynamoDBParallelScan.newExecutor();
+    private final ExecutorService writeExecutor = DynamoDBBatchWriter.newExecutor();
 
     public DynamoDBDatabaseManagerFactory(DynamoDbClient dynamoDB, Settings settings) {
+        this(dynamoDB, (Supplier<DynamoDbAsyncClient>) null, settings);
+    }
+
+    public DynamoDBDatabaseManagerFactory(DynamoDbClient dynamoDB, DynamoDbAsyncClient dynamoDBAsync, Settings settings) {
+        this(dynamoDB, () -> dynamoDBAsync, settings);
+    }
+
+    DynamoDBDatabaseManagerFactory(DynamoDbClient dynamoDB, Supplier<DynamoDbAsyncClient> dynamoDBAsyncSupplier,
+                                   Settings settings) {
         this.dynamoDB = dynamoDB;
+        this.dynamoDBAsyncSupplier = dynamoDBAsyncSupplier;
         this.settings = settings;
     }
 
     @Override
     public DynamoDBDatabaseManager apply(String database) {
-        return new DefaultDynamoDBDatabaseManager(database, dynamoDB, settings);
+        return new DefaultDynamoDBDatabaseManager(database, dynamoDB, settings, scanExecutor, writeExecutor);
+    }
+
+    /**
+     * Creates a {@link DynamoDBAsyncDatabaseManager} to the database.
+     * When this factory comes from {@link DynamoDBDocumentConfiguration} the {@link DynamoDbAsyncClient} is created
+     * on the first call with the same settings and it is closed with this factory.
+     *
+     * @param database the database name
+     * @return a DynamoDBAsyncDatabaseManager instance
+     * @throws UnsupportedOperationException when this factory was created without an async client
+     */
+    public DynamoDBAsyncDatabaseManager async(String database) {
+        return new DynamoDBAsyncDatabaseManager(database, dynamoDBAsync(), settings);
     }
 
     @Override
     public void close() {
+        this.scanExecutor.shutdownNow();
+        this.writeExecutor.shutdownNow();
         Optional.ofNullable(this.dynamoDB).ifPresent(DynamoDbClient::close);
+        Optional.ofNullable(this.dynamoDBAsync).ifPresent(DynamoDbAsyncClient::close);
+    }
+
+    private DynamoDbAsyncClient dynamoDBAsync() {
+        var client = dynamoDBAsync;
+        if (client == null) {
+            synchronized (this) {
+                client = dynamoDBAsync;
+                if (client == null) {
+                    client = Optional.ofNullable(dynamoDBAsyncSupplier)
+                            .map(Supplier::get)
+                            .orElseThrow(() -> new UnsupportedOperationException("This factory was created without a DynamoDbAsyncClient;" +
+                                    " use DynamoDBDatabaseManagerFactory(DynamoDbClient, DynamoDbAsyncClient, Settings) instead"));
+                    dynamoDBAsync = client;
+                }
+            }
+        }
+        return client;
     }
 }
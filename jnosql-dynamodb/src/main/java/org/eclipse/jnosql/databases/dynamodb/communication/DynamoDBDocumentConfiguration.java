@@ -23,6 +23,6 @@ public class DynamoDBDocumentConfiguration extends DynamoDBConfiguration
     @Override
     public DynamoDBDatabaseManagerFactory apply(Settings settings) {
         var dynamoDB = getDynamoDB(settings);
-        return new DynamoDBDatabaseManagerFactory(dynamoDB, settings);
+        return new DynamoDBDatabaseManagerFactory(dynamoDB, () -> getDynamoDBAsync(settings), settings);
     }
 }
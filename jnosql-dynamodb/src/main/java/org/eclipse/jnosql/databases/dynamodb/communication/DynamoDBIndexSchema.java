@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ *
+ * Contributors:
+ *
+ * Maximillian Arruda
+ */
+
+package org.eclipse.jnosql.databases.dynamodb.communication;
+
+import software.amazon.awssdk.services.dynamodb.model.KeySchemaElement;
+import software.amazon.awssdk.services.dynamodb.model.Projection;
+import software.amazon.awssdk.services.dynamodb.model.ProjectionType;
+import software.amazon.awssdk.services.dynamodb.model.TableDescription;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * A global or local secondary index of a table that a Query can be sent to with {@code IndexName}.
+ *
+ * @param indexName           the index name
+ * @param keySchema           the HASH and RANGE key of the index
+ * @param global              true for a global secondary index, which does not support consistent reads
+ * @param projectedAttributes the attributes the index holds, null when it projects all of them
+ */
+record DynamoDBIndexSchema(String indexName,
+                           DynamoDBKeySchema keySchema,
+                           boolean global,
+                           Set<String> projectedAttributes) {
+
+    static List<DynamoDBIndexSchema> of(TableDescription table) {
+        Objects.requireNonNull(table, "table is required");
+        List<DynamoDBIndexSchema> indexes = new ArrayList<>();
+        if (table.hasGlobalSecondaryIndexes()) {
+            table.globalSecondaryIndexes().forEach(index -> indexes.add(of(index.indexName(), index.keySchema(),
+                    index.projection(), true, table)));
+        }
+        if (table.hasLocalSecondaryIndexes()) {
+            table.localSecondaryIndexes().forEach(index -> indexes.add(of(index.indexName(), index.keySchema(),
+                    index.projection(), false, table)));
+        }
+        return List.copyOf(indexes);
+    }
+
+    /**
+     * @param columns    the projected columns of the select, empty for all the attributes
+     * @param conditions the attributes the select filters on
+     * @return true when the index holds every attribute the select returns or filters on
+     */
+    boolean covers(Collection<String> columns, Collection<String> conditions) {
+        if (projectedAttributes == null) {
+            return true;
+        }
+        return !columns.isEmpty() && projectedAttributes.containsAll(columns)
+                && projectedAttributes.containsAll(conditions);
+    }
+
+    private static DynamoDBIndexSchema of(String indexName,
+                                          List<KeySchemaElement> keySchema,
+                                          Projection projection,
+                                          boolean global,
+                                          TableDescription table) {
+        var indexKeySchema = DynamoDBKeySchema.of(keySchema, table.attributeDefinitions());
+        if (projection == null || ProjectionType.ALL.equals(projection.projectionType())) {
+            return new DynamoDBIndexSchema(indexName, indexKeySchema, global, null);
+        }
+        Set<String> projectedAttributes = new HashSet<>();
+        keySchema.forEach(element -> projectedAttributes.add(element.attributeName()));
+        table.keySchema().forEach(element -> projectedAttributes.add(element.attributeName()));
+        if (projection.hasNonKeyAttributes()) {
+            projectedAttributes.addAll(projection.nonKeyAttributes());
+        }
+        return new DynamoDBIndexSchema(indexName, indexKeySchema, global, Set.copyOf(projectedAttributes));
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ *
+ * Contributors:
+ *
+ * Maximillian Arruda
+ */
+
+package org.eclipse.jnosql.databases.dynamodb.communication;
+
+import software.amazon.awssdk.services.dynamodb.model.AttributeDefinition;
+import software.amazon.awssdk.services.dynamodb.model.KeySchemaElement;
+import software.amazon.awssdk.services.dynamodb.model.KeyType;
+import software.amazon.awssdk.services.dynamodb.model.ScalarAttributeType;
+import software.amazon.awssdk.services.dynamodb.model.TableDescription;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * The HASH and the optional RANGE key of a DynamoDB table, with the scalar types declared on its attribute definitions.
+ *
+ * @param hashKey      the HASH key attribute name, null when unknown
+ * @param hashKeyType  the HASH key attribute type
+ * @param rangeKey     the RANGE key attribute name, null when the table has no sort key
+ * @param rangeKeyType the RANGE key attribute type
+ */
+record DynamoDBKeySchema(String hashKey,
+                         ScalarAttributeType hashKeyType,
+                         String rangeKey,
+                         ScalarAttributeType rangeKeyType) {
+
+    static final DynamoDBKeySchema NONE = new DynamoDBKeySchema(null, null, null, null);
+
+    static DynamoDBKeySchema of(TableDescription table) {
+        Objects.requireNonNull(table, "table is required");
+        return of(table.keySchema(), table.attributeDefinitions());
+    }
+
+    static DynamoDBKeySchema of(List<KeySchemaElement> keySchema, List<AttributeDefinition> attributeDefinitions) {
+        String hashKey = null;
+        String rangeKey = null;
+        for (KeySchemaElement element : keySchema) {
+            if (KeyType.HASH.equals(element.keyType())) {
+                hashKey = element.attributeName();
+            } else if (KeyType.RANGE.equals(element.keyType())) {
+                rangeKey = element.attributeName();
+            }
+        }
+        return new DynamoDBKeySchema(hashKey, typeOf(hashKey, attributeDefinitions),
+                rangeKey, typeOf(rangeKey, attributeDefinitions));
+    }
+
+    boolean isHashKey(String attributeName) {
+        return hashKey != null && hashKey.equals(attributeName);
+    }
+
+    boolean isRangeKey(String attributeName) {
+        return rangeKey != null && rangeKey.equals(attributeName);
+    }
+
+    boolean isKey(String attributeName) {
+        return isHashKey(attributeName) || isRangeKey(attributeName);
+    }
+
+    private static ScalarAttributeType typeOf(String attributeName, List<AttributeDefinition> attributeDefinitions) {
+        if (attributeName == null) {
+            return null;
+        }
+        return attributeDefinitions.stream()
+                .filter(definition -> attributeName.equals(definition.attributeName()))
+                .map(AttributeDefinition::attributeType)
+                .findFirst()
+                .orElse(null);
+    }
+}
@@ -24,7 +24,7 @@ public class DynamoDBKeyValueConfiguration extends DynamoDBConfiguration
     @Override
     public DynamoDBBucketManagerFactory apply(Settings settings) {
         DynamoDbClient dynamoDB = getDynamoDB(settings);
-        return new DynamoDBBucketManagerFactory(dynamoDB);
+        return new DynamoDBBucketManagerFactory(dynamoDB, () -> getDynamoDBAsync(settings), settings);
     }
 
 }
@@ -0,0 +1,269 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ *
+ * Contributors:
+ *
+ * Maximillian Arruda
+ */
+
+package org.eclipse.jnosql.databases.dynamodb.communication;
+
+import org.eclipse.jnosql.communication.CommunicationException;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.ScanRequest;
+import software.amazon.awssdk.services.dynamodb.model.ScanResponse;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * A parallel Scan: {@link DynamoDBScanOptions#workers()} workers take the segments in order, one after the other,
+ * and offer their pages to a bounded queue, so a slow consumer holds the workers back instead of buffering the table
+ * in memory. The workers run on the bounded executor owned by the manager factory, see {@link #newExecutor()}, and
+ * they stop when the stream is closed, when it is exhausted, or when the consumer did not pull an item for
+ * {@link DynamoDBScanOptions#idleTimeout()}, so a stream that is abandoned without being closed does not keep the
+ * threads.
+ */
+final class DynamoDBParallelScan {
+
+    /**
+     * The maximum number of threads of the executor, shared by the concurrent scans of a factory.
+     */
+    static final int MAX_THREADS = 64;
+
+    /**
+     * How many pages each queue holds before the workers wait for the consumer.
+     */
+    private static final int PAGES_PER_SEGMENT = 2;
+
+    private static final long POLL_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+    private static final AtomicInteger THREADS = new AtomicInteger();
+
+    private static final Page END = new Page(List.of(), null);
+
+    private final DynamoDbClient client;
+
+    private final ScanRequest request;
+
+    private final int segments;
+
+    private final int workerCount;
+
+    private final boolean ordered;
+
+    private final ExecutorService executor;
+
+    private final long idleTimeoutNanos;
+
+    private final List<Future<?>> workers = new CopyOnWriteArrayList<>();
+
+    private final AtomicInteger nextSegment = new AtomicInteger();
+
+    private volatile boolean cancelled;
+
+    private volatile long lastPull = System.nanoTime();
+
+    DynamoDBParallelScan(DynamoDbClient client, ScanRequest request, DynamoDBScanOptions options,
+                         ExecutorService executor) {
+        this.client = client;
+        this.request = request;
+        this.segments = options.segments();
+        this.workerCount = options.workers();
+        this.ordered = options.ordered();
+        this.executor = Objects.requireNonNull(executor, "executor is required");
+        this.idleTimeoutNanos = options.idleTimeout().toNanos();
+    }
+
+    /**
+     * The executor of the workers: up to {@link #MAX_THREADS} threads, created on demand, shared by the scans, and
+     * released after a minute without work; the workers beyond that wait for a thread. It is shut down by its owner.
+     *
+     * @return a new executor
+     */
+    static ExecutorService newExecutor() {
+        var executor = new ThreadPoolExecutor(MAX_THREADS, MAX_THREADS, 1, TimeUnit.MINUTES,
+                new LinkedBlockingQueue<>(), runnable -> {
+            Thread thread = new Thread(runnable, "jnosql-dynamodb-parallel-scan-" + THREADS.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    /**
+     * Starts the workers and returns the items; closing the stream releases the workers when it is not fully
+     * consumed.
+     *
+     * @return the scanned items
+     */
+    Stream<Map<String, AttributeValue>> items() {
+        List<BlockingQueue<Page>> queues = queues();
+        for (int worker = 0; worker < workerCount; worker++) {
+            workers.add(executor.submit(() -> work(queues)));
+        }
+        var iterator = new ItemIterator(queues);
+        int characteristics = ordered ? Spliterator.ORDERED | Spliterator.NONNULL : Spliterator.NONNULL;
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, characteristics), false)
+                .onClose(this::cancel);
+    }
+
+    private void cancel() {
+        cancelled = true;
+        workers.forEach(worker -> worker.cancel(true));
+    }
+
+    private List<BlockingQueue<Page>> queues() {
+        if (ordered) {
+            return Stream.<BlockingQueue<Page>>generate(() -> new ArrayBlockingQueue<>(PAGES_PER_SEGMENT))
+                    .limit(segments)
+                    .toList();
+        }
+        return List.of(new ArrayBlockingQueue<>(PAGES_PER_SEGMENT * workerCount));
+    }
+
+    /**
+     * Takes the segments in order, so in order the segment the consumer waits for is always taken by a worker.
+     */
+    private void work(List<BlockingQueue<Page>> queues) {
+        for (int segment = nextSegment.getAndIncrement(); segment < segments && !cancelled;
+             segment = nextSegment.getAndIncrement()) {
+            if (!scan(segment, queues.get(ordered ? segment : 0))) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * @return false when the scan of the segment failed or the scan was cancelled
+     */
+    private boolean scan(int segment, BlockingQueue<Page> queue) {
+        var segmentRequest = request.toBuilder().segment(segment).totalSegments(segments).build();
+        try {
+            for (ScanResponse response : client.scanPaginator(segmentRequest)) {
+                if (response.hasItems() && !response.items().isEmpty() && !offer(queue, new Page(response.items(), null))) {
+                    return false;
+                }
+            }
+            return offer(queue, END);
+        } catch (RuntimeException exception) {
+            if (!cancelled) {
+                offer(queue, new Page(List.of(), exception));
+            }
+            return false;
+        }
+    }
+
+    /**
+     * @return false when the scan was cancelled, or when the consumer stopped pulling, then the scan is cancelled
+     */
+    private boolean offer(BlockingQueue<Page> queue, Page page) {
+        try {
+            while (!cancelled) {
+                if (queue.offer(page, POLL_NANOS, TimeUnit.NANOSECONDS)) {
+                    return true;
+                }
+                if (System.nanoTime() - lastPull > idleTimeoutNanos) {
+                    cancelled = true;
+                }
+            }
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+        return false;
+    }
+
+    private record Page(List<Map<String, AttributeValue>> items, RuntimeException error) {
+    }
+
+    private final class ItemIterator implements Iterator<Map<String, AttributeValue>> {
+
+        private final List<BlockingQueue<Page>> queues;
+
+        private Iterator<Map<String, AttributeValue>> page = Collections.emptyIterator();
+
+        private int finished;
+
+        private ItemIterator(List<BlockingQueue<Page>> queues) {
+            this.queues = queues;
+        }
+
+        @Override
+        public boolean hasNext() {
+            lastPull = System.nanoTime();
+            while (!page.hasNext()) {
+                if (finished == segments) {
+                    return false;
+                }
+                Page next = take();
+                if (next.error() != null) {
+                    cancel();
+                    throw next.error();
+                }
+                if (next == END) {
+                    finished++;
+                } else {
+                    page = next.items().iterator();
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public Map<String, AttributeValue> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return page.next();
+        }
+
+        private Page take() {
+            // in order the n-th segment is drained only when the previous ones ended
+            var queue = queues.get(ordered ? finished : 0);
+            try {
+                while (true) {
+                    Page next = queue.poll(POLL_NANOS, TimeUnit.NANOSECONDS);
+                    if (next != null) {
+                        return next;
+                    }
+                    if (cancelled) {
+                        throw new CommunicationException("The parallel scan of the table " + request.tableName()
+                                + " was cancelled, either it was closed or it was not consumed for "
+                                + Duration.ofNanos(idleTimeoutNanos));
+                    }
+                }
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                cancel();
+                throw new CommunicationException("Interrupted while waiting for the parallel scan", exception);
+            }
+        }
+    }
+}
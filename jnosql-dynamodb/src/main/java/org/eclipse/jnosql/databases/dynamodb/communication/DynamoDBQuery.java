@@ -18,18 +18,74 @@ package org.eclipse.jnosql.databases.dynamodb.communication;
 import org.eclipse.jnosql.communication.semistructured.SelectQuery;
 import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
 
+import java.util.List;
 import java.util.Map;
 import java.util.function.Supplier;
 
 public record DynamoDBQuery(String table,
                             String projectionExpression,
+                            String keyConditionExpression,
                             String filterExpression,
                             Map<String,String> expressionAttributeNames,
-                            Map<String, AttributeValue> expressionAttributeValues) {
+                            Map<String, AttributeValue> expressionAttributeValues,
+                            Integer limit,
+                            Boolean scanIndexForward,
+                            String indexName,
+                            boolean consistentRead) {
+
+    public DynamoDBQuery(String table,
+                         String projectionExpression,
+                         String filterExpression,
+                         Map<String, String> expressionAttributeNames,
+                         Map<String, AttributeValue> expressionAttributeValues) {
+        this(table, projectionExpression, null, filterExpression, expressionAttributeNames, expressionAttributeValues,
+                null, null, null, true);
+    }
+
+    /**
+     * @return true when the key condition is present, so it can be sent as a Query instead of a Scan
+     */
+    public boolean isQuery() {
+        return keyConditionExpression != null;
+    }
+
+    /**
+     * @return true when the sort of the select is the order of the RANGE key, so DynamoDB returns the items sorted
+     */
+    public boolean isSortedByKey() {
+        return scanIndexForward != null;
+    }
+
+    /**
+     * @return a description of how the select is executed, used on the log
+     */
+    public String plan() {
+        if (!isQuery()) {
+            return "Scan on " + table + " filtered by " + filterExpression;
+        }
+        return "Query on " + table + (indexName == null ? "" : " index " + indexName)
+                + " by " + keyConditionExpression
+                + (filterExpression == null ? "" : " filtered by " + filterExpression);
+    }
 
     public static Supplier<DynamoDBQuery> builderOf(String table,
                                                     String partitionKey,
                                                     SelectQuery query) {
-        return new DynamoDBQuerySelectBuilder(table, partitionKey, query);
+        return new DynamoDBQuerySelectBuilder(table, partitionKey, query, DynamoDBKeySchema.NONE, List.of());
+    }
+
+    static Supplier<DynamoDBQuery> builderOf(String table,
+                                             String partitionKey,
+                                             SelectQuery query,
+                                             DynamoDBKeySchema keySchema) {
+        return new DynamoDBQuerySelectBuilder(table, partitionKey, query, keySchema, List.of());
+    }
+
+    static Supplier<DynamoDBQuery> builderOf(String table,
+                                             String partitionKey,
+                                             SelectQuery query,
+                                             DynamoDBKeySchema keySchema,
+                                             List<DynamoDBIndexSchema> indexes) {
+        return new DynamoDBQuerySelectBuilder(table, partitionKey, query, keySchema, indexes);
     }
 }
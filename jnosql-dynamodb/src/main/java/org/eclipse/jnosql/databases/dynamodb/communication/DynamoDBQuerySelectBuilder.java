@@ -15,12 +15,20 @@
 
 package org.eclipse.jnosql.databases.dynamodb.communication;
 
+import org.eclipse.jnosql.communication.Condition;
+import org.eclipse.jnosql.communication.TypeReference;
 import org.eclipse.jnosql.communication.semistructured.CriteriaCondition;
 import org.eclipse.jnosql.communication.semistructured.Element;
 import org.eclipse.jnosql.communication.semistructured.SelectQuery;
 import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.ScalarAttributeType;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.eclipse.jnosql.databases.dynamodb.communication.DynamoDBConverter.toAttributeValue;
 
 class DynamoDBQuerySelectBuilder extends DynamoDBQueryBuilder {
 
@@ -30,33 +38,120 @@ class DynamoDBQuerySelectBuilder extends DynamoDBQueryBuilder {
 
     private final SelectQuery selectQuery;
 
+    private final DynamoDBKeySchema keySchema;
+
+    private final List<DynamoDBIndexSchema> indexes;
+
     public DynamoDBQuerySelectBuilder(String table,
                                       String partitionKey,
                                       SelectQuery selectQuery) {
+        this(table, partitionKey, selectQuery, DynamoDBKeySchema.NONE, List.of());
+    }
+
+    DynamoDBQuerySelectBuilder(String table,
+                               String partitionKey,
+                               SelectQuery selectQuery,
+                               DynamoDBKeySchema keySchema,
+                               List<DynamoDBIndexSchema> indexes) {
         this.table = table;
         this.partitionKey = partitionKey;
         this.selectQuery = selectQuery;
+        this.keySchema = keySchema;
+        this.indexes = indexes;
     }
 
+    /**
+     * Sends a Query to the table when the conditions pin its HASH key; otherwise to the secondary index whose HASH
+     * key is pinned and that holds every attribute the select needs, preferring the one that also narrows its RANGE
+     * key. Falls back to a Scan when neither the table nor an index matches.
+     */
     @Override
     public DynamoDBQuery get() {
 
+        List<CriteriaCondition> conditions = new ArrayList<>();
+        conditions.add(CriteriaCondition.eq(Element.of(partitionKey, selectQuery.name())));
+        this.selectQuery.condition().ifPresent(c -> conjunctions(c, conditions));
+
+        var keyConditions = keyConditions(conditions, keySchema);
+        if (!keyConditions.isEmpty()) {
+            return query(conditions, keyConditions, keySchema, null, true);
+        }
+
+        List<String> attributes = new ArrayList<>();
+        conditions.forEach(c -> attributes(c, attributes));
+        DynamoDBIndexSchema index = null;
+        for (DynamoDBIndexSchema candidate : indexes) {
+            if (!candidate.covers(selectQuery.columns(), attributes)) {
+                continue;
+            }
+            var candidateKeyConditions = keyConditions(conditions, candidate.keySchema());
+            if (candidateKeyConditions.size() > keyConditions.size()) {
+                index = candidate;
+                keyConditions = candidateKeyConditions;
+            }
+        }
+        if (index != null) {
+            return query(conditions, keyConditions, index.keySchema(), index.indexName(), !index.global());
+        }
+        return scan(conditions);
+    }
+
+    private DynamoDBQuery query(List<CriteriaCondition> conditions,
+                                List<CriteriaCondition> keyConditions,
+                                DynamoDBKeySchema schema,
+                                String indexName,
+                                boolean consistentRead) {
+        var filterConditions = new ArrayList<>(conditions);
+        keyConditions.forEach(c -> filterConditions.removeIf(f -> f == c));
+
+        var keyConditionExpression = new StringBuilder();
         var filterExpression = new StringBuilder();
         var expressionAttributeNames = new HashMap<String, String>();
         var expressionAttributeValues = new HashMap<String, AttributeValue>();
 
-        super.condition(
-                CriteriaCondition.eq(Element.of(partitionKey, selectQuery.name())),
-                filterExpression, expressionAttributeNames, expressionAttributeValues);
+        append(keyConditions, keyConditionExpression, expressionAttributeNames, expressionAttributeValues);
+        append(filterConditions, filterExpression, expressionAttributeNames, expressionAttributeValues);
+
+        var scanIndexForward = scanIndexForward(schema);
+        var sorted = selectQuery.sorts().isEmpty() || scanIndexForward != null;
+        return new DynamoDBQuery(
+                table,
+                projectionExpression(),
+                keyConditionExpression.toString(),
+                filterExpression.isEmpty() ? null : filterExpression.toString(),
+                expressionAttributeNames,
+                expressionAttributeValues,
+                filterExpression.isEmpty() && sorted ? limit() : null,
+                scanIndexForward,
+                indexName,
+                consistentRead);
+    }
+
+    /**
+     * The Limit of DynamoDB is the number of items evaluated per page, before the filter expression; so it is
+     * only pushed down when there is no filter and no sort to do in memory, then the first page holds skip + limit items.
+     */
+    private Integer limit() {
+        if (selectQuery.limit() <= 0) {
+            return null;
+        }
+        return (int) Math.min(Integer.MAX_VALUE, selectQuery.limit() + Math.max(0, selectQuery.skip()));
+    }
+
+    private Boolean scanIndexForward(DynamoDBKeySchema schema) {
+        var sorts = selectQuery.sorts();
+        if (sorts.size() == 1 && schema.isRangeKey(sorts.get(0).property())) {
+            return sorts.get(0).isAscending();
+        }
+        return null;
+    }
 
-        this.selectQuery.condition().ifPresent(c -> {
-            filterExpression.append(" AND ");
-            super.condition(c,
-                    filterExpression,
-                    expressionAttributeNames,
-                    expressionAttributeValues);
-        });
+    private DynamoDBQuery scan(List<CriteriaCondition> conditions) {
+        var filterExpression = new StringBuilder();
+        var expressionAttributeNames = new HashMap<String, String>();
+        var expressionAttributeValues = new HashMap<String, AttributeValue>();
 
+        append(conditions, filterExpression, expressionAttributeNames, expressionAttributeValues);
 
         return new DynamoDBQuery(
                 table,
@@ -66,6 +161,104 @@ class DynamoDBQuerySelectBuilder extends DynamoDBQueryBuilder {
                 expressionAttributeValues);
     }
 
+    private void append(List<CriteriaCondition> conditions,
+                        StringBuilder expression,
+                        Map<String, String> expressionAttributeNames,
+                        Map<String, AttributeValue> expressionAttributeValues) {
+        for (CriteriaCondition condition : conditions) {
+            if (!expression.isEmpty()) {
+                expression.append(" AND ");
+            }
+            boolean grouped = conditions.size() > 1 && condition.condition() == Condition.OR;
+            if (grouped) {
+                expression.append('(');
+            }
+            super.condition(condition, expression, expressionAttributeNames, expressionAttributeValues);
+            if (grouped) {
+                expression.append(')');
+            }
+        }
+    }
+
+    /**
+     * @return the HASH key equality and the first RANGE key condition of the schema, empty when the HASH key is not
+     * pinned or when a remaining condition references a key attribute, which DynamoDB refuses on the filter
+     */
+    private static List<CriteriaCondition> keyConditions(List<CriteriaCondition> conditions, DynamoDBKeySchema schema) {
+        var hashKeyCondition = conditions.stream().filter(c -> isHashKeyCondition(c, schema)).findFirst();
+        if (hashKeyCondition.isEmpty()) {
+            return List.of();
+        }
+        List<CriteriaCondition> keyConditions = conditions.stream()
+                .filter(c -> isRangeKeyCondition(c, schema))
+                .findFirst()
+                .map(rangeKeyCondition -> List.of(hashKeyCondition.get(), rangeKeyCondition))
+                .orElseGet(() -> List.of(hashKeyCondition.get()));
+        boolean keyOnFilter = conditions.stream()
+                .filter(c -> keyConditions.stream().noneMatch(k -> k == c))
+                .anyMatch(c -> hasKeyAttribute(c, schema));
+        return keyOnFilter ? List.of() : keyConditions;
+    }
+
+    private static boolean isHashKeyCondition(CriteriaCondition condition, DynamoDBKeySchema schema) {
+        var element = condition.element();
+        return Condition.EQUALS.equals(condition.condition())
+                && schema.isHashKey(element.name())
+                && matches(element.get(), schema.hashKeyType());
+    }
+
+    private static boolean isRangeKeyCondition(CriteriaCondition condition, DynamoDBKeySchema schema) {
+        var element = condition.element();
+        if (!schema.isRangeKey(element.name())) {
+            return false;
+        }
+        return switch (condition.condition()) {
+            case EQUALS, GREATER_THAN, LESSER_THAN, GREATER_EQUALS_THAN, LESSER_EQUALS_THAN ->
+                    matches(element.get(), schema.rangeKeyType());
+            case LIKE -> !ScalarAttributeType.N.equals(schema.rangeKeyType())
+                    && matches(element.get(), schema.rangeKeyType());
+            case BETWEEN -> {
+                List<Object> values = new ArrayList<>();
+                ((Iterable<?>) element.get()).forEach(values::add);
+                yield values.size() == 2 && values.stream().allMatch(v -> matches(v, schema.rangeKeyType()));
+            }
+            default -> false;
+        };
+    }
+
+    private static boolean hasKeyAttribute(CriteriaCondition condition, DynamoDBKeySchema schema) {
+        var element = condition.element();
+        return switch (condition.condition()) {
+            case AND, OR -> element.get(new TypeReference<List<CriteriaCondition>>() {
+            }).stream().anyMatch(c -> hasKeyAttribute(c, schema));
+            case NOT -> hasKeyAttribute(element.get(CriteriaCondition.class), schema);
+            default -> schema.isKey(element.name());
+        };
+    }
+
+    private static void attributes(CriteriaCondition condition, List<String> attributes) {
+        var element = condition.element();
+        switch (condition.condition()) {
+            case AND, OR -> element.get(new TypeReference<List<CriteriaCondition>>() {
+            }).forEach(c -> attributes(c, attributes));
+            case NOT -> attributes(element.get(CriteriaCondition.class), attributes);
+            default -> attributes.add(element.name());
+        }
+    }
+
+    private static void conjunctions(CriteriaCondition condition, List<CriteriaCondition> conditions) {
+        if (Condition.AND.equals(condition.condition())) {
+            condition.element().get(new TypeReference<List<CriteriaCondition>>() {
+            }).forEach(c -> conjunctions(c, conditions));
+        } else {
+            conditions.add(condition);
+        }
+    }
+
+    private static boolean matches(Object value, ScalarAttributeType type) {
+        return type != null && value != null && type.name().equals(toAttributeValue(value).type().name());
+    }
+
     String projectionExpression() {
         var columns = selectQuery.columns();
         if (columns.isEmpty()) {
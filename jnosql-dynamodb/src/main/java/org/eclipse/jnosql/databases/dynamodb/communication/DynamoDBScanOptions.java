@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ *
+ * Contributors:
+ *
+ * Maximillian Arruda
+ */
+
+package org.eclipse.jnosql.databases.dynamodb.communication;
+
+import org.eclipse.jnosql.communication.Settings;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * How a select that cannot be sent as a Query scans the table. With more than one segment the table is read
+ * by a parallel Scan: a bounded number of workers take the segments one after the other and the results are merged
+ * into a single stream. The defaults come from {@link DynamoDBConfigurations#SCAN_SEGMENTS},
+ * {@link DynamoDBConfigurations#SCAN_WORKERS}, {@link DynamoDBConfigurations#SCAN_ORDERED} and
+ * {@link DynamoDBConfigurations#SCAN_IDLE_TIMEOUT}.
+ *
+ * @param segments    the number of segments, the {@code TotalSegments} of the Scan; one means a sequential Scan
+ * @param workers     how many segments are read concurrently, at most the number of segments
+ * @param ordered     when true the items are returned segment by segment, otherwise in the order the pages arrive
+ * @param idleTimeout how long the workers wait for the consumer to pull an item before giving up the scan
+ */
+public record DynamoDBScanOptions(int segments, int workers, boolean ordered, Duration idleTimeout) {
+
+    /**
+     * The upper bound of the segments of a parallel Scan.
+     */
+    public static final int MAX_SEGMENTS = 1_024;
+
+    /**
+     * The number of workers of a parallel Scan when it is not set, if there are at least as many segments.
+     */
+    public static final int DEFAULT_WORKERS = 8;
+
+    /**
+     * The idle timeout when it is not set.
+     */
+    public static final Duration DEFAULT_IDLE_TIMEOUT = Duration.ofMinutes(1);
+
+    private static final DynamoDBScanOptions SEQUENTIAL = new DynamoDBScanOptions(1, 1, true, DEFAULT_IDLE_TIMEOUT);
+
+    public DynamoDBScanOptions {
+        if (segments < 1 || segments > MAX_SEGMENTS) {
+            throw new IllegalArgumentException("The scan segments must be between 1 and " + MAX_SEGMENTS + ": " + segments);
+        }
+        if (workers < 1 || workers > segments) {
+            throw new IllegalArgumentException("The scan workers must be between 1 and the " + segments
+                    + " segments: " + workers);
+        }
+        Objects.requireNonNull(idleTimeout, "idleTimeout is required");
+        if (idleTimeout.isNegative() || idleTimeout.isZero()) {
+            throw new IllegalArgumentException("The scan idle timeout must be positive: " + idleTimeout);
+        }
+    }
+
+    /**
+     * @return the options of a sequential Scan
+     */
+    public static DynamoDBScanOptions sequential() {
+        return SEQUENTIAL;
+    }
+
+    /**
+     * Returns the options of a parallel Scan that returns the items in the order the pages arrive, read by
+     * {@link #DEFAULT_WORKERS} workers at most
+     *
+     * @param segments the number of segments
+     * @return a new instance
+     * @throws IllegalArgumentException when segments is lesser than one or greater than {@link #MAX_SEGMENTS}
+     */
+    public static DynamoDBScanOptions parallel(int segments) {
+        return new DynamoDBScanOptions(segments, defaultWorkers(segments), false, DEFAULT_IDLE_TIMEOUT);
+    }
+
+    /**
+     * @return a copy that returns the items segment by segment
+     */
+    public DynamoDBScanOptions inOrder() {
+        return new DynamoDBScanOptions(segments, workers, true, idleTimeout);
+    }
+
+    /**
+     * @param workers how many segments are read concurrently
+     * @return a copy with the given workers
+     * @throws IllegalArgumentException when workers is lesser than one or greater than the segments
+     */
+    public DynamoDBScanOptions withWorkers(int workers) {
+        return new DynamoDBScanOptions(segments, workers, ordered, idleTimeout);
+    }
+
+    /**
+     * @param idleTimeout how long the workers wait for the consumer to pull an item
+     * @return a copy with the given idle timeout
+     * @throws NullPointerException     when idleTimeout is null
+     * @throws IllegalArgumentException when idleTimeout is not positive
+     */
+    public DynamoDBScanOptions withIdleTimeout(Duration idleTimeout) {
+        return new DynamoDBScanOptions(segments, workers, ordered, idleTimeout);
+    }
+
+    /**
+     * @return true when the scan has more than one segment
+     */
+    public boolean isParallel() {
+        return segments > 1;
+    }
+
+    static DynamoDBScanOptions of(Settings settings) {
+        int segments = settings.get(DynamoDBConfigurations.SCAN_SEGMENTS, Integer.class).orElse(1);
+        int workers = settings.get(DynamoDBConfigurations.SCAN_WORKERS, Integer.class)
+                .orElse(defaultWorkers(segments));
+        boolean ordered = settings.get(DynamoDBConfigurations.SCAN_ORDERED, Boolean.class).orElse(false);
+        Duration idleTimeout = settings.get(DynamoDBConfigurations.SCAN_IDLE_TIMEOUT, Long.class)
+                .map(Duration::ofSeconds)
+                .orElse(DEFAULT_IDLE_TIMEOUT);
+        return new DynamoDBScanOptions(segments, workers, ordered, idleTimeout);
+    }
+
+    private static int defaultWorkers(int segments) {
+        return Math.max(1, Math.min(segments, DEFAULT_WORKERS));
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ *
+ * Contributors:
+ *
+ * Maximillian Arruda
+ */
+
+package org.eclipse.jnosql.databases.dynamodb.communication;
+
+import jakarta.data.Sort;
+import org.eclipse.jnosql.communication.semistructured.CommunicationEntity;
+import org.eclipse.jnosql.communication.semistructured.Element;
+
+import java.math.BigDecimal;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Sorts the entities in memory when the sort of the select can not be done by DynamoDB, that only returns the items
+ * of a Query ordered by the RANGE key.
+ */
+final class DynamoDBSorts {
+
+    private static final Comparator<Object> VALUES = Comparator.nullsLast(DynamoDBSorts::compareValues);
+
+    private DynamoDBSorts() {
+    }
+
+    static Comparator<CommunicationEntity> comparator(List<Sort<?>> sorts) {
+        Comparator<CommunicationEntity> comparator = (first, second) -> 0;
+        for (Sort<?> sort : sorts) {
+            Comparator<CommunicationEntity> bySort = Comparator.comparing(entity -> value(entity, sort.property()),
+                    sort.isAscending() ? VALUES : VALUES.reversed());
+            comparator = comparator.thenComparing(bySort);
+        }
+        return comparator;
+    }
+
+    private static Object value(CommunicationEntity entity, String property) {
+        return entity.find(property).map(Element::get).orElse(null);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static int compareValues(Object first, Object second) {
+        if (first instanceof Number number && second instanceof Number other) {
+            try {
+                return new BigDecimal(number.toString()).compareTo(new BigDecimal(other.toString()));
+            } catch (NumberFormatException exception) {
+                return Double.compare(number.doubleValue(), other.doubleValue());
+            }
+        }
+        if (first instanceof Comparable comparable && first.getClass().isInstance(second)) {
+            return comparable.compareTo(second);
+        }
+        return first.toString().compareTo(second.toString());
+    }
+}
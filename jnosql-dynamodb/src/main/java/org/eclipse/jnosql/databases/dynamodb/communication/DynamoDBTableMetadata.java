@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ *
+ * Contributors:
+ *
+ * Maximillian Arruda
+ */
+
+package org.eclipse.jnosql.databases.dynamodb.communication;
+
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.KeySchemaElement;
+import software.amazon.awssdk.services.dynamodb.model.TableDescription;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * What the manager needs to know about a table: the key schema, the attribute names that compose the key of an
+ * item, the TTL attribute and the secondary indexes.
+ *
+ * @param table            the table description
+ * @param keySchema        the HASH and RANGE key of the table
+ * @param keyAttributes    the attribute names of the primary key, in the key schema order
+ * @param indexes          the global and local secondary indexes
+ * @param ttlAttributeName the TTL attribute name, null when TTL is not enabled on the table
+ */
+record DynamoDBTableMetadata(TableDescription table,
+                             DynamoDBKeySchema keySchema,
+                             List<String> keyAttributes,
+                             List<DynamoDBIndexSchema> indexes,
+                             String ttlAttributeName) {
+
+    static DynamoDBTableMetadata of(TableDescription table, String ttlAttributeName) {
+        Objects.requireNonNull(table, "table is required");
+        return new DynamoDBTableMetadata(table,
+                DynamoDBKeySchema.of(table),
+                table.keySchema().stream().map(KeySchemaElement::attributeName).toList(),
+                DynamoDBIndexSchema.of(table),
+                ttlAttributeName);
+    }
+
+    String tableName() {
+        return table.tableName();
+    }
+
+    Optional<String> ttlAttribute() {
+        return Optional.ofNullable(ttlAttributeName);
+    }
+
+    /**
+     * @param item the item, or the projection of its key attributes
+     * @return the primary key of the item
+     */
+    Map<String, AttributeValue> keyOf(Map<String, AttributeValue> item) {
+        Map<String, AttributeValue> key = new HashMap<>(keyAttributes.size() * 2);
+        for (String attribute : keyAttributes) {
+            key.put(attribute, item.get(attribute));
+        }
+        return key;
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ *
+ * Contributors:
+ *
+ * Maximillian Arruda
+ */
+
+package org.eclipse.jnosql.databases.dynamodb.communication;
+
+import org.eclipse.jnosql.communication.Settings;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Caches the {@link DynamoDBTableMetadata} per table name. An entry is loaded once and reloaded on the first access
+ * after {@code refreshAfter}, so a schema change done outside the application is eventually seen; an entry can also
+ * be dropped explicitly, e.g. when the table is deleted or recreated. When a reload fails the cached entry is kept,
+ * and reloaded again after {@code refreshAfter}; only a table without a cached entry reports the error.
+ */
+final class DynamoDBTableMetadataCache {
+
+    private static final Logger LOGGER = Logger.getLogger(DynamoDBTableMetadataCache.class.getName());
+
+    static final Duration DEFAULT_REFRESH = Duration.ofMinutes(5);
+
+    private final ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<>();
+
+    private final Function<String, DynamoDBTableMetadata> loader;
+
+    private final long refreshAfterNanos;
+
+    private final LongSupplier nanoTime;
+
+    DynamoDBTableMetadataCache(Function<String, DynamoDBTableMetadata> loader, Duration refreshAfter, LongSupplier nanoTime) {
+        this.loader = Objects.requireNonNull(loader, "loader is required");
+        Objects.requireNonNull(refreshAfter, "refreshAfter is required");
+        if (refreshAfter.isNegative()) {
+            throw new IllegalArgumentException("The table metadata refresh must not be negative: " + refreshAfter);
+        }
+        this.refreshAfterNanos = refreshAfter.toNanos();
+        this.nanoTime = Objects.requireNonNull(nanoTime, "nanoTime is required");
+    }
+
+    static DynamoDBTableMetadataCache of(Function<String, DynamoDBTableMetadata> loader, Settings settings) {
+        Duration refresh = settings.get(DynamoDBConfigurations.TABLE_METADATA_REFRESH, Long.class)
+                .map(Duration::ofSeconds)
+                .orElse(DEFAULT_REFRESH);
+        return new DynamoDBTableMetadataCache(loader, refresh, System::nanoTime);
+    }
+
+    /**
+     * @param tableName the table name
+     * @return the cached metadata, loaded when it is absent or older than the refresh interval
+     */
+    DynamoDBTableMetadata get(String tableName) {
+        return get(tableName, loader);
+    }
+
+    /**
+     * @param tableName the table name
+     * @param loader    the loader used instead of the default one when the entry has to be loaded,
+     *                  e.g. one that creates the table when it does not exist
+     * @return the cached metadata, loaded when it is absent or older than the refresh interval
+     */
+    DynamoDBTableMetadata get(String tableName, Function<String, DynamoDBTableMetadata> loader) {
+        Objects.requireNonNull(tableName, "tableName is required");
+        Objects.requireNonNull(loader, "loader is required");
+        long now = nanoTime.getAsLong();
+        Entry cached = entries.get(tableName);
+        if (cached != null && now - cached.loadedAt() < refreshAfterNanos) {
+            return cached.metadata();
+        }
+        return entries.compute(tableName, (name, entry) -> {
+            if (entry != null && now - entry.loadedAt() < refreshAfterNanos) {
+                return entry;
+            }
+            try {
+                return new Entry(loader.apply(name), now);
+            } catch (RuntimeException exception) {
+                if (entry == null) {
+                    throw exception;
+                }
+                LOGGER.log(Level.WARNING, exception, () -> "The metadata of the table " + name
+                        + " could not be refreshed, the cached one is kept");
+                return new Entry(entry.metadata(), now);
+            }
+        }).metadata();
+    }
+
+    /**
+     * @param tableName the table name
+     * @return the cached metadata, even when it is due for a refresh, without loading it
+     */
+    Optional<DynamoDBTableMetadata> cached(String tableName) {
+        Objects.requireNonNull(tableName, "tableName is required");
+        return Optional.ofNullable(entries.get(tableName)).map(Entry::metadata);
+    }
+
+    void invalidate(String tableName) {
+        Objects.requireNonNull(tableName, "tableName is required");
+        entries.remove(tableName);
+    }
+
+    void invalidateAll() {
+        entries.clear();
+    }
+
+    private record Entry(DynamoDBTableMetadata metadata, long loadedAt) {
+    }
+}
@@ -20,6 +20,7 @@ import org.eclipse.jnosql.communication.driver.JsonbSupplier;
 import org.eclipse.jnosql.communication.keyvalue.KeyValueEntity;
 import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
 import software.amazon.awssdk.services.dynamodb.model.BatchGetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.DeleteRequest;
 import software.amazon.awssdk.services.dynamodb.model.GetItemRequest;
 import software.amazon.awssdk.services.dynamodb.model.KeysAndAttributes;
 import software.amazon.awssdk.services.dynamodb.model.PutRequest;
@@ -28,6 +29,7 @@ import software.amazon.awssdk.services.dynamodb.model.WriteRequest;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
@@ -39,7 +41,6 @@ import static org.eclipse.jnosql.databases.dynamodb.communication.ConfigurationA
 
 public class DynamoDBUtils {
 
-    private static final AttributeValue.Builder attributeValueBuilder = AttributeValue.builder();
     private static final Jsonb JSONB = JsonbSupplier.getInstance().get();
 
     private DynamoDBUtils() {
@@ -50,14 +51,14 @@ public class DynamoDBUtils {
         Map<String, AttributeValue> createAttributeValues = createKeyAttributeValues(key);
         String valueAsJson = JSONB.toJson(value);
 
-        AttributeValue valueAttributeValue = attributeValueBuilder.s(valueAsJson).build();
+        AttributeValue valueAttributeValue = AttributeValue.builder().s(valueAsJson).build();
         createAttributeValues.put(VALUE, valueAttributeValue);
         return createAttributeValues;
     }
 
     public static <K, V> Map<String, AttributeValue> createKeyAttributeValues(K key) {
         Map<String, AttributeValue> map = new HashMap<>();
-        AttributeValue keyAttributeValue = attributeValueBuilder.s(key.toString()).build();
+        AttributeValue keyAttributeValue = AttributeValue.builder().s(key.toString()).build();
         map.put(KEY, keyAttributeValue);
 
         return map;
@@ -65,7 +66,7 @@ public class DynamoDBUtils {
 
     public static <K, V> Collection<Map<String, AttributeValue>> createKeyAttributeValues(Iterable<K> keys) {
         return StreamSupport.stream(keys.spliterator(), false).map(
-                k -> Collections.singletonMap(KEY, attributeValueBuilder.s(k.toString()).build())
+                k -> Collections.singletonMap(KEY, AttributeValue.builder().s(k.toString()).build())
         ).collect(Collectors.toList());
     }
 
@@ -100,11 +101,31 @@ public class DynamoDBUtils {
         return createMapWriteRequest(attributeValues, tableName);
     }
 
+    /**
+     * Creates the put requests of the entities, when the same key shows up more than once the last value wins,
+     * since a BatchWriteItem request cannot have the same key twice.
+     */
+    static Collection<WriteRequest> createPutWriteRequests(Iterable<KeyValueEntity> entities) {
+        Map<String, WriteRequest> requests = new LinkedHashMap<>();
+        entities.forEach(entity -> requests.put(entity.key().toString(), WriteRequest.builder()
+                .putRequest(PutRequest.builder().item(createAttributeValues(entity)).build())
+                .build()));
+        return requests.values();
+    }
+
+    static <K> Collection<WriteRequest> createDeleteWriteRequests(Iterable<K> keys) {
+        Map<String, WriteRequest> requests = new LinkedHashMap<>();
+        keys.forEach(key -> requests.put(key.toString(), WriteRequest.builder()
+                .deleteRequest(DeleteRequest.builder().key(createKeyAttributeValues(key)).build())
+                .build()));
+        return requests.values();
+    }
+
     public static <K> Map<String, AttributeValue> create(Iterable<K> keys) {
 
         Map<String, AttributeValue> map = StreamSupport.stream(keys.spliterator(), false)
                 .map(Object::toString)
-                .collect(Collectors.toMap(Function.identity(), k -> attributeValueBuilder.s(k).build()));
+                .collect(Collectors.toMap(Function.identity(), k -> AttributeValue.builder().s(k).build()));
 
         return Collections.unmodifiableMap(map);
     }
@@ -92,6 +92,27 @@ public final class DynamoTableUtils {
         return Collections.singletonMap(ConfigurationAmazonEntity.KEY, ScalarAttributeType.S);
     }
 
+    /**
+     * Creates the request of a table that follows the single table strategy of the document API:
+     * the entity name attribute as the HASH key and the {@code id} as the RANGE key.
+     *
+     * @param tableName           the table name
+     * @param entityAttributeName the attribute name that holds the entity name
+     * @return the create table request
+     */
+    static CreateTableRequest createEntityTableRequest(String tableName, String entityAttributeName) {
+        return CreateTableRequest.builder()
+                .tableName(tableName)
+                .keySchema(
+                        KeySchemaElement.builder().attributeName(entityAttributeName).keyType(KeyType.HASH).build(),
+                        KeySchemaElement.builder().attributeName(DynamoDBConverter.ID).keyType(KeyType.RANGE).build())
+                .attributeDefinitions(
+                        AttributeDefinition.builder().attributeName(entityAttributeName).attributeType(ScalarAttributeType.S).build(),
+                        AttributeDefinition.builder().attributeName(DynamoDBConverter.ID).attributeType(ScalarAttributeType.S).build())
+                .provisionedThroughput(createProvisionedThroughput(null, null))
+                .build();
+    }
+
     public static void manageTables(String tableName, DynamoDbClient client, Long readCapacityUnits, Long writeCapacityUnit) {
 
         boolean hasTable = false;
@@ -51,4 +51,13 @@ class DefaultDynamoDBDatabaseManagerFactoryTest {
         });
     }
 
+    @Test
+    void shouldCreateAsyncDocumentManager() {
+        var documentManager = ((DynamoDBDatabaseManagerFactory) databaseManagerFactory).async("anydatabase");
+        assertSoftly(softly -> {
+            softly.assertThat(documentManager).isNotNull();
+            softly.assertThat(documentManager.name()).isEqualTo("anydatabase");
+        });
+    }
+
 }
@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ *
+ * Contributors:
+ *
+ * Maximillian Arruda
+ */
+
+package org.eclipse.jnosql.databases.dynamodb.communication;
+
+import org.eclipse.jnosql.communication.Settings;
+import org.eclipse.jnosql.communication.semistructured.CommunicationEntity;
+import org.eclipse.jnosql.mapping.core.config.MappingConfigurations;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.reactivestreams.Publisher;
+import software.amazon.awssdk.core.async.SdkPublisher;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.DeleteTableRequest;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+import static org.eclipse.jnosql.communication.driver.IntegrationTest.MATCHES;
+import static org.eclipse.jnosql.communication.driver.IntegrationTest.NAMED;
+import static org.eclipse.jnosql.communication.semistructured.DeleteQuery.delete;
+import static org.eclipse.jnosql.communication.semistructured.SelectQuery.select;
+import static org.eclipse.jnosql.databases.dynamodb.communication.CommunicationEntityGenerator.createRandomEntity;
+import static org.eclipse.jnosql.databases.dynamodb.communication.DynamoDBConverter.ID;
+import static org.eclipse.jnosql.databases.dynamodb.communication.DynamoDBTestUtils.CONFIG;
+
+@EnabledIfSystemProperty(named = NAMED, matches = MATCHES)
+class DynamoDBAsyncDatabaseManagerTest {
+
+    private DynamoDbClient dynamoDbClient;
+
+    private DynamoDBDatabaseManagerFactory factory;
+
+    private DynamoDBAsyncDatabaseManager manager;
+
+    @BeforeEach
+    void setUp() {
+        var settings = CONFIG.customSetting(Settings.builder()
+                .put(DynamoDBConfigurations.CREATE_TABLES, "true"));
+        dynamoDbClient = CONFIG.getDynamoDbClient(settings);
+        tearDown();
+        factory = CONFIG.getDocumentManagerFactory(settings);
+        manager = factory.async(settings.get(MappingConfigurations.DOCUMENT_DATABASE, String.class).orElseThrow());
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (factory != null) {
+            factory.close();
+        }
+        dynamoDbClient.listTables()
+                .tableNames()
+                .forEach(tableName ->
+                        dynamoDbClient.deleteTable(DeleteTableRequest.builder().tableName(tableName).build())
+                );
+    }
+
+    @Test
+    void shouldInsertAndSelect() {
+        var entity = createRandomEntity();
+        var id = entity.find(ID, String.class).orElseThrow();
+
+        var inserted = manager.insert(entity).join();
+        var entities = collect(manager.select(select().from(entity.name()).where(ID).eq(id).build()));
+
+        assertSoftly(softly -> {
+            softly.assertThat(inserted).isSameAs(entity);
+            softly.assertThat(entities).hasSize(1);
+            softly.assertThat(entities.get(0).find(ID, String.class)).contains(id);
+        });
+    }
+
+    @Test
+    void shouldInsertIterableAndDelete() {
+        var entities = List.of(createRandomEntity(), createRandomEntity(), createRandomEntity());
+        var entityType = entities.get(0).name();
+
+        var inserted = manager.insert(entities).join();
+        var countAfterInsert = collect(manager.select(select().from(entityType).build())).size();
+
+        manager.delete(delete().from(entityType).build()).join();
+        var countAfterDelete = collect(manager.select(select().from(entityType).build())).size();
+
+        assertSoftly(softly -> {
+            softly.assertThat(inserted).hasSize(3);
+            softly.assertThat(countAfterInsert).isEqualTo(3);
+            softly.assertThat(countAfterDelete).isZero();
+        });
+    }
+
+    @Test
+    void shouldSelectSortedWithSkipAndLimit() {
+        var entities = List.of(createRandomEntity(), createRandomEntity(), createRandomEntity(), createRandomEntity());
+        var entityType = entities.get(0).name();
+        manager.insert(entities).join();
+        var expected = entities.stream()
+                .map(entity -> entity.find(ID, String.class).orElseThrow())
+                .sorted()
+                .skip(1)
+                .limit(2)
+                .toList();
+
+        var selected = collect(manager.select(select().from(entityType).orderBy(ID).asc().skip(1).limit(2).build()));
+
+        assertSoftly(softly -> softly.assertThat(selected)
+                .map(entity -> entity.find(ID, String.class).orElseThrow())
+                .containsExactlyElementsOf(expected));
+    }
+
+    @Test
+    void shouldUpdate() {
+        var entity = createRandomEntity();
+        manager.insert(entity).join();
+        entity.add("name", "updated");
+
+        manager.update(entity).join();
+
+        var id = entity.find(ID, String.class).orElseThrow();
+        var entities = collect(manager.select(select().from(entity.name()).where(ID).eq(id).build()));
+        assertSoftly(softly -> softly.assertThat(entities.get(0).find("name", String.class)).contains("updated"));
+    }
+
+    @Test
+    void shouldReturnZeroWhenTableDoesNotExist() {
+        assertSoftly(softly -> softly.assertThat(manager.count("unknown").join()).isZero());
+    }
+
+    private static List<CommunicationEntity> collect(Publisher<CommunicationEntity> publisher) {
+        List<CommunicationEntity> entities = Collections.synchronizedList(new ArrayList<>());
+        SdkPublisher.adapt(publisher).subscribe(entities::add).join();
+        return entities;
+    }
+}
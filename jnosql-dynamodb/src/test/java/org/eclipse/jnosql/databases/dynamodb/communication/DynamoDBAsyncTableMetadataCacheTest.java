@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ *
+ * Contributors:
+ *
+ * Maximillian Arruda
+ */
+
+package org.eclipse.jnosql.databases.dynamodb.communication;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.dynamodb.model.AttributeDefinition;
+import software.amazon.awssdk.services.dynamodb.model.KeySchemaElement;
+import software.amazon.awssdk.services.dynamodb.model.KeyType;
+import software.amazon.awssdk.services.dynamodb.model.ResourceNotFoundException;
+import software.amazon.awssdk.services.dynamodb.model.ScalarAttributeType;
+import software.amazon.awssdk.services.dynamodb.model.TableDescription;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+import static org.eclipse.jnosql.databases.dynamodb.communication.DynamoDBConverter.ENTITY;
+import static org.eclipse.jnosql.databases.dynamodb.communication.DynamoDBConverter.ID;
+
+class DynamoDBAsyncTableMetadataCacheTest {
+
+    private final AtomicLong now = new AtomicLong();
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private DynamoDBAsyncTableMetadataCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new DynamoDBAsyncTableMetadataCache(this::load, Duration.ofSeconds(10), now::get);
+    }
+
+    @Test
+    void shouldShareTheFutureOfATable() {
+        var first = cache.get("person");
+        var second = cache.get("person");
+
+        assertSoftly(softly -> {
+            softly.assertThat(second).isSameAs(first);
+            softly.assertThat(loads).hasValue(1);
+            softly.assertThat(first.join().keyAttributes()).containsExactly(ENTITY, ID);
+        });
+    }
+
+    @Test
+    void shouldReloadAfterRefreshIntervalAndInvalidation() {
+        cache.get("person");
+        now.addAndGet(Duration.ofSeconds(10).toNanos());
+        cache.get("person");
+        var loadsAfterRefresh = loads.get();
+        cache.invalidate("person");
+        cache.get("person");
+        var loadsAfterInvalidate = loads.get();
+        cache.invalidateAll();
+        cache.get("person");
+
+        assertSoftly(softly -> {
+            softly.assertThat(loadsAfterRefresh).isEqualTo(2);
+            softly.assertThat(loadsAfterInvalidate).isEqualTo(3);
+            softly.assertThat(loads).hasValue(4);
+        });
+    }
+
+    @Test
+    void shouldDropAFailedLoad() {
+        var failed = cache.get("person", name -> {
+            loads.incrementAndGet();
+            return CompletableFuture.failedFuture(ResourceNotFoundException.builder().message(name).build());
+        });
+        var loaded = cache.get("person");
+
+        assertSoftly(softly -> {
+            softly.assertThat(failed).isCompletedExceptionally();
+            softly.assertThat(loaded).isCompleted();
+            softly.assertThat(loads).hasValue(2);
+        });
+    }
+
+    @Test
+    void shouldKeepTheCachedMetadataWhenTheRefreshFails() {
+        var cached = cache.get("person").join();
+        now.addAndGet(Duration.ofSeconds(10).toNanos());
+        var refreshed = cache.get("person", name -> {
+            loads.incrementAndGet();
+            return CompletableFuture.failedFuture(new IllegalStateException("throttled"));
+        });
+        var afterFailure = cache.get("person");
+
+        assertSoftly(softly -> {
+            softly.assertThat(refreshed.join()).isSameAs(cached);
+            softly.assertThat(afterFailure.join()).isSameAs(cached);
+            softly.assertThat(cache.cached("person")).containsSame(cached);
+            softly.assertThat(loads).hasValue(2);
+        });
+    }
+
+    private CompletableFuture<DynamoDBTableMetadata> load(String tableName) {
+        loads.incrementAndGet();
+        return CompletableFuture.completedFuture(DynamoDBTableMetadata.of(TableDescription.builder()
+                .tableName(tableName)
+                .keySchema(KeySchemaElement.builder().attributeName(ENTITY).keyType(KeyType.HASH).build(),
+                        KeySchemaElement.builder().attributeName(ID).keyType(KeyType.RANGE).build())
+                .attributeDefinitions(
+                        AttributeDefinition.builder().attributeName(ENTITY).attributeType(ScalarAttributeType.S).build(),
+                        AttributeDefinition.builder().attributeName(ID).attributeType(ScalarAttributeType.S).build())
+                .build(), null));
+    }
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ *
+ * Contributors:
+ *
+ * Maximillian Arruda
+ */
+
+package org.eclipse.jnosql.databases.dynamodb.communication;
+
+import org.eclipse.jnosql.communication.CommunicationException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.PutRequest;
+import software.amazon.awssdk.services.dynamodb.model.WriteRequest;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class DynamoDBBatchWriterTest {
+
+    private static final String TABLE = "heroes";
+
+    private DynamoDbClient client;
+
+    private ThreadPoolExecutor executor;
+
+    @BeforeEach
+    void setUp() {
+        client = Mockito.mock(DynamoDbClient.class);
+        executor = (ThreadPoolExecutor) DynamoDBBatchWriter.newExecutor();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void shouldSplitIntoChunksOfTwentyFive() {
+        when(client.batchWriteItem(any(BatchWriteItemRequest.class)))
+                .thenReturn(BatchWriteItemResponse.builder().build());
+        var writer = new DynamoDBBatchWriter(client, 1, 0, executor);
+
+        writer.write(TABLE, requests(60));
+
+        var captor = ArgumentCaptor.forClass(BatchWriteItemRequest.class);
+        verify(client, times(3)).batchWriteItem(captor.capture());
+        assertThat(captor.getAllValues())
+                .extracting(request -> request.requestItems().get(TABLE).size())
+                .containsExactly(25, 25, 10);
+    }
+
+    @Test
+    void shouldWriteChunksConcurrently() {
+        when(client.batchWriteItem(any(BatchWriteItemRequest.class)))
+                .thenReturn(BatchWriteItemResponse.builder().build());
+        var writer = new DynamoDBBatchWriter(client, 4, 0, executor);
+
+        writer.write(TABLE, requests(260));
+
+        var captor = ArgumentCaptor.forClass(BatchWriteItemRequest.class);
+        verify(client, times(11)).batchWriteItem(captor.capture());
+        assertThat(captor.getAllValues().stream()
+                .mapToInt(request -> request.requestItems().get(TABLE).size())
+                .sum()).isEqualTo(260);
+    }
+
+    @Test
+    void shouldReuseTheExecutorAcrossWrites() {
+        when(client.batchWriteItem(any(BatchWriteItemRequest.class)))
+                .thenReturn(BatchWriteItemResponse.builder().build());
+        var writer = new DynamoDBBatchWriter(client, 4, 0, executor);
+
+        writer.write(TABLE, requests(260));
+        writer.write(TABLE, requests(260));
+
+        verify(client, times(22)).batchWriteItem(any(BatchWriteItemRequest.class));
+        assertThat(executor.isShutdown()).isFalse();
+    }
+
+    @Test
+    void shouldRetryUnprocessedItems() {
+        var unprocessed = requests(2);
+        when(client.batchWriteItem(any(BatchWriteItemRequest.class)))
+                .thenReturn(BatchWriteItemResponse.builder().unprocessedItems(Map.of(TABLE, unprocessed)).build())
+                .thenReturn(BatchWriteItemResponse.builder().build());
+        var writer = new DynamoDBBatchWriter(client, 1, 3, executor);
+
+        writer.write(TABLE, requests(10));
+
+        var captor = ArgumentCaptor.forClass(BatchWriteItemRequest.class);
+        verify(client, times(2)).batchWriteItem(captor.capture());
+        assertThat(captor.getAllValues().get(1).requestItems().get(TABLE)).isEqualTo(unprocessed);
+    }
+
+    @Test
+    void shouldFailWhenItemsRemainUnprocessed() {
+        when(client.batchWriteItem(any(BatchWriteItemRequest.class)))
+                .thenReturn(BatchWriteItemResponse.builder().unprocessedItems(Map.of(TABLE, requests(1))).build());
+        var writer = new DynamoDBBatchWriter(client, 1, 2, executor);
+
+        assertThatThrownBy(() -> writer.write(TABLE, requests(1)))
+                .isInstanceOf(CommunicationException.class);
+        verify(client, times(3)).batchWriteItem(any(BatchWriteItemRequest.class));
+    }
+
+    @Test
+    void shouldNotCallWhenThereIsNothingToWrite() {
+        var writer = new DynamoDBBatchWriter(client, 2, 0, executor);
+
+        writer.write(TABLE, List.of());
+
+        verify(client, times(0)).batchWriteItem(any(BatchWriteItemRequest.class));
+    }
+
+    @Test
+    void shouldReturnErrorWithInvalidParameters() {
+        assertThatThrownBy(() -> new DynamoDBBatchWriter(client, 0, 0, executor))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new DynamoDBBatchWriter(client, 1, -1, executor))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static List<WriteRequest> requests(int size) {
+        return IntStream.range(0, size)
+                .mapToObj(index -> WriteRequest.builder()
+                        .putRequest(PutRequest.builder()
+                                .item(Map.of("key", AttributeValue.builder().s(String.valueOf(index)).build()))
+                                .build())
+                        .build())
+                .toList();
+    }
+}
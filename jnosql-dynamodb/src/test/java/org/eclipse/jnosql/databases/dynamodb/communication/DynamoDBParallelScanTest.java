@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ *
+ * Contributors:
+ *
+ * Maximillian Arruda
+ */
+
+package org.eclipse.jnosql.databases.dynamodb.communication;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.ScanRequest;
+import software.amazon.awssdk.services.dynamodb.model.ScanResponse;
+import software.amazon.awssdk.services.dynamodb.paginators.ScanIterable;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+class DynamoDBParallelScanTest {
+
+    private static final ScanRequest REQUEST = ScanRequest.builder().tableName("heroes").build();
+
+    private DynamoDbClient client;
+
+    private ThreadPoolExecutor executor;
+
+    @BeforeEach
+    void setUp() {
+        executor = (ThreadPoolExecutor) DynamoDBParallelScan.newExecutor();
+        client = Mockito.mock(DynamoDbClient.class);
+        when(client.scanPaginator(any(ScanRequest.class)))
+                .thenAnswer(invocation -> new ScanIterable(client, invocation.getArgument(0)));
+    }
+
+    @Test
+    void shouldReturnItemsSegmentBySegment() {
+        when(client.scan(any(ScanRequest.class))).thenAnswer(invocation -> page(invocation.getArgument(0)));
+
+        try (var items = scan(DynamoDBScanOptions.parallel(4).inOrder()).items()) {
+            assertThat(items.map(item -> item.get("name").s()).toList())
+                    .containsExactly("0-0", "0-1", "1-0", "1-1", "2-0", "2-1", "3-0", "3-1");
+        }
+    }
+
+    @Test
+    void shouldReturnItemsFromAllSegments() {
+        when(client.scan(any(ScanRequest.class))).thenAnswer(invocation -> page(invocation.getArgument(0)));
+
+        try (var items = scan(DynamoDBScanOptions.parallel(4)).items()) {
+            assertThat(items.map(item -> item.get("name").s()).toList())
+                    .containsExactlyInAnyOrder("0-0", "0-1", "1-0", "1-1", "2-0", "2-1", "3-0", "3-1");
+        }
+    }
+
+    @Test
+    void shouldPropagateSegmentError() {
+        when(client.scan(any(ScanRequest.class))).thenAnswer(invocation -> {
+            ScanRequest request = invocation.getArgument(0);
+            if (request.segment() == 1) {
+                throw new IllegalStateException("segment failure");
+            }
+            return page(request);
+        });
+
+        try (var items = scan(DynamoDBScanOptions.parallel(2).inOrder()).items()) {
+            assertThatThrownBy(items::toList)
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessage("segment failure");
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void shouldStopTheWorkersWhenTheConsumerStopsPulling() throws InterruptedException {
+        when(client.scan(any(ScanRequest.class))).thenAnswer(invocation -> page(invocation.getArgument(0)).toBuilder()
+                .lastEvaluatedKey(Map.of("name", AttributeValue.builder().s("next").build()))
+                .build());
+
+        var items = scan(DynamoDBScanOptions.parallel(4).withIdleTimeout(Duration.ofMillis(200))).items().iterator();
+        items.next();
+        long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        while (executor.getActiveCount() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(50);
+        }
+
+        assertThat(executor.getActiveCount()).isZero();
+    }
+
+    @Test
+    void shouldReadTheSegmentsWithTheWorkers() {
+        var running = new AtomicInteger();
+        var maxRunning = new AtomicInteger();
+        when(client.scan(any(ScanRequest.class))).thenAnswer(invocation -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(20);
+                return page(invocation.getArgument(0));
+            } finally {
+                running.decrementAndGet();
+            }
+        });
+
+        try (var items = scan(DynamoDBScanOptions.parallel(16).withWorkers(2).inOrder()).items()) {
+            assertThat(items.map(item -> item.get("name").s()).toList())
+                    .hasSize(32)
+                    .startsWith("0-0", "0-1", "1-0", "1-1")
+                    .endsWith("15-0", "15-1");
+        }
+        assertThat(maxRunning.get()).isBetween(1, 2);
+    }
+
+    @Test
+    void shouldReturnErrorWhenSegmentsAreInvalid() {
+        assertThatThrownBy(() -> DynamoDBScanOptions.parallel(0))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> DynamoDBScanOptions.parallel(DynamoDBScanOptions.MAX_SEGMENTS + 1))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> DynamoDBScanOptions.parallel(4).withWorkers(5))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> DynamoDBScanOptions.parallel(4).withIdleTimeout(Duration.ZERO))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(DynamoDBScanOptions.sequential().isParallel()).isFalse();
+        assertThat(DynamoDBScanOptions.parallel(100).workers()).isEqualTo(DynamoDBScanOptions.DEFAULT_WORKERS);
+    }
+
+    private DynamoDBParallelScan scan(DynamoDBScanOptions options) {
+        return new DynamoDBParallelScan(client, REQUEST, options, executor);
+    }
+
+    private static ScanResponse page(ScanRequest request) {
+        List<Map<String, AttributeValue>> items = IntStream.range(0, 2)
+                .mapToObj(index -> Map.of("name", AttributeValue.builder()
+                        .s(request.segment() + "-" + index).build()))
+                .toList();
+        return ScanResponse.builder().items(items).build();
+    }
+}
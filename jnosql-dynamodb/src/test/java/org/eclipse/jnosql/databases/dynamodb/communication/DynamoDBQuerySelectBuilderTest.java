@@ -0,0 +1,253 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ *
+ * Contributors:
+ *
+ * Maximillian Arruda
+ */
+
+package org.eclipse.jnosql.databases.dynamodb.communication;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.dynamodb.model.AttributeDefinition;
+import software.amazon.awssdk.services.dynamodb.model.KeySchemaElement;
+import software.amazon.awssdk.services.dynamodb.model.KeyType;
+import software.amazon.awssdk.services.dynamodb.model.ScalarAttributeType;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+import static org.eclipse.jnosql.communication.semistructured.SelectQuery.select;
+import static org.eclipse.jnosql.databases.dynamodb.communication.DynamoDBConverter.ENTITY;
+import static org.eclipse.jnosql.databases.dynamodb.communication.DynamoDBConverter.ID;
+
+class DynamoDBQuerySelectBuilderTest {
+
+    private static final DynamoDBKeySchema KEY_SCHEMA = new DynamoDBKeySchema(ENTITY, ScalarAttributeType.S,
+            ID, ScalarAttributeType.S);
+
+    private static final DynamoDBKeySchema UNKNOWN_HASH_KEY = new DynamoDBKeySchema("tenant", ScalarAttributeType.S,
+            null, null);
+
+    @Test
+    void shouldScanWhenKeySchemaIsUnknown() {
+        var query = select().from("person").where("name").eq("Ada").build();
+
+        var dynamoDBQuery = DynamoDBQuery.builderOf("person", ENTITY, query).get();
+
+        assertSoftly(softly -> {
+            softly.assertThat(dynamoDBQuery.isQuery()).isFalse();
+            softly.assertThat(dynamoDBQuery.keyConditionExpression()).isNull();
+            softly.assertThat(dynamoDBQuery.filterExpression()).contains("#" + ENTITY, "#name");
+        });
+    }
+
+    @Test
+    void shouldQueryByPartitionKey() {
+        var query = select().from("person").build();
+
+        var dynamoDBQuery = DynamoDBQuery.builderOf("person", ENTITY, query, KEY_SCHEMA).get();
+
+        assertSoftly(softly -> {
+            softly.assertThat(dynamoDBQuery.isQuery()).isTrue();
+            softly.assertThat(dynamoDBQuery.keyConditionExpression()).startsWith("#" + ENTITY + " = ");
+            softly.assertThat(dynamoDBQuery.filterExpression()).isNull();
+            softly.assertThat(dynamoDBQuery.expressionAttributeValues()).hasSize(1);
+        });
+    }
+
+    @Test
+    void shouldPushDownRangeKeyAndKeepTheRemainingConditionsOnFilter() {
+        var query = select().from("person")
+                .where("name").eq("Ada")
+                .and(ID).gte("100")
+                .build();
+
+        var dynamoDBQuery = DynamoDBQuery.builderOf("person", ENTITY, query, KEY_SCHEMA).get();
+
+        assertSoftly(softly -> {
+            softly.assertThat(dynamoDBQuery.isQuery()).isTrue();
+            softly.assertThat(dynamoDBQuery.keyConditionExpression())
+                    .contains("#" + ENTITY + " = ", " AND ", "#" + ID + " >= ");
+            softly.assertThat(dynamoDBQuery.filterExpression()).startsWith("#name = ").doesNotContain("#" + ID);
+            softly.assertThat(dynamoDBQuery.expressionAttributeValues()).hasSize(3);
+        });
+    }
+
+    @Test
+    void shouldPushDownBetweenOnRangeKey() {
+        var query = select().from("person")
+                .where(ID).between("100", "200")
+                .build();
+
+        var dynamoDBQuery = DynamoDBQuery.builderOf("person", ENTITY, query, KEY_SCHEMA).get();
+
+        assertSoftly(softly -> {
+            softly.assertThat(dynamoDBQuery.keyConditionExpression()).contains("#" + ID + " BETWEEN ");
+            softly.assertThat(dynamoDBQuery.filterExpression()).isNull();
+        });
+    }
+
+    @Test
+    void shouldKeepRangeConditionWithAnotherTypeOnFilter() {
+        var query = select().from("person")
+                .where(ID).gt(100)
+                .build();
+
+        var dynamoDBQuery = DynamoDBQuery.builderOf("person", ENTITY, query, KEY_SCHEMA).get();
+
+        assertSoftly(softly -> {
+            softly.assertThat(dynamoDBQuery.isQuery()).isFalse();
+            softly.assertThat(dynamoDBQuery.filterExpression()).contains("#" + ID + " > ");
+        });
+    }
+
+    @Test
+    void shouldScanWhenFilterReferencesKeyAttribute() {
+        var query = select().from("person")
+                .where(ID).eq("1")
+                .or("name").eq("Ada")
+                .build();
+
+        var dynamoDBQuery = DynamoDBQuery.builderOf("person", ENTITY, query, KEY_SCHEMA).get();
+
+        assertSoftly(softly -> {
+            softly.assertThat(dynamoDBQuery.isQuery()).isFalse();
+            softly.assertThat(dynamoDBQuery.filterExpression())
+                    .contains(" AND (")
+                    .endsWith(")");
+        });
+    }
+
+    @Test
+    void shouldPushDownLimitAndSortByRangeKey() {
+        var query = select().from("person")
+                .orderBy(ID).desc()
+                .skip(2)
+                .limit(3)
+                .build();
+
+        var dynamoDBQuery = DynamoDBQuery.builderOf("person", ENTITY, query, KEY_SCHEMA).get();
+
+        assertSoftly(softly -> {
+            softly.assertThat(dynamoDBQuery.isQuery()).isTrue();
+            softly.assertThat(dynamoDBQuery.isSortedByKey()).isTrue();
+            softly.assertThat(dynamoDBQuery.scanIndexForward()).isFalse();
+            softly.assertThat(dynamoDBQuery.limit()).isEqualTo(5);
+        });
+    }
+
+    @Test
+    void shouldNotPushDownLimitWhenThereIsFilter() {
+        var query = select().from("person")
+                .where("name").eq("Ada")
+                .limit(3)
+                .build();
+
+        var dynamoDBQuery = DynamoDBQuery.builderOf("person", ENTITY, query, KEY_SCHEMA).get();
+
+        assertSoftly(softly -> {
+            softly.assertThat(dynamoDBQuery.isQuery()).isTrue();
+            softly.assertThat(dynamoDBQuery.limit()).isNull();
+        });
+    }
+
+    @Test
+    void shouldNotPushDownLimitWhenSortIsNotOnRangeKey() {
+        var query = select().from("person")
+                .orderBy("name").asc()
+                .limit(3)
+                .build();
+
+        var dynamoDBQuery = DynamoDBQuery.builderOf("person", ENTITY, query, KEY_SCHEMA).get();
+
+        assertSoftly(softly -> {
+            softly.assertThat(dynamoDBQuery.isSortedByKey()).isFalse();
+            softly.assertThat(dynamoDBQuery.limit()).isNull();
+        });
+    }
+
+    @Test
+    void shouldQueryGlobalIndexWhenItsHashKeyIsPinned() {
+        var byEmail = new DynamoDBIndexSchema("byEmail",
+                new DynamoDBKeySchema("email", ScalarAttributeType.S, "age", ScalarAttributeType.N), true, null);
+        var query = select().from("person")
+                .where("email").eq("ada@lovelace.org")
+                .and("age").gt(30)
+                .build();
+
+        var dynamoDBQuery = DynamoDBQuery.builderOf("person", ENTITY, query, UNKNOWN_HASH_KEY, List.of(byEmail)).get();
+
+        assertSoftly(softly -> {
+            softly.assertThat(dynamoDBQuery.isQuery()).isTrue();
+            softly.assertThat(dynamoDBQuery.indexName()).isEqualTo("byEmail");
+            softly.assertThat(dynamoDBQuery.consistentRead()).isFalse();
+            softly.assertThat(dynamoDBQuery.keyConditionExpression()).contains("#email = ", " AND ", "#age > ");
+            softly.assertThat(dynamoDBQuery.filterExpression()).startsWith("#" + ENTITY + " = ");
+            softly.assertThat(dynamoDBQuery.plan()).contains("index byEmail");
+        });
+    }
+
+    @Test
+    void shouldPreferIndexThatAlsoMatchesRangeKey() {
+        var byEmail = new DynamoDBIndexSchema("byEmail",
+                new DynamoDBKeySchema("email", ScalarAttributeType.S, null, null), true, null);
+        var byEmailAndAge = new DynamoDBIndexSchema("byEmailAndAge",
+                new DynamoDBKeySchema("email", ScalarAttributeType.S, "age", ScalarAttributeType.N), true, null);
+        var query = select().from("person")
+                .where("email").eq("ada@lovelace.org")
+                .and("age").gt(30)
+                .build();
+
+        var dynamoDBQuery = DynamoDBQuery.builderOf("person", ENTITY, query, UNKNOWN_HASH_KEY,
+                List.of(byEmail, byEmailAndAge)).get();
+
+        assertSoftly(softly -> softly.assertThat(dynamoDBQuery.indexName()).isEqualTo("byEmailAndAge"));
+    }
+
+    @Test
+    void shouldScanWhenIndexDoesNotProjectTheAttributes() {
+        var byEmail = new DynamoDBIndexSchema("byEmail",
+                new DynamoDBKeySchema("email", ScalarAttributeType.S, null, null), true,
+                Set.of("email", ENTITY, ID));
+        var query = select().from("person")
+                .where("email").eq("ada@lovelace.org")
+                .build();
+
+        var dynamoDBQuery = DynamoDBQuery.builderOf("person", ENTITY, query, UNKNOWN_HASH_KEY, List.of(byEmail)).get();
+
+        assertSoftly(softly -> {
+            softly.assertThat(dynamoDBQuery.isQuery()).isFalse();
+            softly.assertThat(dynamoDBQuery.indexName()).isNull();
+            softly.assertThat(dynamoDBQuery.plan()).startsWith("Scan on person");
+        });
+    }
+
+    @Test
+    void shouldCreateKeySchemaFromTableDefinition() {
+        var keySchema = DynamoDBKeySchema.of(
+                List.of(KeySchemaElement.builder()
+                                .attributeName(ENTITY).keyType(KeyType.HASH).build(),
+                        KeySchemaElement.builder()
+                                .attributeName(ID).keyType(KeyType.RANGE).build()),
+                List.of(AttributeDefinition.builder()
+                                .attributeName(ENTITY).attributeType(ScalarAttributeType.S).build(),
+                        AttributeDefinition.builder()
+                                .attributeName(ID).attributeType(ScalarAttributeType.N).build()));
+
+        assertSoftly(softly -> {
+            softly.assertThat(keySchema.hashKey()).isEqualTo(ENTITY);
+            softly.assertThat(keySchema.hashKeyType()).isEqualTo(ScalarAttributeType.S);
+            softly.assertThat(keySchema.rangeKey()).isEqualTo(ID);
+            softly.assertThat(keySchema.rangeKeyType()).isEqualTo(ScalarAttributeType.N);
+        });
+    }
+}
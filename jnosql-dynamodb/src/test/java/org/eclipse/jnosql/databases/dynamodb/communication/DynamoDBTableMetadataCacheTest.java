@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ *
+ * Contributors:
+ *
+ * Maximillian Arruda
+ */
+
+package org.eclipse.jnosql.databases.dynamodb.communication;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.dynamodb.model.AttributeDefinition;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.KeySchemaElement;
+import software.amazon.awssdk.services.dynamodb.model.KeyType;
+import software.amazon.awssdk.services.dynamodb.model.ScalarAttributeType;
+import software.amazon.awssdk.services.dynamodb.model.TableDescription;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+import static org.eclipse.jnosql.databases.dynamodb.communication.DynamoDBConverter.ENTITY;
+import static org.eclipse.jnosql.databases.dynamodb.communication.DynamoDBConverter.ID;
+
+class DynamoDBTableMetadataCacheTest {
+
+    private final AtomicLong now = new AtomicLong();
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private DynamoDBTableMetadataCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new DynamoDBTableMetadataCache(this::load, Duration.ofSeconds(10), now::get);
+    }
+
+    @Test
+    void shouldLoadOnce() {
+        var first = cache.get("person");
+        var second = cache.get("person");
+
+        assertSoftly(softly -> {
+            softly.assertThat(second).isSameAs(first);
+            softly.assertThat(loads).hasValue(1);
+            softly.assertThat(first.keyAttributes()).containsExactly(ENTITY, ID);
+            softly.assertThat(first.ttlAttribute()).contains("expiresAt");
+        });
+    }
+
+    @Test
+    void shouldReloadAfterRefreshInterval() {
+        cache.get("person");
+        now.addAndGet(Duration.ofSeconds(9).toNanos());
+        cache.get("person");
+        var loadsBeforeRefresh = loads.get();
+        now.addAndGet(Duration.ofSeconds(1).toNanos());
+        cache.get("person");
+
+        assertSoftly(softly -> {
+            softly.assertThat(loadsBeforeRefresh).isEqualTo(1);
+            softly.assertThat(loads).hasValue(2);
+        });
+    }
+
+    @Test
+    void shouldReloadAfterInvalidation() {
+        cache.get("person");
+        cache.get("book");
+        cache.invalidate("person");
+        cache.get("person");
+        cache.get("book");
+        var loadsAfterInvalidate = loads.get();
+        cache.invalidateAll();
+        cache.get("book");
+
+        assertSoftly(softly -> {
+            softly.assertThat(loadsAfterInvalidate).isEqualTo(3);
+            softly.assertThat(loads).hasValue(4);
+        });
+    }
+
+    @Test
+    void shouldKeepTheCachedMetadataWhenTheRefreshFails() {
+        var cached = cache.get("person");
+        now.addAndGet(Duration.ofSeconds(10).toNanos());
+        var refreshed = cache.get("person", name -> {
+            loads.incrementAndGet();
+            throw new IllegalStateException("throttled");
+        });
+        var afterFailure = cache.get("person");
+
+        assertSoftly(softly -> {
+            softly.assertThat(refreshed).isSameAs(cached);
+            softly.assertThat(afterFailure).isSameAs(cached);
+            softly.assertThat(loads).hasValue(2);
+        });
+    }
+
+    @Test
+    void shouldReportTheErrorWithoutCachedMetadata() {
+        assertThatThrownBy(() -> cache.get("person", name -> {
+            throw new IllegalStateException("throttled");
+        })).isInstanceOf(IllegalStateException.class);
+        assertThat(cache.cached("person")).isEmpty();
+    }
+
+    @Test
+    void shouldExtractKeyFromItem() {
+        var item = Map.of(ENTITY, AttributeValue.fromS("person"),
+                ID, AttributeValue.fromS("ada"),
+                "name", AttributeValue.fromS("Ada"));
+
+        var key = cache.get("person").keyOf(item);
+
+        assertSoftly(softly -> softly.assertThat(key)
+                .containsOnlyKeys(ENTITY, ID)
+                .containsEntry(ID, AttributeValue.fromS("ada")));
+    }
+
+    private DynamoDBTableMetadata load(String tableName) {
+        loads.incrementAndGet();
+        return DynamoDBTableMetadata.of(TableDescription.builder()
+                .tableName(tableName)
+                .keySchema(KeySchemaElement.builder().attributeName(ENTITY).keyType(KeyType.HASH).build(),
+                        KeySchemaElement.builder().attributeName(ID).keyType(KeyType.RANGE).build())
+                .attributeDefinitions(
+                        AttributeDefinition.builder().attributeName(ENTITY).attributeType(ScalarAttributeType.S).build(),
+                        AttributeDefinition.builder().attributeName(ID).attributeType(ScalarAttributeType.S).build())
+                .build(), "expiresAt");
+    }
+}
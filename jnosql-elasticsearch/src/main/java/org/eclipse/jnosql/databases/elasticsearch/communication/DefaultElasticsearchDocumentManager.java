@@ -17,12 +17,11 @@ package org.eclipse.jnosql.databases.elasticsearch.communication;
 
 
 import co.elastic.clients.elasticsearch.ElasticsearchClient;
-import co.elastic.clients.elasticsearch._types.query_dsl.MatchQuery;
-import co.elastic.clients.elasticsearch.core.BulkRequest;
+import co.elastic.clients.elasticsearch._types.Refresh;
 import co.elastic.clients.elasticsearch.core.CountRequest;
+import co.elastic.clients.elasticsearch.core.DeleteByQueryRequest;
 import co.elastic.clients.elasticsearch.core.IndexRequest;
 import co.elastic.clients.elasticsearch.core.SearchRequest;
-import co.elastic.clients.elasticsearch.core.bulk.DeleteOperation;
 import org.eclipse.jnosql.communication.CommunicationException;
 import org.eclipse.jnosql.communication.semistructured.CommunicationEntity;
 import org.eclipse.jnosql.communication.semistructured.DeleteQuery;
@@ -30,9 +29,9 @@ import org.eclipse.jnosql.communication.semistructured.SelectQuery;
 
 import java.io.IOException;
 import java.time.Duration;
-import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.logging.Logger;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
@@ -44,14 +43,39 @@ import static java.util.Objects.requireNonNull;
  */
 class DefaultElasticsearchDocumentManager implements ElasticsearchDocumentManager {
 
+    private static final Logger LOGGER = Logger.getLogger(DefaultElasticsearchDocumentManager.class.getName());
 
     private final ElasticsearchClient elasticsearchClient;
 
     private final String index;
 
+    private final ElasticsearchMappingCache mappings;
+
+    private final ElasticsearchBulkOptions options;
+
+    private final ElasticsearchBulkWriter bulkWriter;
+
+    private final ElasticsearchSearchOptions searchOptions;
+
+    private final ElasticsearchDeleteOptions deleteOptions;
+
     DefaultElasticsearchDocumentManager(ElasticsearchClient elasticsearchClient, String index) {
+        this(elasticsearchClient, index, ElasticsearchMappingCache.of(elasticsearchClient),
+                ElasticsearchBulkOptions.DEFAULT, ElasticsearchSearchOptions.DEFAULT,
+                ElasticsearchDeleteOptions.DEFAULT);
+    }
+
+    DefaultElasticsearchDocumentManager(ElasticsearchClient elasticsearchClient, String index,
+                                        ElasticsearchMappingCache mappings, ElasticsearchBulkOptions options,
+                                        ElasticsearchSearchOptions searchOptions,
+                                        ElasticsearchDeleteOptions deleteOptions) {
         this.elasticsearchClient = elasticsearchClient;
         this.index = index;
+        this.mappings = mappings;
+        this.options = options;
+        this.searchOptions = searchOptions;
+        this.deleteOptions = deleteOptions;
+        this.bulkWriter = new ElasticsearchBulkWriter(elasticsearchClient, options);
     }
 
     @Override
@@ -69,6 +93,7 @@ class DefaultElasticsearchDocumentManager implements ElasticsearchDocumentManage
             var indexRequest = IndexRequest.of(b ->
                     b.index(index)
                             .id(id.get(String.class)).document(jsonObject)
+                            .refresh(options.refresh())
             );
             elasticsearchClient.index(indexRequest);
         } catch (IOException e) {
@@ -86,8 +111,7 @@ class DefaultElasticsearchDocumentManager implements ElasticsearchDocumentManage
     @Override
     public Iterable<CommunicationEntity> insert(Iterable<CommunicationEntity> entities) {
         Objects.requireNonNull(entities, "entities is required");
-        return StreamSupport.stream(entities.spliterator(), false)
-                .map(this::insert).collect(Collectors.toList());
+        return bulkWriter.write(index, entities);
     }
 
     @Override
@@ -106,35 +130,35 @@ class DefaultElasticsearchDocumentManager implements ElasticsearchDocumentManage
     @Override
     public Iterable<CommunicationEntity> update(Iterable<CommunicationEntity> entities) {
         Objects.requireNonNull(entities, "entities is required");
-        return StreamSupport.stream(entities.spliterator(), false)
-                .map(this::update).collect(Collectors.toList());
+        return bulkWriter.write(index, entities);
     }
 
     @Override
     public void delete(DeleteQuery query) throws NullPointerException {
         requireNonNull(query, "query is required");
-
-        var select = new ElasticsearchDocumentQuery(query);
-
-        List<CommunicationEntity> entities = select(select).toList();
-
-        if (entities.isEmpty()) {
-            return;
+        try {
+            var response = elasticsearchClient.deleteByQuery(deleteByQuery(query, true));
+            if (!response.failures().isEmpty()) {
+                var cause = response.failures().get(0).cause();
+                throw new ElasticsearchException(response.failures().size()
+                        + " entities were not deleted, the first error: " + cause.type() + ": " + cause.reason(), null);
+            }
+            if (response.versionConflicts() != null && response.versionConflicts() > 0) {
+                LOGGER.warning(() -> response.versionConflicts() + " entities of " + query.name()
+                        + " changed while they were deleted and were skipped");
+            }
+            LOGGER.fine(() -> "Deleted " + response.deleted() + " entities from " + query.name()
+                    + ", version conflicts: " + response.versionConflicts());
+        } catch (IOException e) {
+            throw new ElasticsearchException("An error to delete entities on elasticsearch", e);
         }
+    }
 
-        BulkRequest.Builder bulkRequest = new BulkRequest.Builder();
-
-        entities.stream()
-                .map(entity -> entity.find(EntityConverter.ID_FIELD).orElseThrow().get(String.class))
-                .forEach(id ->
-                        bulkRequest.operations(op -> op
-                                .delete(DeleteOperation.of(dp -> dp
-                                        .index(index)
-                                        .id(id)))
-                        )
-                );
+    @Override
+    public String deleteAsync(DeleteQuery query) throws NullPointerException {
+        requireNonNull(query, "query is required");
         try {
-            elasticsearchClient.bulk(bulkRequest.build());
+            return elasticsearchClient.deleteByQuery(deleteByQuery(query, false)).task();
         } catch (IOException e) {
             throw new ElasticsearchException("An error to delete entities on elasticsearch", e);
         }
@@ -143,20 +167,29 @@ class DefaultElasticsearchDocumentManager implements ElasticsearchDocumentManage
     @Override
     public Stream<CommunicationEntity> select(SelectQuery query) throws NullPointerException {
         requireNonNull(query, "query is required");
-        return EntityConverter.query(query, elasticsearchClient, index);
+        return EntityConverter.query(query, elasticsearchClient, mappings, searchOptions, index);
     }
 
     @Override
     public long count(String documentCollection) {
         Objects.requireNonNull(documentCollection, "documentCollection is required");
+        return count(SelectQuery.select().from(documentCollection).build());
+    }
+
+    @Override
+    public long count(SelectQuery query) throws NullPointerException {
+        requireNonNull(query, "query is required");
+        var select = QueryConverter.select(mappings, index, query);
+        long count;
         try {
-            return elasticsearchClient.count(CountRequest.of(s -> s.index(index)
-                    .query(MatchQuery.of(m -> m
-                            .field(EntityConverter.ENTITY)
-                            .query(documentCollection))._toQuery()))).count();
+            count = elasticsearchClient.count(CountRequest.of(c -> c.index(index)
+                    .query(select.statement().build()))).count();
         } catch (IOException e) {
-            throw new CommunicationException("Error on ES when try to execute count to document collection:" + documentCollection, e);
+            throw new CommunicationException("Error on ES when try to execute count to document collection:"
+                    + query.name(), e);
         }
+        long remaining = Math.max(count - query.skip(), 0L);
+        return query.limit() > 0 ? Math.min(remaining, query.limit()) : remaining;
     }
 
     @Override
@@ -170,6 +203,24 @@ class DefaultElasticsearchDocumentManager implements ElasticsearchDocumentManage
         }
     }
 
+    private DeleteByQueryRequest deleteByQuery(DeleteQuery query, boolean waitForCompletion) {
+        var select = QueryConverter.select(mappings, index, new ElasticsearchDocumentQuery(query));
+        return DeleteByQueryRequest.of(d -> {
+            d.index(index)
+                    .query(select.statement().build())
+                    .conflicts(deleteOptions.conflicts())
+                    .waitForCompletion(waitForCompletion);
+            if (deleteOptions.slices() != null) {
+                d.slices(deleteOptions.slices());
+            }
+            // _delete_by_query has no wait_for, it refreshes the index once the deletion is done
+            if (options.refresh() != null) {
+                d.refresh(options.refresh() != Refresh.False);
+            }
+            return d;
+        });
+    }
+
     @Override
     public void close() {
         try {
@@ -0,0 +1,56 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *   Maximillian Arruda
+ */
+package org.eclipse.jnosql.databases.elasticsearch.communication;
+
+import org.eclipse.jnosql.communication.semistructured.CommunicationEntity;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Thrown when some entities of a bulk insert or update were not written; the other entities were. The reason of
+ * each failed entity is available at {@link #failures()}, keyed by the position of the entity in the written entities.
+ */
+public class ElasticsearchBulkException extends ElasticsearchException {
+
+    private final transient Map<Integer, String> failures;
+
+    private final transient List<CommunicationEntity> entities;
+
+    ElasticsearchBulkException(List<CommunicationEntity> written, Map<Integer, String> failures) {
+        super(failures.size() + " entities of the bulk request failed, the first error: "
+                + new TreeMap<>(failures).firstEntry().getValue(), null);
+        this.failures = Collections.unmodifiableMap(new TreeMap<>(failures));
+        this.entities = this.failures.keySet().stream().map(written::get).toList();
+    }
+
+    /**
+     * @return the position of each entity that was not written, in the written entities, and its reason, in the
+     * position order
+     */
+    public Map<Integer, String> failures() {
+        return failures;
+    }
+
+    /**
+     * @return the entities that were not written, in the insertion order
+     */
+    public List<CommunicationEntity> entities() {
+        return entities;
+    }
+}
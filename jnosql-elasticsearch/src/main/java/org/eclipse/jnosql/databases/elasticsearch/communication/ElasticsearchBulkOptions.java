@@ -0,0 +1,102 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *   Maximillian Arruda
+ */
+package org.eclipse.jnosql.databases.elasticsearch.communication;
+
+import co.elastic.clients.elasticsearch._types.Refresh;
+import org.eclipse.jnosql.communication.Settings;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * How the manager writes: the refresh policy of every write and the limits of the bulk requests that insert or
+ * update several entities at once.
+ *
+ * @param maxOperations         the number of operations that flushes a bulk request
+ * @param maxSize               the estimated size, in bytes, that flushes a bulk request
+ * @param maxConcurrentRequests the maximum number of bulk requests in flight
+ * @param flushInterval         the interval that flushes a pending bulk request, null to flush only by count or size
+ * @param maxRetries            the number of times the operations rejected with 429 Too Many Requests are sent again
+ * @param backoff               the wait before the first retry, doubled on each retry
+ * @param refresh               the refresh policy of the writes, null to use the one of the index
+ */
+record ElasticsearchBulkOptions(int maxOperations, long maxSize, int maxConcurrentRequests, Duration flushInterval,
+                                int maxRetries, Duration backoff, Refresh refresh) {
+
+    static final int DEFAULT_MAX_OPERATIONS = 1000;
+
+    static final long DEFAULT_MAX_SIZE = 5L * 1024 * 1024;
+
+    static final int DEFAULT_MAX_CONCURRENT_REQUESTS = 1;
+
+    static final int DEFAULT_MAX_RETRIES = 3;
+
+    static final Duration DEFAULT_BACKOFF = Duration.ofMillis(100);
+
+    static final ElasticsearchBulkOptions DEFAULT = new ElasticsearchBulkOptions(DEFAULT_MAX_OPERATIONS,
+            DEFAULT_MAX_SIZE, DEFAULT_MAX_CONCURRENT_REQUESTS, null, DEFAULT_MAX_RETRIES, DEFAULT_BACKOFF, null);
+
+    ElasticsearchBulkOptions {
+        if (maxOperations < 1) {
+            throw new IllegalArgumentException("The bulk max operations must be greater than zero: " + maxOperations);
+        }
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("The bulk max size must be greater than zero: " + maxSize);
+        }
+        if (maxConcurrentRequests < 1) {
+            throw new IllegalArgumentException("The bulk concurrent requests must be greater than zero: "
+                    + maxConcurrentRequests);
+        }
+        if (maxRetries < 0) {
+            throw new IllegalArgumentException("The bulk max retries must not be negative: " + maxRetries);
+        }
+        Objects.requireNonNull(backoff, "backoff is required");
+    }
+
+    static ElasticsearchBulkOptions of(Settings settings) {
+        Objects.requireNonNull(settings, "settings is required");
+        return new ElasticsearchBulkOptions(
+                settings.get(ElasticsearchConfigurations.BULK_MAX_OPERATIONS, Integer.class)
+                        .orElse(DEFAULT_MAX_OPERATIONS),
+                settings.get(ElasticsearchConfigurations.BULK_MAX_SIZE, Long.class)
+                        .orElse(DEFAULT_MAX_SIZE),
+                settings.get(ElasticsearchConfigurations.BULK_CONCURRENT_REQUESTS, Integer.class)
+                        .orElse(DEFAULT_MAX_CONCURRENT_REQUESTS),
+                settings.get(ElasticsearchConfigurations.BULK_FLUSH_INTERVAL, Long.class)
+                        .map(Duration::ofMillis)
+                        .orElse(null),
+                settings.get(ElasticsearchConfigurations.BULK_MAX_RETRIES, Integer.class)
+                        .orElse(DEFAULT_MAX_RETRIES),
+                DEFAULT_BACKOFF,
+                settings.get(ElasticsearchConfigurations.REFRESH_POLICY)
+                        .map(Object::toString)
+                        .map(ElasticsearchBulkOptions::refresh)
+                        .orElse(null));
+    }
+
+    /**
+     * @param value true, false or wait_for
+     * @return the refresh policy
+     */
+    static Refresh refresh(String value) {
+        return Arrays.stream(Refresh.values())
+                .filter(refresh -> refresh.jsonValue().equalsIgnoreCase(value.trim()))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("The refresh policy must be true, false or wait_for: "
+                        + value));
+    }
+}
@@ -0,0 +1,191 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *   Maximillian Arruda
+ */
+package org.eclipse.jnosql.databases.elasticsearch.communication;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch._helpers.bulk.BulkIngester;
+import co.elastic.clients.elasticsearch._helpers.bulk.BulkListener;
+import co.elastic.clients.elasticsearch._types.ErrorCause;
+import co.elastic.clients.elasticsearch.core.BulkRequest;
+import co.elastic.clients.elasticsearch.core.BulkResponse;
+import co.elastic.clients.elasticsearch.core.bulk.BulkOperation;
+import co.elastic.clients.elasticsearch.core.bulk.BulkResponseItem;
+import org.eclipse.jnosql.communication.semistructured.CommunicationEntity;
+import org.elasticsearch.client.ResponseException;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+/**
+ * Indexes several entities through a {@link BulkIngester}, which flushes a bulk request by count, estimated size or
+ * interval and keeps at most {@code maxConcurrentRequests} of them in flight.
+ * <p>The operations rejected with 429 Too Many Requests, one by one or as a whole request, are sent again once every
+ * request is done, after a backoff doubled on each retry. Any other failure is kept with the position of the entity
+ * that caused it and reported at the end through an {@link ElasticsearchBulkException}.</p>
+ */
+final class ElasticsearchBulkWriter {
+
+    private static final Logger LOGGER = Logger.getLogger(ElasticsearchBulkWriter.class.getName());
+
+    private static final int TOO_MANY_REQUESTS = 429;
+
+    private final ElasticsearchClient client;
+
+    private final ElasticsearchBulkOptions options;
+
+    ElasticsearchBulkWriter(ElasticsearchClient client, ElasticsearchBulkOptions options) {
+        this.client = Objects.requireNonNull(client, "client is required");
+        this.options = Objects.requireNonNull(options, "options is required");
+    }
+
+    /**
+     * @param index    the index
+     * @param entities the entities to index, each one with an {@link EntityConverter#ID_FIELD}
+     * @return the entities once all of them were written
+     * @throws ElasticsearchKeyFoundException when an entity does not have an id
+     * @throws ElasticsearchBulkException     when some entities were not written
+     */
+    List<CommunicationEntity> write(String index, Iterable<CommunicationEntity> entities) {
+        Objects.requireNonNull(entities, "entities is required");
+        List<CommunicationEntity> written = new ArrayList<>();
+        List<Pending> pending = new ArrayList<>();
+        for (CommunicationEntity entity : entities) {
+            Objects.requireNonNull(entity, "entity is required");
+            var id = entity.find(EntityConverter.ID_FIELD)
+                    .orElseThrow(() -> new ElasticsearchKeyFoundException(entity.toString()));
+            Map<String, Object> document = EntityConverter.getMap(entity);
+            pending.add(new Pending(written.size(), BulkOperation.of(b -> b.index(i -> i.index(index)
+                    .id(id.get(String.class))
+                    .document(document)))));
+            written.add(entity);
+        }
+
+        Map<Integer, String> failures = new ConcurrentHashMap<>();
+        for (int attempt = 0; !pending.isEmpty(); attempt++) {
+            if (attempt > 0) {
+                backoff(attempt, pending.size());
+            }
+            List<Pending> throttled = send(pending, failures);
+            if (!throttled.isEmpty() && attempt >= options.maxRetries()) {
+                throttled.forEach(p -> failures.put(p.position(),
+                        "rejected with 429 Too Many Requests after " + options.maxRetries() + " retries"));
+                break;
+            }
+            pending = throttled;
+        }
+        if (!failures.isEmpty()) {
+            throw new ElasticsearchBulkException(written, failures);
+        }
+        return written;
+    }
+
+    /**
+     * @return the operations rejected with 429 Too Many Requests
+     */
+    private List<Pending> send(List<Pending> pending, Map<Integer, String> failures) {
+        List<Pending> throttled = Collections.synchronizedList(new ArrayList<>());
+        BulkListener<Pending> listener = new BulkListener<>() {
+            @Override
+            public void beforeBulk(long executionId, BulkRequest request, List<Pending> contexts) {
+            }
+
+            @Override
+            public void afterBulk(long executionId, BulkRequest request, List<Pending> contexts,
+                                  BulkResponse response) {
+                List<BulkResponseItem> items = response.items();
+                for (int index = 0; index < items.size(); index++) {
+                    BulkResponseItem item = items.get(index);
+                    if (item.error() == null) {
+                        continue;
+                    }
+                    if (item.status() == TOO_MANY_REQUESTS) {
+                        throttled.add(contexts.get(index));
+                    } else {
+                        failures.put(contexts.get(index).position(), reason(item.error()));
+                    }
+                }
+            }
+
+            @Override
+            public void afterBulk(long executionId, BulkRequest request, List<Pending> contexts, Throwable failure) {
+                if (isTooManyRequests(failure)) {
+                    throttled.addAll(contexts);
+                } else {
+                    contexts.forEach(p -> failures.put(p.position(), String.valueOf(failure.getMessage())));
+                }
+            }
+        };
+        try (BulkIngester<Pending> ingester = BulkIngester.of(b -> {
+            b.client(client)
+                    .listener(listener)
+                    .maxOperations(options.maxOperations())
+                    .maxSize(options.maxSize())
+                    .maxConcurrentRequests(options.maxConcurrentRequests());
+            if (options.flushInterval() != null) {
+                b.flushInterval(options.flushInterval().toMillis(), TimeUnit.MILLISECONDS);
+            }
+            if (options.refresh() != null) {
+                b.globalSettings(settings -> settings.refresh(options.refresh()));
+            }
+            return b;
+        })) {
+            pending.forEach(p -> ingester.add(p.operation(), p));
+        }
+        return throttled;
+    }
+
+    private void backoff(int attempt, int operations) {
+        long wait = options.backoff().toMillis() << Math.min(attempt - 1, 16);
+        LOGGER.fine(() -> "Retrying " + operations + " bulk operations rejected with 429 Too Many Requests in "
+                + wait + " ms");
+        try {
+            Thread.sleep(wait);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ElasticsearchException("Interrupted while waiting to retry the bulk operations", e);
+        }
+    }
+
+    private static String reason(ErrorCause error) {
+        return error.type() + ": " + error.reason();
+    }
+
+    private static boolean isTooManyRequests(Throwable failure) {
+        for (Throwable cause = failure; cause != null; cause = cause.getCause()) {
+            if (cause instanceof co.elastic.clients.elasticsearch._types.ElasticsearchException exception
+                    && exception.status() == TOO_MANY_REQUESTS) {
+                return true;
+            }
+            if (cause instanceof ResponseException exception
+                    && exception.getResponse().getStatusLine().getStatusCode() == TOO_MANY_REQUESTS) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @param position the position of the entity in the written entities
+     */
+    private record Pending(int position, BulkOperation operation) {
+    }
+}
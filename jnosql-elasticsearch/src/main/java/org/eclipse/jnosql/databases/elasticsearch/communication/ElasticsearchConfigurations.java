@@ -36,7 +36,61 @@ public enum ElasticsearchConfigurations implements Supplier<String> {
     /**
      * The password's credential
      */
-    PASSWORD("jnosql.elasticsearch.password");
+    PASSWORD("jnosql.elasticsearch.password"),
+    /**
+     * The time to live, in seconds, of the index mappings cached to build the selects. 300 seconds by default.
+     */
+    MAPPING_CACHE_TTL("jnosql.elasticsearch.mapping.cache.ttl"),
+    /**
+     * The refresh policy of the inserts, updates and deletes: true, false or wait_for. By default, the one of the
+     * index.
+     */
+    REFRESH_POLICY("jnosql.elasticsearch.refresh.policy"),
+    /**
+     * The number of operations that flushes a bulk request when several entities are inserted or updated at once.
+     * 1000 by default.
+     */
+    BULK_MAX_OPERATIONS("jnosql.elasticsearch.bulk.max.operations"),
+    /**
+     * The estimated size, in bytes, that flushes a bulk request. 5 MB by default.
+     */
+    BULK_MAX_SIZE("jnosql.elasticsearch.bulk.max.size"),
+    /**
+     * The maximum number of bulk requests in flight. 1 by default.
+     */
+    BULK_CONCURRENT_REQUESTS("jnosql.elasticsearch.bulk.concurrent.requests"),
+    /**
+     * The interval, in milliseconds, that flushes a pending bulk request. By default, a bulk request is only flushed
+     * by count or size.
+     */
+    BULK_FLUSH_INTERVAL("jnosql.elasticsearch.bulk.flush.interval"),
+    /**
+     * The number of times the bulk operations rejected with 429 Too Many Requests are sent again. 3 by default.
+     */
+    BULK_MAX_RETRIES("jnosql.elasticsearch.bulk.max.retries"),
+    /**
+     * The number of hits of each page of a select streamed from a point in time. 1000 by default.
+     */
+    SEARCH_PAGE_SIZE("jnosql.elasticsearch.search.page.size"),
+    /**
+     * How long the point in time of a streamed select is kept between two pages, e.g. 30s. 1m by default.
+     */
+    SEARCH_KEEP_ALIVE("jnosql.elasticsearch.search.keep.alive"),
+    /**
+     * The largest skip plus limit of a select read with a single search request, the index.max_result_window of the
+     * indexes. A select without a limit, or beyond it, is streamed page by page from a point in time. 10000 by
+     * default.
+     */
+    SEARCH_MAX_RESULT_WINDOW("jnosql.elasticsearch.search.max.result.window"),
+    /**
+     * The number of slices a delete query is split into on the server, a number or auto. A single slice by default.
+     */
+    DELETE_SLICES("jnosql.elasticsearch.delete.slices"),
+    /**
+     * What a delete query does when a document changed while it was deleted: abort or proceed. abort by default, so
+     * the deletion fails instead of leaving the changed documents; with proceed they are skipped and logged.
+     */
+    DELETE_CONFLICTS("jnosql.elasticsearch.delete.conflicts");
 
     private final String configuration;
 
@@ -0,0 +1,84 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *   Maximillian Arruda
+ */
+package org.eclipse.jnosql.databases.elasticsearch.communication;
+
+import co.elastic.clients.elasticsearch._types.Conflicts;
+import co.elastic.clients.elasticsearch._types.Slices;
+import co.elastic.clients.elasticsearch._types.SlicesCalculation;
+import org.eclipse.jnosql.communication.Settings;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * How a delete query runs on the server with {@code _delete_by_query}.
+ *
+ * @param slices    the number of slices the deletion is split into, null to run it in a single slice
+ * @param conflicts what to do when a document changed while it was deleted: abort the deletion, the default, or
+ *                  skip the document
+ */
+record ElasticsearchDeleteOptions(Slices slices, Conflicts conflicts) {
+
+    static final ElasticsearchDeleteOptions DEFAULT = new ElasticsearchDeleteOptions(null, Conflicts.Abort);
+
+    ElasticsearchDeleteOptions {
+        Objects.requireNonNull(conflicts, "conflicts is required");
+    }
+
+    static ElasticsearchDeleteOptions of(Settings settings) {
+        Objects.requireNonNull(settings, "settings is required");
+        return new ElasticsearchDeleteOptions(
+                settings.get(ElasticsearchConfigurations.DELETE_SLICES)
+                        .map(Object::toString)
+                        .map(ElasticsearchDeleteOptions::slices)
+                        .orElse(null),
+                settings.get(ElasticsearchConfigurations.DELETE_CONFLICTS)
+                        .map(Object::toString)
+                        .map(ElasticsearchDeleteOptions::conflicts)
+                        .orElse(Conflicts.Abort));
+    }
+
+    /**
+     * @param value auto or the number of slices
+     * @return the slices
+     */
+    static Slices slices(String value) {
+        if (SlicesCalculation.Auto.jsonValue().equalsIgnoreCase(value.trim())) {
+            return Slices.of(s -> s.computed(SlicesCalculation.Auto));
+        }
+        try {
+            int slices = Integer.parseInt(value.trim());
+            if (slices < 1) {
+                throw new IllegalArgumentException("The delete slices must be greater than zero: " + value);
+            }
+            return Slices.of(s -> s.value(slices));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("The delete slices must be auto or a number: " + value, e);
+        }
+    }
+
+    /**
+     * @param value abort or proceed
+     * @return the conflicts handling
+     */
+    static Conflicts conflicts(String value) {
+        return Arrays.stream(Conflicts.values())
+                .filter(conflicts -> conflicts.jsonValue().equalsIgnoreCase(value.trim()))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("The delete conflicts must be abort or proceed: "
+                        + value));
+    }
+}
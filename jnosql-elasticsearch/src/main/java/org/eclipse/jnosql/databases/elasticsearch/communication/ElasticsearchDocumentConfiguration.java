@@ -82,7 +82,9 @@ public class ElasticsearchDocumentConfiguration implements DatabaseConfiguration
     public ElasticsearchDocumentManagerFactory apply(Settings settings) {
         ElasticsearchClient elasticsearchClient = buildElasticsearchClient(settings);
 
-        return new ElasticsearchDocumentManagerFactory(elasticsearchClient);
+        return new ElasticsearchDocumentManagerFactory(elasticsearchClient,
+                ElasticsearchMappingCache.of(elasticsearchClient, settings), ElasticsearchBulkOptions.of(settings),
+                ElasticsearchSearchOptions.of(settings), ElasticsearchDeleteOptions.of(settings));
     }
 
     public ElasticsearchClient buildElasticsearchClient(Settings settings) {
@@ -19,7 +19,10 @@ package org.eclipse.jnosql.databases.elasticsearch.communication;
 import co.elastic.clients.elasticsearch.core.SearchRequest;
 import org.eclipse.jnosql.communication.semistructured.CommunicationEntity;
 import org.eclipse.jnosql.communication.semistructured.DatabaseManager;
+import org.eclipse.jnosql.communication.semistructured.DeleteQuery;
+import org.eclipse.jnosql.communication.semistructured.SelectQuery;
 
+import java.util.Objects;
 import java.util.stream.Stream;
 
 /**
@@ -36,4 +39,33 @@ public interface ElasticsearchDocumentManager extends DatabaseManager {
      */
     Stream<CommunicationEntity> search(SearchRequest query) throws NullPointerException;
 
+    /**
+     * Counts the entities that match the query with a {@code _count} request, without reading them. The skip and the
+     * limit of the query bound the result. The default implementation counts the entities of {@link #select(SelectQuery)}.
+     *
+     * @param query the query
+     * @return the number of entities that match the query
+     * @throws NullPointerException when the query is null
+     */
+    default long count(SelectQuery query) throws NullPointerException {
+        Objects.requireNonNull(query, "query is required");
+        try (Stream<CommunicationEntity> entities = select(query)) {
+            return entities.count();
+        }
+    }
+
+    /**
+     * Starts a {@code _delete_by_query} on the server without waiting for it to finish.
+     * The default implementation does not support it.
+     *
+     * @param query the query
+     * @return the id of the task that deletes the entities, to follow it with the tasks API
+     * @throws NullPointerException          when the query is null
+     * @throws UnsupportedOperationException when the implementation cannot start a task
+     */
+    default String deleteAsync(DeleteQuery query) throws NullPointerException {
+        Objects.requireNonNull(query, "query is required");
+        throw new UnsupportedOperationException("This manager does not support the delete by query tasks");
+    }
+
 }
@@ -36,8 +36,27 @@ public class ElasticsearchDocumentManagerFactory implements DatabaseManagerFacto
 
     private final ElasticsearchClient elasticsearchClient;
 
+    private final ElasticsearchMappingCache mappings;
+
+    private final ElasticsearchBulkOptions options;
+
+    private final ElasticsearchSearchOptions searchOptions;
+
+    private final ElasticsearchDeleteOptions deleteOptions;
+
     ElasticsearchDocumentManagerFactory(ElasticsearchClient elasticsearchClient) {
+        this(elasticsearchClient, ElasticsearchMappingCache.of(elasticsearchClient), ElasticsearchBulkOptions.DEFAULT,
+                ElasticsearchSearchOptions.DEFAULT, ElasticsearchDeleteOptions.DEFAULT);
+    }
+
+    ElasticsearchDocumentManagerFactory(ElasticsearchClient elasticsearchClient, ElasticsearchMappingCache mappings,
+                                        ElasticsearchBulkOptions options, ElasticsearchSearchOptions searchOptions,
+                                        ElasticsearchDeleteOptions deleteOptions) {
         this.elasticsearchClient = elasticsearchClient;
+        this.mappings = mappings;
+        this.options = options;
+        this.searchOptions = searchOptions;
+        this.deleteOptions = deleteOptions;
     }
 
 
@@ -46,7 +65,8 @@ public class ElasticsearchDocumentManagerFactory implements DatabaseManagerFacto
         Objects.requireNonNull(database, "database is required");
 
         initDatabase(database);
-        return new DefaultElasticsearchDocumentManager(elasticsearchClient, database);
+        return new DefaultElasticsearchDocumentManager(elasticsearchClient, database, mappings, options,
+                searchOptions, deleteOptions);
     }
 
     private void initDatabase(String database) {
@@ -77,6 +97,7 @@ public class ElasticsearchDocumentManagerFactory implements DatabaseManagerFacto
                 throw new ElasticsearchException("Error when create a new mapping", ex);
             }
         }
+        mappings.invalidate(database);
     }
 
     private boolean isExists(String database) {
@@ -90,6 +111,15 @@ public class ElasticsearchDocumentManagerFactory implements DatabaseManagerFacto
         }
     }
 
+    /**
+     * The mappings the managers of this factory use to build the selects, shared by all of them.
+     *
+     * @return the mapping cache
+     */
+    public ElasticsearchMappingCache mappings() {
+        return mappings;
+    }
+
     @Override
     public void close() {
         try {
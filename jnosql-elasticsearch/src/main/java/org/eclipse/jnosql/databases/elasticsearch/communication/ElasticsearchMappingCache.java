@@ -0,0 +1,147 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *   Maximillian Arruda
+ */
+package org.eclipse.jnosql.databases.elasticsearch.communication;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch.indices.get_mapping.IndexMappingRecord;
+import org.eclipse.jnosql.communication.Settings;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * Caches the mapping of each index, which the select needs to choose between a term and a match query, so a select
+ * does not request the mapping every time. An entry is loaded again on the first access after the time to live, so a
+ * mapping changed outside the application is eventually seen; the factory drops the entry of an index it creates.
+ *
+ * @see ElasticsearchConfigurations#MAPPING_CACHE_TTL
+ */
+public final class ElasticsearchMappingCache {
+
+    static final Duration DEFAULT_TTL = Duration.ofMinutes(5);
+
+    private final ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<>();
+
+    private final Function<String, IndexMappingRecord> loader;
+
+    private final long ttlNanos;
+
+    private final LongSupplier nanoTime;
+
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    ElasticsearchMappingCache(Function<String, IndexMappingRecord> loader, Duration ttl, LongSupplier nanoTime) {
+        this.loader = Objects.requireNonNull(loader, "loader is required");
+        Objects.requireNonNull(ttl, "ttl is required");
+        if (ttl.isNegative()) {
+            throw new IllegalArgumentException("The mapping cache TTL must not be negative: " + ttl);
+        }
+        this.ttlNanos = ttl.toNanos();
+        this.nanoTime = Objects.requireNonNull(nanoTime, "nanoTime is required");
+    }
+
+    static ElasticsearchMappingCache of(ElasticsearchClient client) {
+        Objects.requireNonNull(client, "client is required");
+        return new ElasticsearchMappingCache(index -> load(client, index), DEFAULT_TTL, System::nanoTime);
+    }
+
+    static ElasticsearchMappingCache of(ElasticsearchClient client, Settings settings) {
+        Objects.requireNonNull(client, "client is required");
+        Duration ttl = settings.get(ElasticsearchConfigurations.MAPPING_CACHE_TTL, Long.class)
+                .map(Duration::ofSeconds)
+                .orElse(DEFAULT_TTL);
+        return new ElasticsearchMappingCache(index -> load(client, index), ttl, System::nanoTime);
+    }
+
+    static IndexMappingRecord load(ElasticsearchClient client, String index) {
+        try {
+            return client.indices().getMapping(q -> q.index(index)).get(index);
+        } catch (IOException e) {
+            throw new IllegalStateException("cannot retrieve the index's mapping: %s".formatted(e.getMessage()), e);
+        }
+    }
+
+    /**
+     * @param index the index name
+     * @return the mapping of the index, loaded when it is absent or older than the time to live
+     */
+    IndexMappingRecord get(String index) {
+        Objects.requireNonNull(index, "index is required");
+        long now = nanoTime.getAsLong();
+        Entry cached = entries.get(index);
+        if (cached != null && now - cached.loadedAt() < ttlNanos) {
+            hits.increment();
+            return cached.mapping();
+        }
+        // the mapping is requested outside of the map, so a slow request does not lock the other indexes; concurrent
+        // misses may request it more than once, then the most recent load is kept
+        misses.increment();
+        Entry loaded = new Entry(loader.apply(index), now);
+        return entries.merge(index, loaded, (current, candidate) ->
+                current.loadedAt() > candidate.loadedAt() ? current : candidate).mapping();
+    }
+
+    /**
+     * Drops the mapping of the index, the next select loads it again.
+     *
+     * @param index the index name
+     * @throws NullPointerException when index is null
+     */
+    public void invalidate(String index) {
+        Objects.requireNonNull(index, "index is required");
+        entries.remove(index);
+    }
+
+    /**
+     * Drops the mapping of every index.
+     */
+    public void invalidateAll() {
+        entries.clear();
+    }
+
+    /**
+     * @return the number of selects that used a cached mapping
+     */
+    public long hits() {
+        return hits.sum();
+    }
+
+    /**
+     * @return the number of selects that had to request the mapping
+     */
+    public long misses() {
+        return misses.sum();
+    }
+
+    @Override
+    public String toString() {
+        return "ElasticsearchMappingCache{" +
+                "indexes=" + entries.keySet() +
+                ", hits=" + hits.sum() +
+                ", misses=" + misses.sum() +
+                '}';
+    }
+
+    private record Entry(IndexMappingRecord mapping, long loadedAt) {
+    }
+}
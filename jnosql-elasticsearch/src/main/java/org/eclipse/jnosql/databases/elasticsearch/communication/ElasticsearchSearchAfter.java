@@ -0,0 +1,206 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *   Maximillian Arruda
+ */
+package org.eclipse.jnosql.databases.elasticsearch.communication;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch._types.FieldValue;
+import co.elastic.clients.elasticsearch._types.SortOptions;
+import co.elastic.clients.elasticsearch._types.SortOrder;
+import co.elastic.clients.elasticsearch._types.query_dsl.Query;
+import co.elastic.clients.elasticsearch.core.SearchResponse;
+import co.elastic.clients.elasticsearch.core.search.Hit;
+import org.eclipse.jnosql.communication.semistructured.CommunicationEntity;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Streams the hits of a search page by page. The first page is requested with a plain search, and when it holds
+ * every hit the stream is served from it. Otherwise it opens a point in time, so every page sees the same snapshot,
+ * and requests the pages again from the first one with {@code search_after} the sort values of the last hit, each
+ * only when the stream reaches it.
+ * The sorts of the query are followed by {@code _shard_doc}, the tiebreaker of a point in time, so no hit is skipped or
+ * read twice. Only the current page is held in memory.
+ * <p>The point in time is closed once the last page is read or when the stream is closed; a stream left open releases
+ * it when its keep alive expires.</p>
+ */
+final class ElasticsearchSearchAfter extends Spliterators.AbstractSpliterator<CommunicationEntity> {
+
+    private static final Logger LOGGER = Logger.getLogger(ElasticsearchSearchAfter.class.getName());
+
+    private static final SortOptions TIEBREAKER = SortOptions.of(s -> s
+            .field(f -> f.field("_shard_doc").order(SortOrder.Asc)));
+
+    private final ElasticsearchClient client;
+
+    private final Query query;
+
+    private final List<SortOptions> sorts;
+
+    private final ElasticsearchSearchOptions options;
+
+    private String pitId;
+
+    private List<FieldValue> searchAfter;
+
+    private Iterator<Hit<Map>> page = Collections.emptyIterator();
+
+    private boolean exhausted;
+
+    private ElasticsearchSearchAfter(ElasticsearchClient client, String pitId, Query query, List<SortOptions> sorts,
+                                     ElasticsearchSearchOptions options) {
+        super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL);
+        this.client = client;
+        this.pitId = pitId;
+        this.query = query;
+        this.sorts = sorts;
+        this.options = options;
+    }
+
+    /**
+     * @param client  the client
+     * @param index   the index
+     * @param query   the query, null to match all the documents
+     * @param sorts   the sorts of the query
+     * @param options the page size and the keep alive of the point in time
+     * @return the entities of the hits, which closes the point in time when it is closed
+     */
+    static Stream<CommunicationEntity> stream(ElasticsearchClient client, String index, Query query,
+                                              List<SortOptions> sorts, ElasticsearchSearchOptions options) {
+        Objects.requireNonNull(client, "client is required");
+        Objects.requireNonNull(index, "index is required");
+        Objects.requireNonNull(sorts, "sorts is required");
+        Objects.requireNonNull(options, "options is required");
+        List<Hit<Map>> firstPage = firstPage(client, index, query, sorts, options);
+        if (firstPage.size() < options.pageSize()) {
+            return firstPage.stream()
+                    .map(hit -> ElasticsearchEntry.of(hit.id(), hit.source()))
+                    .filter(ElasticsearchEntry::isNotEmpty)
+                    .map(ElasticsearchEntry::toEntity);
+        }
+        String pitId;
+        try {
+            pitId = client.openPointInTime(o -> o.index(index).keepAlive(k -> k.time(options.keepAlive()))).id();
+        } catch (IOException e) {
+            throw new ElasticsearchException("An error to open a point in time on elasticsearch", e);
+        }
+        var spliterator = new ElasticsearchSearchAfter(client, pitId, query, sorts, options);
+        return StreamSupport.stream(spliterator, false).onClose(spliterator::close);
+    }
+
+    /**
+     * The first page without a point in time: its sort values cannot be followed on a point in time opened later, so
+     * it is only used when it holds every hit.
+     */
+    private static List<Hit<Map>> firstPage(ElasticsearchClient client, String index, Query query,
+                                            List<SortOptions> sorts, ElasticsearchSearchOptions options) {
+        try {
+            return client.search(s -> {
+                s.index(index).size(options.pageSize());
+                if (!sorts.isEmpty()) {
+                    s.sort(sorts);
+                }
+                if (query != null) {
+                    s.query(query);
+                }
+                return s;
+            }, Map.class).hits().hits();
+        } catch (IOException e) {
+            throw new ElasticsearchException("An error to execute a query on elasticsearch", e);
+        }
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super CommunicationEntity> action) {
+        while (true) {
+            while (page.hasNext()) {
+                Hit<Map> hit = page.next();
+                var entry = ElasticsearchEntry.of(hit.id(), hit.source());
+                if (entry.isNotEmpty()) {
+                    action.accept(entry.toEntity());
+                    return true;
+                }
+            }
+            if (exhausted) {
+                return false;
+            }
+            fetch();
+        }
+    }
+
+    private void fetch() {
+        SearchResponse<Map> response;
+        try {
+            response = client.search(s -> {
+                s.pit(p -> p.id(pitId).keepAlive(k -> k.time(options.keepAlive())))
+                        .size(options.pageSize());
+                if (!sorts.isEmpty()) {
+                    s.sort(sorts);
+                }
+                s.sort(TIEBREAKER);
+                if (query != null) {
+                    s.query(query);
+                }
+                if (searchAfter != null) {
+                    s.searchAfter(searchAfter);
+                }
+                return s;
+            }, Map.class);
+        } catch (IOException | RuntimeException e) {
+            exhausted = true;
+            close();
+            if (e instanceof IOException) {
+                throw new ElasticsearchException("An error to execute a query on elasticsearch", e);
+            }
+            throw (RuntimeException) e;
+        }
+        if (response.pitId() != null) {
+            pitId = response.pitId();
+        }
+        List<Hit<Map>> hits = response.hits().hits();
+        if (hits.size() < options.pageSize()) {
+            exhausted = true;
+            close();
+        }
+        if (!hits.isEmpty()) {
+            searchAfter = hits.get(hits.size() - 1).sort();
+        }
+        page = hits.iterator();
+    }
+
+    private void close() {
+        if (pitId == null) {
+            return;
+        }
+        String id = pitId;
+        pitId = null;
+        try {
+            client.closePointInTime(c -> c.id(id));
+        } catch (IOException | RuntimeException e) {
+            LOGGER.fine(() -> "The point in time was not closed, it expires with its keep alive: " + e.getMessage());
+        }
+    }
+}
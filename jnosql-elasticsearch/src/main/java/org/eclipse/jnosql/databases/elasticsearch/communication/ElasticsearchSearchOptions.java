@@ -0,0 +1,70 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *   Maximillian Arruda
+ */
+package org.eclipse.jnosql.databases.elasticsearch.communication;
+
+import org.eclipse.jnosql.communication.Settings;
+
+import java.util.Objects;
+
+/**
+ * How a select reads the hits: a select whose skip plus limit fits in the result window is a single search request,
+ * any other one is streamed page by page from a point in time.
+ *
+ * @param pageSize        the number of hits of each page of a streamed select
+ * @param keepAlive       how long the point in time of a streamed select is kept between two pages, e.g. 1m
+ * @param maxResultWindow the largest skip plus limit read with a single search request, the
+ *                        {@code index.max_result_window} of the indexes
+ */
+record ElasticsearchSearchOptions(int pageSize, String keepAlive, int maxResultWindow) {
+
+    static final int DEFAULT_PAGE_SIZE = 1000;
+
+    static final String DEFAULT_KEEP_ALIVE = "1m";
+
+    static final int DEFAULT_MAX_RESULT_WINDOW = 10_000;
+
+    static final ElasticsearchSearchOptions DEFAULT = new ElasticsearchSearchOptions(DEFAULT_PAGE_SIZE,
+            DEFAULT_KEEP_ALIVE, DEFAULT_MAX_RESULT_WINDOW);
+
+    ElasticsearchSearchOptions {
+        if (pageSize < 1) {
+            throw new IllegalArgumentException("The search page size must be greater than zero: " + pageSize);
+        }
+        Objects.requireNonNull(keepAlive, "keepAlive is required");
+        if (maxResultWindow < 1) {
+            throw new IllegalArgumentException("The max result window must be greater than zero: " + maxResultWindow);
+        }
+    }
+
+    static ElasticsearchSearchOptions of(Settings settings) {
+        Objects.requireNonNull(settings, "settings is required");
+        return new ElasticsearchSearchOptions(
+                settings.get(ElasticsearchConfigurations.SEARCH_PAGE_SIZE, Integer.class)
+                        .orElse(DEFAULT_PAGE_SIZE),
+                settings.get(ElasticsearchConfigurations.SEARCH_KEEP_ALIVE)
+                        .map(Object::toString)
+                        .orElse(DEFAULT_KEEP_ALIVE),
+                settings.get(ElasticsearchConfigurations.SEARCH_MAX_RESULT_WINDOW, Integer.class)
+                        .orElse(DEFAULT_MAX_RESULT_WINDOW));
+    }
+
+    /**
+     * @return whether the hits from skip to skip plus limit are read with a single search request
+     */
+    boolean fitsInOneRequest(long skip, long limit) {
+        return limit > 0 && skip + limit <= maxResultWindow;
+    }
+}
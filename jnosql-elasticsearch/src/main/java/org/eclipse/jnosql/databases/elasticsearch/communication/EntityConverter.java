@@ -17,6 +17,7 @@ package org.eclipse.jnosql.databases.elasticsearch.communication;
 
 
 import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch._types.SortOptions;
 import co.elastic.clients.elasticsearch._types.SortOrder;
 import co.elastic.clients.elasticsearch.core.SearchRequest;
 import co.elastic.clients.elasticsearch.core.SearchResponse;
@@ -27,6 +28,7 @@ import org.eclipse.jnosql.communication.semistructured.SelectQuery;
 
 import java.io.IOException;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.function.Consumer;
 import java.util.stream.Stream;
@@ -54,18 +56,31 @@ final class EntityConverter {
         return jsonObject;
     }
 
-    static Stream<CommunicationEntity> query(SelectQuery query, ElasticsearchClient client, String index) {
-        QueryConverterResult select = QueryConverter.select(client, index, query);
-
-        try {
-            Stream<CommunicationEntity> statementQueryStream = Stream.empty();
-            if (select.hasStatement()) {
-                statementQueryStream = executeStatement(query, client, index, select);
+    /**
+     * A select whose skip plus limit fits in the result window is a single search request, any other one is streamed
+     * page by page with {@code search_after} on a point in time, so it reads every hit instead of the first page.
+     */
+    static Stream<CommunicationEntity> query(SelectQuery query, ElasticsearchClient client,
+                                             ElasticsearchMappingCache mappings, ElasticsearchSearchOptions options,
+                                             String index) {
+        QueryConverterResult select = QueryConverter.select(mappings, index, query);
+
+        if (!select.hasStatement()) {
+            return Stream.empty();
+        }
+        if (options.fitsInOneRequest(query.skip(), query.limit())) {
+            try {
+                return executeStatement(query, client, index, select);
+            } catch (IOException e) {
+                throw new ElasticsearchException("An error to execute a query on elasticsearch", e);
             }
-            return statementQueryStream.distinct();
-        } catch (IOException e) {
-            throw new ElasticsearchException("An error to execute a query on elasticsearch", e);
         }
+        Stream<CommunicationEntity> entities = ElasticsearchSearchAfter.stream(client, index,
+                select.statement().build(), sorts(query), options).skip(query.skip());
+        if (query.limit() > 0) {
+            return entities.limit(query.limit());
+        }
+        return entities;
     }
 
     private static Stream<CommunicationEntity> executeStatement(SelectQuery query, ElasticsearchClient client, String index,
@@ -132,14 +147,18 @@ final class EntityConverter {
         return searchBuilder;
     }
 
+    private static List<SortOptions> sorts(SelectQuery query) {
+        return query.sorts().stream()
+                .map(d -> SortOptions.of(s -> s.field(f -> f.field(d.property())
+                        .order(d.isAscending() ? SortOrder.Asc : SortOrder.Desc))))
+                .toList();
+    }
+
     private static void feedBuilder(SelectQuery query, SearchRequest.Builder searchSource) {
-        query.sorts().forEach(d -> {
-            if (d.isAscending()) {
-                searchSource.sort(s -> s.field(f -> f.field(d.property()).order(SortOrder.Asc)));
-            } else {
-                searchSource.sort(s -> s.field(f -> f.field(d.property()).order(SortOrder.Desc)));
-            }
-        });
+        List<SortOptions> sorts = sorts(query);
+        if (!sorts.isEmpty()) {
+            searchSource.sort(sorts);
+        }
 
         int from = (int) query.skip();
         int size = (int) query.limit();
@@ -33,7 +33,6 @@ import org.eclipse.jnosql.communication.semistructured.CriteriaCondition;
 import org.eclipse.jnosql.communication.semistructured.Element;
 import org.eclipse.jnosql.communication.semistructured.SelectQuery;
 
-import java.io.IOException;
 import java.util.EnumSet;
 import java.util.List;
 import java.util.Map;
@@ -52,8 +51,14 @@ final class QueryConverter {
     }
 
     static QueryConverterResult select(ElasticsearchClient client, String database, SelectQuery query) {
+        return select(ElasticsearchMappingCache.load(client, database), query);
+    }
+
+    static QueryConverterResult select(ElasticsearchMappingCache mappings, String database, SelectQuery query) {
+        return select(mappings.get(database), query);
+    }
 
-        var indexMappingRecord = getIndexMappingRecord(client, database, query);
+    private static QueryConverterResult select(IndexMappingRecord indexMappingRecord, SelectQuery query) {
 
         Query.Builder nameCondition = Optional.of(query.name())
                 .map(collection -> {
@@ -102,16 +107,6 @@ final class QueryConverter {
         return Objects.nonNull(property) && property.isKeyword();
     }
 
-    private static IndexMappingRecord getIndexMappingRecord(ElasticsearchClient client, String database, SelectQuery query) {
-        try {
-            return client.indices().getMapping(q -> q.index(database))
-                    .get(database);
-        } catch (IOException e) {
-            throw new IllegalStateException("cannot retrieve the index's mapping: %s".formatted(e.getMessage()), e);
-        }
-    }
-
-
     private static Query.Builder getCondition(IndexMappingRecord indexMappingRecord, CriteriaCondition condition) {
         Element document = condition.element();
 
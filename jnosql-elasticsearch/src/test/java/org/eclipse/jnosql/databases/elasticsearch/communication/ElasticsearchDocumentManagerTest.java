@@ -16,6 +16,7 @@ package org.eclipse.jnosql.databases.elasticsearch.communication;
 
 import co.elastic.clients.elasticsearch.core.SearchRequest;
 import org.awaitility.Awaitility;
+import org.eclipse.jnosql.communication.Settings;
 import org.eclipse.jnosql.communication.TypeReference;
 import org.eclipse.jnosql.communication.semistructured.CommunicationEntity;
 import org.eclipse.jnosql.communication.semistructured.DeleteQuery;
@@ -34,6 +35,7 @@ import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.Callable;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import static java.util.Arrays.asList;
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
@@ -124,6 +126,73 @@ public class ElasticsearchDocumentManagerTest {
         await().until(getSingleResult(query), equalTo(documentEntity));
     }
 
+    @Test
+    public void shouldInsertInBulkRequests() {
+        var settings = Settings.builder()
+                .put(ElasticsearchConfigurations.HOST.get() + ".1", DocumentDatabase.INSTANCE.host())
+                .put(ElasticsearchConfigurations.BULK_MAX_OPERATIONS.get(), "2")
+                .put(ElasticsearchConfigurations.REFRESH_POLICY.get(), "wait_for")
+                .build();
+        var manager = new ElasticsearchDocumentConfiguration().apply(settings).apply(DocumentEntityGerator.INDEX);
+        List<CommunicationEntity> entities = IntStream.rangeClosed(1, 5)
+                .mapToObj(index -> {
+                    var entity = DocumentEntityGerator.getEntity();
+                    entity.add(EntityConverter.ID_FIELD, "bulk-" + index);
+                    return entity;
+                })
+                .toList();
+
+        var inserted = manager.insert(entities);
+
+        assertThat(inserted).containsExactlyElementsOf(entities);
+        assertEquals(5L, manager.count(DocumentEntityGerator.COLLECTION_NAME));
+    }
+
+    @Test
+    public void shouldReportTheEntitiesThatFailedOnBulkInsert() {
+        var first = DocumentEntityGerator.getEntity();
+        first.add(EntityConverter.ID_FIELD, "age-1");
+        first.add("age", 10);
+        entityManager.insert(first);
+        var valid = DocumentEntityGerator.getEntity();
+        valid.add(EntityConverter.ID_FIELD, "age-2");
+        valid.add("age", 20);
+        var invalid = DocumentEntityGerator.getEntity();
+        invalid.add(EntityConverter.ID_FIELD, "age-3");
+        invalid.add("age", "ten");
+
+        var exception = assertThrows(ElasticsearchBulkException.class,
+                () -> entityManager.insert(List.of(valid, invalid)));
+
+        assertThat(exception.failures()).containsOnlyKeys(1);
+        assertThat(exception.entities()).containsExactly(invalid);
+    }
+
+    @Test
+    public void shouldStreamAllTheHitsFromAPointInTime() {
+        var settings = Settings.builder()
+                .put(ElasticsearchConfigurations.HOST.get() + ".1", DocumentDatabase.INSTANCE.host())
+                .put(ElasticsearchConfigurations.REFRESH_POLICY.get(), "wait_for")
+                .put(ElasticsearchConfigurations.SEARCH_PAGE_SIZE.get(), "3")
+                .build();
+        var manager = new ElasticsearchDocumentConfiguration().apply(settings).apply(DocumentEntityGerator.INDEX);
+        manager.insert(IntStream.rangeClosed(1, 12)
+                .mapToObj(index -> {
+                    var entity = DocumentEntityGerator.getEntity();
+                    entity.add(EntityConverter.ID_FIELD, "page-" + index);
+                    return entity;
+                })
+                .toList());
+
+        var query = select().from(DocumentEntityGerator.COLLECTION_NAME).build();
+        var skipped = select().from(DocumentEntityGerator.COLLECTION_NAME).skip(4).build();
+
+        assertThat(manager.select(query).map(e -> e.find(EntityConverter.ID_FIELD).orElseThrow().get()))
+                .hasSize(12)
+                .doesNotHaveDuplicates();
+        assertThat(manager.select(skipped)).hasSize(8);
+    }
+
     @Test
     public void shouldInsertTTL() {
         assertThrows(UnsupportedOperationException.class, () -> entityManager.insert(DocumentEntityGerator.getEntity(), Duration.ofSeconds(1L)));
@@ -411,6 +480,38 @@ public class ElasticsearchDocumentManagerTest {
                 equalTo(2L));
     }
 
+    @Test
+    public void shouldCountTheQueryOnTheServer() {
+        var entity = DocumentEntityGerator.getEntity();
+        var entity2 = DocumentEntityGerator.getEntity();
+        entity2.add(Element.of("_id", "test"));
+        entity2.add(Element.of("name", "Ada"));
+        entityManager.insert(List.of(entity, entity2));
+
+        var query = select().from(DocumentEntityGerator.COLLECTION_NAME).where("name").eq("Ada").build();
+
+        // it's required in order to avoid an eventual inconsistency
+        await().until(() -> entityManager.count(query), equalTo(1L));
+        assertEquals(1L, entityManager.count(select().from(DocumentEntityGerator.COLLECTION_NAME).limit(1).build()));
+    }
+
+    @Test
+    public void shouldDeleteOnTheServerWithoutWaiting() {
+        var documentEntity = entityManager.insert(DocumentEntityGerator.getEntity());
+        var id = documentEntity.find("_id").get();
+        var query = select().from(DocumentEntityGerator.COLLECTION_NAME).where(id.name()).eq(id.get()).build();
+
+        // it's required in order to avoid an eventual inconsistency
+        await().until(numberOfEntitiesFrom(query), equalTo(1L));
+
+        var deleteQuery = delete().from(DocumentEntityGerator.COLLECTION_NAME).where(id.name()).eq(id.get()).build();
+        var task = entityManager.deleteAsync(deleteQuery);
+
+        assertNotNull(task);
+        // it's required in order to avoid an eventual inconsistency
+        await().until(numberOfEntitiesFrom(query), equalTo(0L));
+    }
+
     private CommunicationEntity createSubdocumentList() {
         CommunicationEntity entity = CommunicationEntity.of(DocumentEntityGerator.COLLECTION_NAME);
         entity.add(Element.of("_id", "ids"));
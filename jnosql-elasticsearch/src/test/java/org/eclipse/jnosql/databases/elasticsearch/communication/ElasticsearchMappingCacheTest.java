@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ *
+ * Contributors:
+ *
+ * Maximillian Arruda
+ *
+ */
+package org.eclipse.jnosql.databases.elasticsearch.communication;
+
+import co.elastic.clients.elasticsearch._types.mapping.KeywordProperty;
+import co.elastic.clients.elasticsearch.indices.get_mapping.IndexMappingRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+
+class ElasticsearchMappingCacheTest {
+
+    private final AtomicLong now = new AtomicLong();
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private ElasticsearchMappingCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new ElasticsearchMappingCache(this::load, Duration.ofSeconds(10), now::get);
+    }
+
+    @Test
+    void shouldLoadOnce() {
+        var first = cache.get("library");
+        var second = cache.get("library");
+
+        assertSoftly(softly -> {
+            softly.assertThat(second).isSameAs(first);
+            softly.assertThat(loads).hasValue(1);
+            softly.assertThat(cache.hits()).isEqualTo(1L);
+            softly.assertThat(cache.misses()).isEqualTo(1L);
+            softly.assertThat(QueryConverter.supportTermQuery(first, EntityConverter.ENTITY)).isTrue();
+        });
+    }
+
+    @Test
+    void shouldLoadAgainAfterTheTtl() {
+        var first = cache.get("library");
+        now.addAndGet(Duration.ofSeconds(9).toNanos());
+        var cached = cache.get("library");
+        now.addAndGet(Duration.ofSeconds(1).toNanos());
+        var reloaded = cache.get("library");
+
+        assertSoftly(softly -> {
+            softly.assertThat(cached).isSameAs(first);
+            softly.assertThat(reloaded).isNotSameAs(first);
+            softly.assertThat(loads).hasValue(2);
+            softly.assertThat(cache.hits()).isEqualTo(1L);
+            softly.assertThat(cache.misses()).isEqualTo(2L);
+        });
+    }
+
+    @Test
+    void shouldLoadAgainAfterInvalidate() {
+        var first = cache.get("library");
+        cache.get("person");
+        cache.invalidate("library");
+        var reloaded = cache.get("library");
+        cache.get("person");
+        cache.invalidateAll();
+        cache.get("person");
+
+        assertSoftly(softly -> {
+            softly.assertThat(reloaded).isNotSameAs(first);
+            softly.assertThat(loads).hasValue(4);
+            softly.assertThat(cache.hits()).isEqualTo(1L);
+            softly.assertThat(cache.misses()).isEqualTo(4L);
+        });
+    }
+
+    @Test
+    void shouldNotCacheWithoutTtl() {
+        cache = new ElasticsearchMappingCache(this::load, Duration.ZERO, now::get);
+        cache.get("library");
+        cache.get("library");
+
+        assertSoftly(softly -> {
+            softly.assertThat(loads).hasValue(2);
+            softly.assertThat(cache.hits()).isZero();
+        });
+    }
+
+    private IndexMappingRecord load(String index) {
+        loads.incrementAndGet();
+        return IndexMappingRecord.of(r -> r.mappings(m -> m
+                .properties(EntityConverter.ENTITY, p -> p.keyword(KeywordProperty.of(k -> k)))));
+    }
+}
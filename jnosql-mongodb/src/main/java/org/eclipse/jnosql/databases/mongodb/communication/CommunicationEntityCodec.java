@@ -0,0 +1,258 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.mongodb.communication;
+
+import org.bson.BsonDocument;
+import org.bson.BsonDocumentWriter;
+import org.bson.BsonReader;
+import org.bson.BsonType;
+import org.bson.BsonValue;
+import org.bson.BsonWriter;
+import org.bson.Document;
+import org.bson.codecs.BsonTypeClassMap;
+import org.bson.codecs.Codec;
+import org.bson.codecs.CollectibleCodec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+import org.bson.codecs.configuration.CodecRegistry;
+import org.bson.types.Binary;
+import org.bson.types.ObjectId;
+import org.eclipse.jnosql.communication.Value;
+import org.eclipse.jnosql.communication.ValueUtil;
+import org.eclipse.jnosql.communication.semistructured.CommunicationEntity;
+import org.eclipse.jnosql.communication.semistructured.Element;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Optional;
+
+import static org.eclipse.jnosql.databases.mongodb.communication.MongoDBUtils.ID_FIELD;
+
+/**
+ * A {@link CollectibleCodec} that writes the {@link Element} tree of a {@link CommunicationEntity} straight to a
+ * {@link BsonWriter} and reads it back from a {@link BsonReader}, so there is no intermediate {@link Document}.
+ * It keeps the same mapping rules as {@link MongoDBUtils#getDocument(CommunicationEntity)} and
+ * {@link MongoDBUtils#of(java.util.Map)}; the values that are neither sub-documents nor lists of sub-documents
+ * are delegated to the codecs of the {@link CodecRegistry}.
+ * <p>As a BSON document does not carry the collection name, each instance decodes the entities of one collection.</p>
+ */
+final class CommunicationEntityCodec implements CollectibleCodec<CommunicationEntity> {
+
+    private static final BsonTypeClassMap BSON_TYPE_CLASS_MAP = new BsonTypeClassMap();
+
+    private final String name;
+
+    private final CodecRegistry registry;
+
+    CommunicationEntityCodec(String name, CodecRegistry registry) {
+        this.name = name;
+        this.registry = registry;
+    }
+
+    @Override
+    public Class<CommunicationEntity> getEncoderClass() {
+        return CommunicationEntity.class;
+    }
+
+    @Override
+    public void encode(BsonWriter writer, CommunicationEntity entity, EncoderContext context) {
+        writer.writeStartDocument();
+        Optional<Element> id = entity.find(ID_FIELD);
+        if (id.isPresent()) {
+            writer.writeName(ID_FIELD);
+            writeValue(writer, id.get().value(), context);
+        }
+        for (Element element : entity.elements()) {
+            if (!ID_FIELD.equals(element.name())) {
+                writer.writeName(element.name());
+                writeValue(writer, element.value(), context);
+            }
+        }
+        writer.writeEndDocument();
+    }
+
+    @Override
+    public CommunicationEntity decode(BsonReader reader, DecoderContext context) {
+        CommunicationEntity entity = CommunicationEntity.of(name);
+        reader.readStartDocument();
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            String field = reader.readName();
+            if (reader.getCurrentBsonType() == BsonType.NULL) {
+                reader.readNull();
+            } else {
+                entity.add(readElement(reader, field, context));
+            }
+        }
+        reader.readEndDocument();
+        return entity;
+    }
+
+    @Override
+    public CommunicationEntity generateIdIfAbsentFromDocument(CommunicationEntity entity) {
+        if (!documentHasId(entity)) {
+            entity.remove(ID_FIELD);
+            entity.add(Element.of(ID_FIELD, new ObjectId()));
+        }
+        return entity;
+    }
+
+    @Override
+    public boolean documentHasId(CommunicationEntity entity) {
+        return entity.find(ID_FIELD).map(Element::get).isPresent();
+    }
+
+    @Override
+    public BsonValue getDocumentId(CommunicationEntity entity) {
+        Element id = entity.find(ID_FIELD)
+                .orElseThrow(() -> new IllegalStateException("The entity does not contain an _id"));
+        BsonDocument document = new BsonDocument();
+        BsonDocumentWriter writer = new BsonDocumentWriter(document);
+        writer.writeStartDocument();
+        writer.writeName(ID_FIELD);
+        writeValue(writer, id.value(), EncoderContext.builder().build());
+        writer.writeEndDocument();
+        return document.get(ID_FIELD);
+    }
+
+    private void writeValue(BsonWriter writer, Value value, EncoderContext context) {
+        writeObject(writer, ValueUtil.convert(value), context);
+    }
+
+    private void writeObject(BsonWriter writer, Object value, EncoderContext context) {
+        if (value == null) {
+            writer.writeNull();
+        } else if (value instanceof Element element) {
+            writer.writeStartDocument();
+            writer.writeName(element.name());
+            writeValue(writer, element.value(), context);
+            writer.writeEndDocument();
+        } else if (value instanceof Iterable<?> iterable && isSubDocument(iterable)) {
+            writeSubDocument(writer, iterable, context);
+        } else if (value instanceof Iterable<?> iterable && isSubDocumentList(iterable)) {
+            writer.writeStartArray();
+            for (Object item : iterable) {
+                writeSubDocument(writer, (Iterable<?>) item, context);
+            }
+            writer.writeEndArray();
+        } else {
+            encode(writer, value, context);
+        }
+    }
+
+    private void writeSubDocument(BsonWriter writer, Iterable<?> elements, EncoderContext context) {
+        writer.writeStartDocument();
+        for (Object item : elements) {
+            Element element = (Element) item;
+            writer.writeName(element.name());
+            writeValue(writer, element.value(), context);
+        }
+        writer.writeEndDocument();
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> void encode(BsonWriter writer, T value, EncoderContext context) {
+        Codec<T> codec = (Codec<T>) registry.get(value.getClass());
+        context.encodeWithChildContext(codec, writer, value);
+    }
+
+    private Element readElement(BsonReader reader, String field, DecoderContext context) {
+        BsonType type = reader.getCurrentBsonType();
+        if (type == BsonType.DOCUMENT) {
+            return Element.of(field, readElements(reader, context, true));
+        } else if (type == BsonType.ARRAY) {
+            return readArray(reader, field, context);
+        }
+        return Element.of(field, Value.of(readValue(reader, context)));
+    }
+
+    private List<Element> readElements(BsonReader reader, DecoderContext context, boolean skipNull) {
+        List<Element> elements = new ArrayList<>();
+        reader.readStartDocument();
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            String field = reader.readName();
+            if (reader.getCurrentBsonType() == BsonType.NULL && skipNull) {
+                reader.readNull();
+            } else if (reader.getCurrentBsonType() == BsonType.NULL) {
+                reader.readNull();
+                elements.add(Element.of(field, null));
+            } else {
+                elements.add(readElement(reader, field, context));
+            }
+        }
+        reader.readEndDocument();
+        return elements;
+    }
+
+    private Element readArray(BsonReader reader, String field, DecoderContext context) {
+        List<Object> values = new ArrayList<>();
+        BitSet documents = new BitSet();
+        reader.readStartArray();
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            if (reader.getCurrentBsonType() == BsonType.DOCUMENT) {
+                documents.set(values.size());
+                values.add(readElements(reader, context, false));
+            } else {
+                values.add(readValue(reader, context));
+            }
+        }
+        reader.readEndArray();
+        if (documents.cardinality() == values.size()) {
+            return Element.of(field, values);
+        }
+        documents.stream().forEach(index -> values.set(index, toDocument(values.get(index))));
+        return Element.of(field, Value.of(values));
+    }
+
+    private Object readValue(BsonReader reader, DecoderContext context) {
+        BsonType type = reader.getCurrentBsonType();
+        if (type == BsonType.NULL) {
+            reader.readNull();
+            return null;
+        }
+        Object value = registry.get(BSON_TYPE_CLASS_MAP.get(type)).decode(reader, context);
+        if (value instanceof Binary binary) {
+            return binary.getData();
+        }
+        return value;
+    }
+
+    private static Document toDocument(Object elements) {
+        Document document = new Document();
+        for (Object item : (Iterable<?>) elements) {
+            Element element = (Element) item;
+            document.append(element.name(), element.get());
+        }
+        return document;
+    }
+
+    private static boolean isSubDocument(Iterable<?> iterable) {
+        for (Object item : iterable) {
+            if (!(item instanceof Element)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isSubDocumentList(Iterable<?> iterable) {
+        for (Object item : iterable) {
+            if (!(item instanceof Iterable<?> elements) || !isSubDocument(elements)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.mongodb.communication;
+
+import com.mongodb.ReadPreference;
+import com.mongodb.client.AggregateIterable;
+import com.mongodb.client.FindIterable;
+import com.mongodb.reactivestreams.client.AggregatePublisher;
+import com.mongodb.reactivestreams.client.FindPublisher;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * An immutable structure with the cursor tuning applied to the queries of {@link MongoDBDocumentManager}
+ * and {@link ReactiveMongoDBDocumentManager}. The manager defaults come from
+ * {@link MongoDBDocumentConfigurations#CURSOR_BATCH_SIZE}, {@link MongoDBDocumentConfigurations#CURSOR_NO_TIMEOUT},
+ * {@link MongoDBDocumentConfigurations#CURSOR_MAX_TIME} and {@link MongoDBDocumentConfigurations#READ_PREFERENCE};
+ * a single query might override them using {@link MongoDBDocumentManager#select(org.eclipse.jnosql.communication.semistructured.SelectQuery, MongoDBCursorOptions)}.
+ *
+ * @param batchSize       the number of documents per cursor batch, zero to use the server default
+ * @param noCursorTimeout whether the server must keep an idle cursor open
+ * @param maxTime         the maximum execution time on the server, null to not limit it
+ * @param readPreference  the read preference, null to keep the one from the client
+ */
+public record MongoDBCursorOptions(int batchSize, boolean noCursorTimeout, Duration maxTime,
+                                   ReadPreference readPreference) {
+
+    private static final MongoDBCursorOptions DEFAULT = new MongoDBCursorOptions(0, false, null, null);
+
+    public MongoDBCursorOptions {
+        if (batchSize < 0) {
+            throw new IllegalArgumentException("The batch size must be greater or equals than zero: " + batchSize);
+        }
+    }
+
+    /**
+     * Returns the options that keep the driver and server defaults
+     *
+     * @return the default options
+     */
+    public static MongoDBCursorOptions defaults() {
+        return DEFAULT;
+    }
+
+    /**
+     * Returns a copy with the batch size
+     *
+     * @param batchSize the number of documents per cursor batch
+     * @return a new instance
+     * @throws IllegalArgumentException when batchSize is negative
+     */
+    public MongoDBCursorOptions withBatchSize(int batchSize) {
+        return new MongoDBCursorOptions(batchSize, noCursorTimeout, maxTime, readPreference);
+    }
+
+    /**
+     * Returns a copy with the no cursor timeout flag
+     *
+     * @param noCursorTimeout whether the server must keep an idle cursor open
+     * @return a new instance
+     */
+    public MongoDBCursorOptions withNoCursorTimeout(boolean noCursorTimeout) {
+        return new MongoDBCursorOptions(batchSize, noCursorTimeout, maxTime, readPreference);
+    }
+
+    /**
+     * Returns a copy with the maximum execution time
+     *
+     * @param maxTime the maximum execution time on the server
+     * @return a new instance
+     * @throws NullPointerException when maxTime is null
+     */
+    public MongoDBCursorOptions withMaxTime(Duration maxTime) {
+        Objects.requireNonNull(maxTime, "maxTime is required");
+        return new MongoDBCursorOptions(batchSize, noCursorTimeout, maxTime, readPreference);
+    }
+
+    /**
+     * Returns a copy with the read preference
+     *
+     * @param readPreference the read preference
+     * @return a new instance
+     * @throws NullPointerException when readPreference is null
+     */
+    public MongoDBCursorOptions withReadPreference(ReadPreference readPreference) {
+        Objects.requireNonNull(readPreference, "readPreference is required");
+        return new MongoDBCursorOptions(batchSize, noCursorTimeout, maxTime, readPreference);
+    }
+
+    Optional<ReadPreference> findReadPreference() {
+        return Optional.ofNullable(readPreference);
+    }
+
+    <T> FindIterable<T> apply(FindIterable<T> documents) {
+        if (batchSize > 0) {
+            documents.batchSize(batchSize);
+        }
+        if (maxTime != null) {
+            documents.maxTime(maxTime.toMillis(), TimeUnit.MILLISECONDS);
+        }
+        return documents.noCursorTimeout(noCursorTimeout);
+    }
+
+    <T> AggregateIterable<T> apply(AggregateIterable<T> documents) {
+        if (batchSize > 0) {
+            documents.batchSize(batchSize);
+        }
+        if (maxTime != null) {
+            documents.maxTime(maxTime.toMillis(), TimeUnit.MILLISECONDS);
+        }
+        return documents;
+    }
+
+    <T> FindPublisher<T> apply(FindPublisher<T> documents) {
+        if (batchSize > 0) {
+            documents.batchSize(batchSize);
+        }
+        if (maxTime != null) {
+            documents.maxTime(maxTime.toMillis(), TimeUnit.MILLISECONDS);
+        }
+        return documents.noCursorTimeout(noCursorTimeout);
+    }
+
+    <T> AggregatePublisher<T> apply(AggregatePublisher<T> documents) {
+        if (batchSize > 0) {
+            documents.batchSize(batchSize);
+        }
+        if (maxTime != null) {
+            documents.maxTime(maxTime.toMillis(), TimeUnit.MILLISECONDS);
+        }
+        return documents;
+    }
+}
@@ -19,7 +19,6 @@ import com.mongodb.MongoClientSettings;
 import com.mongodb.MongoCredential;
 import com.mongodb.ServerAddress;
 import com.mongodb.client.MongoClient;
-import com.mongodb.client.MongoClients;
 import org.eclipse.jnosql.communication.Configurations;
 import org.eclipse.jnosql.communication.Settings;
 import org.eclipse.jnosql.communication.SettingsBuilder;
@@ -67,7 +66,24 @@ public class MongoDBDocumentConfiguration implements DatabaseConfiguration {
      */
     public MongoDBDocumentManagerFactory get(MongoClient mongoClient) throws NullPointerException {
         requireNonNull(mongoClient, "mongo client is required");
-        return new MongoDBDocumentManagerFactory(mongoClient);
+        return new MongoDBDocumentManagerFactory(mongoClient, MongoDBManagerSettings.DEFAULT);
+    }
+
+    /**
+     * Creates a {@link MongoDBDocumentManagerFactory} from both the blocking and the reactive streams clients,
+     * where the reactive one backs {@link MongoDBDocumentManagerFactory#reactive(String)}
+     *
+     * @param mongoClient         the mongo client {@link MongoClient}
+     * @param reactiveMongoClient the reactive streams mongo client {@link com.mongodb.reactivestreams.client.MongoClient}
+     * @return a MongoDBDocumentManagerFactory instance
+     * @throws NullPointerException when either mongoClient or reactiveMongoClient is null
+     */
+    public MongoDBDocumentManagerFactory get(MongoClient mongoClient,
+                                             com.mongodb.reactivestreams.client.MongoClient reactiveMongoClient)
+            throws NullPointerException {
+        requireNonNull(mongoClient, "mongo client is required");
+        requireNonNull(reactiveMongoClient, "reactive mongo client is required");
+        return new MongoDBDocumentManagerFactory(mongoClient, reactiveMongoClient, MongoDBManagerSettings.DEFAULT);
     }
 
 
@@ -75,6 +91,7 @@ public class MongoDBDocumentConfiguration implements DatabaseConfiguration {
     public MongoDBDocumentManagerFactory apply(Settings settings) throws NullPointerException {
         requireNonNull(settings, "settings is required");
 
+        MongoDBManagerSettings managerSettings = MongoDBManagerSettings.of(settings);
         List<ServerAddress> servers = settings
                 .prefixSupplier(Arrays.asList(MongoDBDocumentConfigurations.HOST,
                         Configurations.HOST))
@@ -89,12 +106,11 @@ public class MongoDBDocumentConfiguration implements DatabaseConfiguration {
                     .get(MongoDBDocumentConfigurations.URL, String.class)
                     .map(ConnectionString::new);
 
-            return connectionString.map(c -> MongoClientSettings.builder()
+            MongoClientSettings mongoClientSettings = connectionString.map(c -> MongoClientSettings.builder()
                     .applyConnectionString(c)
                     .build())
-                    .map(MongoClients::create)
-                    .map(MongoDBDocumentManagerFactory::new)
-                    .orElseGet(() -> new MongoDBDocumentManagerFactory(MongoClients.create()));
+                    .orElseGet(() -> MongoClientSettings.builder().build());
+            return new MongoDBDocumentManagerFactory(mongoClientSettings, managerSettings);
         }
 
         Optional<MongoCredential> credential = MongoAuthentication.of(settings);
@@ -105,7 +121,7 @@ public class MongoDBDocumentConfiguration implements DatabaseConfiguration {
                 MongoClientSettings.builder()
                         .applyToClusterSettings(builder -> builder.hosts(servers))).build();
 
-        return new MongoDBDocumentManagerFactory(MongoClients.create(mongoClientSettings));
+        return new MongoDBDocumentManagerFactory(mongoClientSettings, managerSettings);
     }
 
     public MongoDBDocumentManagerFactory get(String pathFileConfig) throws NullPointerException {
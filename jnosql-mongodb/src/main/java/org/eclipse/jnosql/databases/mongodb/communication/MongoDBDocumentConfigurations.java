@@ -48,7 +48,56 @@ public enum MongoDBDocumentConfigurations implements Supplier<String> {
     /**
      * Authentication mechanisms {@link com.mongodb.AuthenticationMechanism}
      */
-    AUTHENTICATION_MECHANISM("jnosql.mongodb.authentication.mechanism");
+    AUTHENTICATION_MECHANISM("jnosql.mongodb.authentication.mechanism"),
+    /**
+     * The maximum number of documents sent to the server in a single bulk write when
+     * inserting or updating an {@link Iterable} of entities. The default value is 1000.
+     */
+    BULK_BATCH_SIZE("jnosql.mongodb.bulk.batch.size"),
+    /**
+     * Defines whether the bulk writes are ordered, where the server stops at the first failure,
+     * or unordered, where the server tries every write of the batch. The default value is true.
+     */
+    BULK_ORDERED("jnosql.mongodb.bulk.ordered"),
+    /**
+     * Defines whether an update inserts the document when there is no document with the same id.
+     * The default value is false.
+     */
+    UPDATE_UPSERT("jnosql.mongodb.update.upsert"),
+    /**
+     * The write concern name used on the write operations, e.g.: ACKNOWLEDGED, W1, MAJORITY, JOURNALED.
+     * When it is not defined, it will use the one from the client.
+     * {@link com.mongodb.WriteConcern#valueOf(String)}
+     */
+    WRITE_CONCERN("jnosql.mongodb.write.concern"),
+    /**
+     * The number of documents the server returns per cursor batch on queries.
+     * When it is not defined, it will use the server default.
+     */
+    CURSOR_BATCH_SIZE("jnosql.mongodb.cursor.batch.size"),
+    /**
+     * Defines whether the server keeps idle cursors open instead of closing them after the inactivity timeout.
+     * The default value is false.
+     */
+    CURSOR_NO_TIMEOUT("jnosql.mongodb.cursor.no.timeout"),
+    /**
+     * The maximum execution time on the server of a query in milliseconds.
+     * When it is not defined, there is no limit.
+     */
+    CURSOR_MAX_TIME("jnosql.mongodb.cursor.max.time"),
+    /**
+     * The read preference name used on the queries, e.g.: primary, primaryPreferred, secondary, nearest.
+     * When it is not defined, it will use the one from the client.
+     * {@link com.mongodb.ReadPreference#valueOf(String)}
+     */
+    READ_PREFERENCE("jnosql.mongodb.read.preference"),
+    /**
+     * Defines whether counting a whole collection uses the collection metadata,
+     * {@link com.mongodb.client.MongoCollection#estimatedDocumentCount()}, instead of scanning it. The estimate is
+     * not exact, e.g. after an unclean shutdown or on a sharded cluster with orphaned documents, so it is opt-in.
+     * The default value is false.
+     */
+    COUNT_ESTIMATED("jnosql.mongodb.count.estimated");
 
     private final String configuration;
 
@@ -19,12 +19,14 @@ import com.mongodb.client.AggregateIterable;
 import com.mongodb.client.FindIterable;
 import com.mongodb.client.MongoCollection;
 import com.mongodb.client.MongoDatabase;
+import com.mongodb.client.model.BulkWriteOptions;
+import com.mongodb.client.model.InsertManyOptions;
 import com.mongodb.client.model.Projections;
-import com.mongodb.client.model.Sorts;
+import com.mongodb.client.model.ReplaceOneModel;
+import com.mongodb.client.model.ReplaceOptions;
 import com.mongodb.client.result.DeleteResult;
-import jakarta.data.Sort;
 import org.bson.BsonDocument;
-import org.bson.Document;
+import org.bson.codecs.configuration.CodecRegistry;
 import org.bson.conversions.Bson;
 
 import java.time.Duration;
@@ -32,6 +34,7 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
@@ -40,12 +43,10 @@ import org.bson.BsonValue;
 import org.eclipse.jnosql.communication.semistructured.CommunicationEntity;
 import org.eclipse.jnosql.communication.semistructured.DatabaseManager;
 import org.eclipse.jnosql.communication.semistructured.DeleteQuery;
-import org.eclipse.jnosql.communication.semistructured.Element;
-import org.eclipse.jnosql.communication.semistructured.Elements;
 import org.eclipse.jnosql.communication.semistructured.SelectQuery;
 
-import static org.eclipse.jnosql.databases.mongodb.communication.MongoDBUtils.ID_FIELD;
-import static org.eclipse.jnosql.databases.mongodb.communication.MongoDBUtils.getDocument;
+import static org.eclipse.jnosql.databases.mongodb.communication.MongoDBUtils.idFilter;
+import static org.eclipse.jnosql.databases.mongodb.communication.MongoDBUtils.removeNullId;
 
 /**
  * The mongodb implementation to {@link DatabaseManager} that does not support TTL methods
@@ -59,9 +60,18 @@ public class MongoDBDocumentManager implements DatabaseManager {
 
     private final String database;
 
+    private final MongoDBManagerSettings settings;
+
+    private final Map<String, MongoCollection<CommunicationEntity>> collections = new ConcurrentHashMap<>();
+
     MongoDBDocumentManager(MongoDatabase mongoDatabase, String database) {
+        this(mongoDatabase, database, MongoDBManagerSettings.DEFAULT);
+    }
+
+    MongoDBDocumentManager(MongoDatabase mongoDatabase, String database, MongoDBManagerSettings settings) {
         this.mongoDatabase = mongoDatabase;
         this.database = database;
+        this.settings = settings;
     }
 
 
@@ -73,20 +83,9 @@ public class MongoDBDocumentManager implements DatabaseManager {
     @Override
     public CommunicationEntity insert(CommunicationEntity entity) {
         Objects.requireNonNull(entity, "entity is required");
-        String collectionName = entity.name();
-        MongoCollection<Document> collection = mongoDatabase.getCollection(collectionName);
-        var document = getDocument(entity);
-        if (document.get(ID_FIELD) == null) {
-            document.remove(ID_FIELD);
-            entity.remove(ID_FIELD);
-        }
-
-        collection.insertOne(document);
-        boolean hasNotId = entity.elements().stream()
-                .map(Element::name).noneMatch(k -> k.equals(ID_FIELD));
-        if (hasNotId) {
-            entity.add(Elements.of(ID_FIELD, document.get(ID_FIELD)));
-        }
+        MongoCollection<CommunicationEntity> collection = writeCollection(entity.name());
+        removeNullId(entity);
+        collection.insertOne(entity);
         return entity;
     }
 
@@ -99,9 +98,16 @@ public class MongoDBDocumentManager implements DatabaseManager {
     @Override
     public Iterable<CommunicationEntity> insert(Iterable<CommunicationEntity> entities) {
         Objects.requireNonNull(entities, "entities is required");
-        return StreamSupport.stream(entities.spliterator(), false)
-                .map(this::insert)
-                .toList();
+        List<CommunicationEntity> values = StreamSupport.stream(entities.spliterator(), false).toList();
+        var options = new InsertManyOptions().ordered(settings.bulkOrdered());
+        MongoDBUtils.groupByCollection(values).forEach((collectionName, group) -> {
+            MongoCollection<CommunicationEntity> collection = writeCollection(collectionName);
+            group.forEach(MongoDBUtils::removeNullId);
+            for (List<CommunicationEntity> batch : MongoDBUtils.batches(group, settings.bulkBatchSize())) {
+                collection.insertMany(batch, options);
+            }
+        });
+        return values;
     }
 
     @Override
@@ -117,25 +123,26 @@ public class MongoDBDocumentManager implements DatabaseManager {
     @Override
     public CommunicationEntity update(CommunicationEntity entity) {
         Objects.requireNonNull(entity, "entity is required");
-
-        CommunicationEntity copy = entity.copy();
-        String collectionName = entity.name();
-        MongoCollection<Document> collection = mongoDatabase.getCollection(collectionName);
-        Document id = copy.find(ID_FIELD)
-                .map(d -> new Document(d.name(), d.value().get()))
-                .orElseThrow(() -> new UnsupportedOperationException("To update this DocumentEntity " +
-                        "the field `id` is required"));
-        copy.remove(ID_FIELD);
-        collection.findOneAndReplace(id, getDocument(entity));
+        MongoCollection<CommunicationEntity> collection = writeCollection(entity.name());
+        collection.replaceOne(idFilter(entity), entity, replaceOptions());
         return entity;
     }
 
     @Override
     public Iterable<CommunicationEntity> update(Iterable<CommunicationEntity> entities) {
         Objects.requireNonNull(entities, "entities is required");
-        return StreamSupport.stream(entities.spliterator(), false)
-                .map(this::update)
-                .toList();
+        List<CommunicationEntity> values = StreamSupport.stream(entities.spliterator(), false).toList();
+        var options = new BulkWriteOptions().ordered(settings.bulkOrdered());
+        MongoDBUtils.groupByCollection(values).forEach((collectionName, group) -> {
+            MongoCollection<CommunicationEntity> collection = writeCollection(collectionName);
+            for (List<CommunicationEntity> batch : MongoDBUtils.batches(group, settings.bulkBatchSize())) {
+                List<ReplaceOneModel<CommunicationEntity>> replaces = batch.stream()
+                        .map(e -> new ReplaceOneModel<>(idFilter(e), e, replaceOptions()))
+                        .toList();
+                collection.bulkWrite(replaces, options);
+            }
+        });
+        return values;
     }
 
 
@@ -143,8 +150,7 @@ public class MongoDBDocumentManager implements DatabaseManager {
     public void delete(DeleteQuery query) {
         Objects.requireNonNull(query, "query is required");
 
-        String collectionName = query.name();
-        MongoCollection<Document> collection = mongoDatabase.getCollection(collectionName);
+        MongoCollection<CommunicationEntity> collection = writeCollection(query.name());
         Bson mongoDBQuery = query.condition().map(DocumentQueryConversor::convert).orElse(EMPTY);
         collection.deleteMany(mongoDBQuery);
     }
@@ -153,11 +159,26 @@ public class MongoDBDocumentManager implements DatabaseManager {
     @Override
     public Stream<CommunicationEntity> select(SelectQuery query) {
         Objects.requireNonNull(query, "query is required");
+        return select(query, settings.cursorOptions());
+    }
+
+    /**
+     * Finds the entities that match the query, using the cursor tuning instead of the manager one
+     * that comes from {@link MongoDBDocumentConfigurations}.
+     *
+     * @param query   the select query
+     * @param options the cursor options of this query
+     * @return the stream result
+     * @throws NullPointerException when either query or options is null
+     */
+    public Stream<CommunicationEntity> select(SelectQuery query, MongoDBCursorOptions options) {
+        Objects.requireNonNull(query, "query is required");
+        Objects.requireNonNull(options, "options is required");
         String collectionName = query.name();
-        MongoCollection<Document> collection = mongoDatabase.getCollection(collectionName);
+        MongoCollection<CommunicationEntity> collection = readCollection(collectionName, options);
         Bson mongoDBQuery = query.condition().map(DocumentQueryConversor::convert).orElse(EMPTY);
 
-        FindIterable<Document> documents = collection.find(mongoDBQuery);
+        FindIterable<CommunicationEntity> documents = options.apply(collection.find(mongoDBQuery));
         documents.projection(Projections.include(query.columns()));
         if (query.skip() > 0) {
             documents.skip((int) query.skip());
@@ -167,18 +188,16 @@ public class MongoDBDocumentManager implements DatabaseManager {
             documents.limit((int) query.limit());
         }
 
-        query.sorts().stream().map(this::getSort).forEach(documents::sort);
+        query.sorts().stream().map(MongoDBUtils::sort).forEach(documents::sort);
 
-        return stream(documents.spliterator(), false).map(MongoDBUtils::of)
-                .map(ds -> CommunicationEntity.of(collectionName, ds));
+        return stream(documents.spliterator(), false);
 
     }
 
     @Override
     public long count(String documentCollection) {
         Objects.requireNonNull(documentCollection, "documentCollection is required");
-        MongoCollection<Document> collection = mongoDatabase.getCollection(documentCollection);
-        return collection.countDocuments();
+        return count(documentCollection, EMPTY);
     }
 
     @Override
@@ -199,7 +218,7 @@ public class MongoDBDocumentManager implements DatabaseManager {
         Objects.requireNonNull(filter, "filter is required");
         Objects.requireNonNull(collectionName, "collectionName is required");
 
-        MongoCollection<Document> collection = mongoDatabase.getCollection(collectionName);
+        MongoCollection<CommunicationEntity> collection = writeCollection(collectionName);
         DeleteResult result = collection.deleteMany(filter);
         return result.getDeletedCount();
     }
@@ -231,10 +250,10 @@ public class MongoDBDocumentManager implements DatabaseManager {
     public Stream<CommunicationEntity> aggregate(String collectionName, List<Bson> pipeline) {
         Objects.requireNonNull(pipeline, "pipeline is required");
         Objects.requireNonNull(collectionName, "collectionName is required");
-        MongoCollection<Document> collection = mongoDatabase.getCollection(collectionName);
-        AggregateIterable<Document> aggregate = collection.aggregate(pipeline);
-        return stream(aggregate.spliterator(), false).map(MongoDBUtils::of)
-                .map(ds -> CommunicationEntity.of(collectionName, ds));
+        MongoCollection<CommunicationEntity> collection = readCollection(collectionName, settings.cursorOptions());
+        AggregateIterable<CommunicationEntity> aggregate = settings.cursorOptions()
+                .apply(collection.aggregate(pipeline));
+        return stream(aggregate.spliterator(), false);
     }
 
     /**
@@ -248,14 +267,31 @@ public class MongoDBDocumentManager implements DatabaseManager {
     public Stream<CommunicationEntity> select(String collectionName, Bson filter) {
         Objects.requireNonNull(filter, "filter is required");
         Objects.requireNonNull(collectionName, "collectionName is required");
-        MongoCollection<Document> collection = mongoDatabase.getCollection(collectionName);
-        FindIterable<Document> documents = collection.find(filter);
-        return stream(documents.spliterator(), false).map(MongoDBUtils::of)
-                .map(ds -> CommunicationEntity.of(collectionName, ds));
+        MongoCollection<CommunicationEntity> collection = readCollection(collectionName, settings.cursorOptions());
+        FindIterable<CommunicationEntity> documents = settings.cursorOptions().apply(collection.find(filter));
+        return stream(documents.spliterator(), false);
     }
 
-    private Bson getSort(Sort<?> sort) {
-        return sort.isAscending() ? Sorts.ascending(sort.property()) : Sorts.descending(sort.property());
+    private MongoCollection<CommunicationEntity> collection(String collectionName) {
+        return collections.computeIfAbsent(collectionName, name -> {
+            CodecRegistry registry = mongoDatabase.getCodecRegistry();
+            return mongoDatabase.getCollection(name, CommunicationEntity.class)
+                    .withCodecRegistry(MongoDBUtils.entityCodecRegistry(name, registry));
+        });
+    }
+
+    private MongoCollection<CommunicationEntity> readCollection(String collectionName, MongoDBCursorOptions options) {
+        MongoCollection<CommunicationEntity> collection = collection(collectionName);
+        return options.findReadPreference().map(collection::withReadPreference).orElse(collection);
+    }
+
+    private MongoCollection<CommunicationEntity> writeCollection(String collectionName) {
+        MongoCollection<CommunicationEntity> collection = collection(collectionName);
+        return settings.findWriteConcern().map(collection::withWriteConcern).orElse(collection);
+    }
+
+    private ReplaceOptions replaceOptions() {
+        return new ReplaceOptions().upsert(settings.upsert());
     }
 
     /**
@@ -269,7 +305,10 @@ public class MongoDBDocumentManager implements DatabaseManager {
     public long count(String collectionName, Bson filter) {
         Objects.requireNonNull(filter, "filter is required");
         Objects.requireNonNull(collectionName, "collectionName is required");
-        MongoCollection<Document> collection = mongoDatabase.getCollection(collectionName);
+        MongoCollection<CommunicationEntity> collection = readCollection(collectionName, settings.cursorOptions());
+        if (settings.countEstimated() && filter.toBsonDocument().isEmpty()) {
+            return collection.estimatedDocumentCount();
+        }
         return collection.countDocuments(filter);
     }
 
@@ -15,7 +15,9 @@
 
 package org.eclipse.jnosql.databases.mongodb.communication;
 
+import com.mongodb.MongoClientSettings;
 import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
 import org.eclipse.jnosql.communication.semistructured.DatabaseManagerFactory;
 
 import java.util.Objects;
@@ -27,25 +29,85 @@ public class MongoDBDocumentManagerFactory implements DatabaseManagerFactory {
 
     private final MongoClient mongoClient;
 
-    MongoDBDocumentManagerFactory(MongoClient mongoClient) {
+    private final MongoDBManagerSettings settings;
+
+    private final MongoClientSettings mongoClientSettings;
+
+    private volatile com.mongodb.reactivestreams.client.MongoClient reactiveMongoClient;
+
+    MongoDBDocumentManagerFactory(MongoClient mongoClient, MongoDBManagerSettings settings) {
+        this.mongoClient = mongoClient;
+        this.settings = settings;
+        this.mongoClientSettings = null;
+    }
+
+    MongoDBDocumentManagerFactory(MongoClient mongoClient,
+                                  com.mongodb.reactivestreams.client.MongoClient reactiveMongoClient,
+                                  MongoDBManagerSettings settings) {
         this.mongoClient = mongoClient;
+        this.reactiveMongoClient = reactiveMongoClient;
+        this.settings = settings;
+        this.mongoClientSettings = null;
+    }
+
+    MongoDBDocumentManagerFactory(MongoClientSettings mongoClientSettings, MongoDBManagerSettings settings) {
+        this.mongoClient = MongoClients.create(mongoClientSettings);
+        this.settings = settings;
+        this.mongoClientSettings = mongoClientSettings;
     }
 
     @Override
     public MongoDBDocumentManager apply(String database) {
         Objects.requireNonNull(database, "database is required");
-        return new MongoDBDocumentManager(mongoClient.getDatabase(database), database);
+        return new MongoDBDocumentManager(mongoClient.getDatabase(database), database, settings);
     }
 
+    /**
+     * Creates a {@link ReactiveMongoDBDocumentManager} to the database.
+     * The reactive streams client is created on the first call using the same client settings of this factory.
+     * It needs the optional {@code mongodb-driver-reactivestreams} and {@code reactor-core} dependencies.
+     *
+     * @param database the database name
+     * @return a ReactiveMongoDBDocumentManager instance
+     * @throws NullPointerException          when the database is null
+     * @throws UnsupportedOperationException when this factory was created from a {@link MongoClient} only,
+     *                                       so there are no settings to create the reactive streams client
+     */
+    public ReactiveMongoDBDocumentManager reactive(String database) {
+        Objects.requireNonNull(database, "database is required");
+        return new ReactiveMongoDBDocumentManager(reactiveMongoClient().getDatabase(database), database, settings);
+    }
 
     @Override
     public void close() {
         mongoClient.close();
+        if (reactiveMongoClient != null) {
+            reactiveMongoClient.close();
+        }
+    }
+
+    private com.mongodb.reactivestreams.client.MongoClient reactiveMongoClient() {
+        var client = reactiveMongoClient;
+        if (client == null) {
+            synchronized (this) {
+                client = reactiveMongoClient;
+                if (client == null) {
+                    if (mongoClientSettings == null) {
+                        throw new UnsupportedOperationException("This factory was created from a MongoClient instance;" +
+                                " use MongoDBDocumentConfiguration#get(MongoClient, reactive MongoClient) instead");
+                    }
+                    client = com.mongodb.reactivestreams.client.MongoClients.create(mongoClientSettings);
+                    reactiveMongoClient = client;
+                }
+            }
+        }
+        return client;
     }
 
     @Override
     public String toString() {
        return "MongoDBDocumentManagerFactory{" + "mongoClient=" + mongoClient +
+                ", settings=" + settings +
                 '}';
     }
 }
@@ -0,0 +1,90 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.mongodb.communication;
+
+import com.mongodb.ReadPreference;
+import com.mongodb.WriteConcern;
+import org.eclipse.jnosql.communication.Settings;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * The settings that tune how the {@link MongoDBDocumentManager} talks to the server.
+ *
+ * @param bulkBatchSize the maximum number of documents per bulk write {@link MongoDBDocumentConfigurations#BULK_BATCH_SIZE}
+ * @param bulkOrdered   whether the bulk writes are ordered {@link MongoDBDocumentConfigurations#BULK_ORDERED}
+ * @param upsert        whether the update inserts a missing document {@link MongoDBDocumentConfigurations#UPDATE_UPSERT}
+ * @param writeConcern  the write concern, null to keep the client one {@link MongoDBDocumentConfigurations#WRITE_CONCERN}
+ * @param cursorOptions the default cursor tuning of the queries
+ * @param countEstimated whether a count without filter uses the collection metadata instead of an exact count
+ *                       {@link MongoDBDocumentConfigurations#COUNT_ESTIMATED}
+ */
+record MongoDBManagerSettings(int bulkBatchSize, boolean bulkOrdered, boolean upsert, WriteConcern writeConcern,
+                              MongoDBCursorOptions cursorOptions, boolean countEstimated) {
+
+    static final int DEFAULT_BULK_BATCH_SIZE = 1_000;
+
+    static final MongoDBManagerSettings DEFAULT = new MongoDBManagerSettings(DEFAULT_BULK_BATCH_SIZE, true,
+            false, null, MongoDBCursorOptions.defaults(), false);
+
+    MongoDBManagerSettings {
+        if (bulkBatchSize <= 0) {
+            throw new IllegalArgumentException("The bulk batch size must be greater than zero: " + bulkBatchSize);
+        }
+    }
+
+    static MongoDBManagerSettings of(Settings settings) {
+        Objects.requireNonNull(settings, "settings is required");
+        int bulkBatchSize = settings.get(MongoDBDocumentConfigurations.BULK_BATCH_SIZE, Integer.class)
+                .orElse(DEFAULT_BULK_BATCH_SIZE);
+        boolean bulkOrdered = settings.get(MongoDBDocumentConfigurations.BULK_ORDERED, Boolean.class)
+                .orElse(true);
+        boolean upsert = settings.get(MongoDBDocumentConfigurations.UPDATE_UPSERT, Boolean.class)
+                .orElse(false);
+        WriteConcern writeConcern = settings.get(MongoDBDocumentConfigurations.WRITE_CONCERN, String.class)
+                .map(MongoDBManagerSettings::writeConcern)
+                .orElse(null);
+        int cursorBatchSize = settings.get(MongoDBDocumentConfigurations.CURSOR_BATCH_SIZE, Integer.class)
+                .orElse(0);
+        boolean noCursorTimeout = settings.get(MongoDBDocumentConfigurations.CURSOR_NO_TIMEOUT, Boolean.class)
+                .orElse(false);
+        Duration maxTime = settings.get(MongoDBDocumentConfigurations.CURSOR_MAX_TIME, Long.class)
+                .map(Duration::ofMillis)
+                .orElse(null);
+        ReadPreference readPreference = settings.get(MongoDBDocumentConfigurations.READ_PREFERENCE, String.class)
+                .map(String::trim)
+                .map(ReadPreference::valueOf)
+                .orElse(null);
+        var cursorOptions = new MongoDBCursorOptions(cursorBatchSize, noCursorTimeout, maxTime, readPreference);
+        boolean countEstimated = settings.get(MongoDBDocumentConfigurations.COUNT_ESTIMATED, Boolean.class)
+                .orElse(false);
+        return new MongoDBManagerSettings(bulkBatchSize, bulkOrdered, upsert, writeConcern, cursorOptions,
+                countEstimated);
+    }
+
+    Optional<WriteConcern> findWriteConcern() {
+        return Optional.ofNullable(writeConcern);
+    }
+
+    private static WriteConcern writeConcern(String name) {
+        WriteConcern writeConcern = WriteConcern.valueOf(name.trim());
+        if (writeConcern == null) {
+            throw new IllegalArgumentException("The write concern is not supported: " + name);
+        }
+        return writeConcern;
+    }
+}
@@ -14,7 +14,12 @@
  */
 package org.eclipse.jnosql.databases.mongodb.communication;
 
+import com.mongodb.client.model.Sorts;
+import jakarta.data.Sort;
 import org.bson.Document;
+import org.bson.codecs.configuration.CodecRegistries;
+import org.bson.codecs.configuration.CodecRegistry;
+import org.bson.conversions.Bson;
 import org.bson.types.Binary;
 import org.eclipse.jnosql.communication.Value;
 import org.eclipse.jnosql.communication.ValueUtil;
@@ -23,6 +28,7 @@ import org.eclipse.jnosql.communication.semistructured.Element;
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
@@ -47,6 +53,44 @@ final class MongoDBUtils {
         return document;
     }
 
+    static void removeNullId(CommunicationEntity entity) {
+        entity.find(ID_FIELD)
+                .filter(id -> id.get() == null)
+                .ifPresent(id -> entity.remove(ID_FIELD));
+    }
+
+    static Document idFilter(CommunicationEntity entity) {
+        return entity.find(ID_FIELD)
+                .map(d -> new Document(d.name(), d.value().get()))
+                .orElseThrow(() -> new UnsupportedOperationException("To update this DocumentEntity " +
+                        "the field `id` is required"));
+    }
+
+    static CodecRegistry entityCodecRegistry(String collectionName, CodecRegistry registry) {
+        return CodecRegistries.fromRegistries(
+                CodecRegistries.fromCodecs(new CommunicationEntityCodec(collectionName, registry)), registry);
+    }
+
+    static Bson sort(Sort<?> sort) {
+        return sort.isAscending() ? Sorts.ascending(sort.property()) : Sorts.descending(sort.property());
+    }
+
+    static Map<String, List<CommunicationEntity>> groupByCollection(Iterable<CommunicationEntity> entities) {
+        Map<String, List<CommunicationEntity>> groups = new LinkedHashMap<>();
+        for (CommunicationEntity entity : entities) {
+            groups.computeIfAbsent(entity.name(), k -> new ArrayList<>()).add(entity);
+        }
+        return groups;
+    }
+
+    static <T> List<List<T>> batches(List<T> values, int size) {
+        List<List<T>> batches = new ArrayList<>();
+        for (int start = 0; start < values.size(); start += size) {
+            batches.add(values.subList(start, Math.min(start + size, values.size())));
+        }
+        return batches;
+    }
+
     private static Object convert(Value value) {
         Object val = ValueUtil.convert(value);
         if (val instanceof Element subDocument) {
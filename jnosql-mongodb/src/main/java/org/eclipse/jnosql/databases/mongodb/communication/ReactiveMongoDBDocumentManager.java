@@ -0,0 +1,318 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.mongodb.communication;
+
+import com.mongodb.client.model.BulkWriteOptions;
+import com.mongodb.client.model.InsertManyOptions;
+import com.mongodb.client.model.Projections;
+import com.mongodb.client.model.ReplaceOneModel;
+import com.mongodb.client.model.ReplaceOptions;
+import com.mongodb.client.result.DeleteResult;
+import com.mongodb.reactivestreams.client.FindPublisher;
+import com.mongodb.reactivestreams.client.MongoCollection;
+import com.mongodb.reactivestreams.client.MongoDatabase;
+import org.bson.BsonDocument;
+import org.bson.codecs.configuration.CodecRegistry;
+import org.bson.conversions.Bson;
+import org.eclipse.jnosql.communication.semistructured.CommunicationEntity;
+import org.eclipse.jnosql.communication.semistructured.DeleteQuery;
+import org.eclipse.jnosql.communication.semistructured.SelectQuery;
+import reactor.adapter.JdkFlowAdapter;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Flow;
+import java.util.stream.StreamSupport;
+
+import static org.eclipse.jnosql.databases.mongodb.communication.MongoDBUtils.idFilter;
+import static org.eclipse.jnosql.databases.mongodb.communication.MongoDBUtils.removeNullId;
+
+/**
+ * The non-blocking counterpart of {@link MongoDBDocumentManager} backed by the MongoDB reactive streams driver.
+ * The queries return a {@link Flow.Publisher} that pulls the cursor batches on demand, and the write operations
+ * return a {@link CompletionStage}, so no thread is held while waiting for the server.
+ * <p>It is created by {@link MongoDBDocumentManagerFactory#reactive(String)}. The reactive streams driver,
+ * {@code org.mongodb:mongodb-driver-reactivestreams}, and {@code io.projectreactor:reactor-core} are optional
+ * dependencies of this module, so the application that uses this manager declares them.</p>
+ */
+public class ReactiveMongoDBDocumentManager implements AutoCloseable {
+
+    private static final BsonDocument EMPTY = new BsonDocument();
+
+    private final MongoDatabase mongoDatabase;
+
+    private final String database;
+
+    private final MongoDBManagerSettings settings;
+
+    private final Map<String, MongoCollection<CommunicationEntity>> collections = new ConcurrentHashMap<>();
+
+    ReactiveMongoDBDocumentManager(MongoDatabase mongoDatabase, String database, MongoDBManagerSettings settings) {
+        this.mongoDatabase = mongoDatabase;
+        this.database = database;
+        this.settings = settings;
+    }
+
+    /**
+     * Returns the database's name of this manager
+     *
+     * @return the database's name
+     */
+    public String name() {
+        return database;
+    }
+
+    /**
+     * Inserts an entity; when the entity has no id, the generated one is appended to it.
+     *
+     * @param entity the entity to be inserted
+     * @return the stage that completes with the entity inserted
+     * @throws NullPointerException when entity is null
+     */
+    public CompletionStage<CommunicationEntity> insert(CommunicationEntity entity) {
+        Objects.requireNonNull(entity, "entity is required");
+        MongoCollection<CommunicationEntity> collection = writeCollection(entity.name());
+        removeNullId(entity);
+        return Mono.from(collection.insertOne(entity))
+                .thenReturn(entity)
+                .toFuture();
+    }
+
+    /**
+     * Inserts entities grouped by collection using bulk writes of {@link MongoDBDocumentConfigurations#BULK_BATCH_SIZE}.
+     *
+     * @param entities the entities to be inserted
+     * @return the stage that completes with the entities inserted
+     * @throws NullPointerException when entities is null
+     */
+    public CompletionStage<List<CommunicationEntity>> insert(Iterable<CommunicationEntity> entities) {
+        Objects.requireNonNull(entities, "entities is required");
+        List<CommunicationEntity> values = StreamSupport.stream(entities.spliterator(), false).toList();
+        var options = new InsertManyOptions().ordered(settings.bulkOrdered());
+        return Flux.fromIterable(MongoDBUtils.groupByCollection(values).entrySet())
+                .concatMap(group -> {
+                    MongoCollection<CommunicationEntity> collection = writeCollection(group.getKey());
+                    group.getValue().forEach(MongoDBUtils::removeNullId);
+                    return Flux.fromIterable(MongoDBUtils.batches(group.getValue(), settings.bulkBatchSize()))
+                            .concatMap(batch -> Mono.from(collection.insertMany(batch, options)));
+                })
+                .then(Mono.just(values))
+                .toFuture();
+    }
+
+    /**
+     * Updates an entity by its id.
+     *
+     * @param entity the entity to be updated
+     * @return the stage that completes with the entity updated
+     * @throws NullPointerException          when entity is null
+     * @throws UnsupportedOperationException when the entity does not have the id
+     */
+    public CompletionStage<CommunicationEntity> update(CommunicationEntity entity) {
+        Objects.requireNonNull(entity, "entity is required");
+        MongoCollection<CommunicationEntity> collection = writeCollection(entity.name());
+        return Mono.from(collection.replaceOne(idFilter(entity), entity, replaceOptions()))
+                .thenReturn(entity)
+                .toFuture();
+    }
+
+    /**
+     * Updates entities grouped by collection using bulk writes of {@link MongoDBDocumentConfigurations#BULK_BATCH_SIZE}.
+     *
+     * @param entities the entities to be updated
+     * @return the stage that completes with the entities updated
+     * @throws NullPointerException          when entities is null
+     * @throws UnsupportedOperationException when an entity does not have the id
+     */
+    public CompletionStage<List<CommunicationEntity>> update(Iterable<CommunicationEntity> entities) {
+        Objects.requireNonNull(entities, "entities is required");
+        List<CommunicationEntity> values = StreamSupport.stream(entities.spliterator(), false).toList();
+        var options = new BulkWriteOptions().ordered(settings.bulkOrdered());
+        return Flux.fromIterable(MongoDBUtils.groupByCollection(values).entrySet())
+                .concatMap(group -> {
+                    MongoCollection<CommunicationEntity> collection = writeCollection(group.getKey());
+                    return Flux.fromIterable(MongoDBUtils.batches(group.getValue(), settings.bulkBatchSize()))
+                            .concatMap(batch -> {
+                                List<ReplaceOneModel<CommunicationEntity>> replaces = batch.stream()
+                                        .map(e -> new ReplaceOneModel<>(idFilter(e), e, replaceOptions()))
+                                        .toList();
+                                return Mono.from(collection.bulkWrite(replaces, options));
+                            });
+                })
+                .then(Mono.just(values))
+                .toFuture();
+    }
+
+    /**
+     * Deletes the documents that match the query.
+     *
+     * @param query the delete query
+     * @return the stage that completes with the number of documents deleted
+     * @throws NullPointerException when query is null
+     */
+    public CompletionStage<Long> delete(DeleteQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        Bson filter = query.condition().map(DocumentQueryConversor::convert).orElse(EMPTY);
+        return delete(query.name(), filter);
+    }
+
+    /**
+     * Removes all documents from the collection that match the given query filter.
+     *
+     * @param collectionName the collection name
+     * @param filter         the delete filter
+     * @return the stage that completes with the number of documents deleted
+     * @throws NullPointerException when filter or collectionName is null
+     */
+    public CompletionStage<Long> delete(String collectionName, Bson filter) {
+        Objects.requireNonNull(filter, "filter is required");
+        Objects.requireNonNull(collectionName, "collectionName is required");
+        return Mono.from(writeCollection(collectionName).deleteMany(filter))
+                .map(DeleteResult::getDeletedCount)
+                .toFuture();
+    }
+
+    /**
+     * Finds the entities that match the query; the cursor is read as the subscriber requests more items.
+     *
+     * @param query the select query
+     * @return the publisher of entities
+     * @throws NullPointerException when query is null
+     */
+    public Flow.Publisher<CommunicationEntity> select(SelectQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        return select(query, settings.cursorOptions());
+    }
+
+    /**
+     * Finds the entities that match the query, using the cursor tuning instead of the manager one
+     * that comes from {@link MongoDBDocumentConfigurations}.
+     *
+     * @param query   the select query
+     * @param options the cursor options of this query
+     * @return the publisher of entities
+     * @throws NullPointerException when either query or options is null
+     */
+    public Flow.Publisher<CommunicationEntity> select(SelectQuery query, MongoDBCursorOptions options) {
+        Objects.requireNonNull(query, "query is required");
+        Objects.requireNonNull(options, "options is required");
+        String collectionName = query.name();
+        MongoCollection<CommunicationEntity> collection = readCollection(collectionName, options);
+        Bson filter = query.condition().map(DocumentQueryConversor::convert).orElse(EMPTY);
+
+        FindPublisher<CommunicationEntity> documents = options.apply(collection.find(filter));
+        documents.projection(Projections.include(query.columns()));
+        if (query.skip() > 0) {
+            documents.skip((int) query.skip());
+        }
+        if (query.limit() > 0) {
+            documents.limit((int) query.limit());
+        }
+        query.sorts().stream().map(MongoDBUtils::sort).forEach(documents::sort);
+        return JdkFlowAdapter.publisherToFlowPublisher(documents);
+    }
+
+    /**
+     * Finds all documents in the collection that match the filter.
+     *
+     * @param collectionName the collection name
+     * @param filter         the query filter
+     * @return the publisher of entities
+     * @throws NullPointerException when filter or collectionName is null
+     */
+    public Flow.Publisher<CommunicationEntity> select(String collectionName, Bson filter) {
+        Objects.requireNonNull(filter, "filter is required");
+        Objects.requireNonNull(collectionName, "collectionName is required");
+        MongoCollection<CommunicationEntity> collection = readCollection(collectionName, settings.cursorOptions());
+        return JdkFlowAdapter.publisherToFlowPublisher(settings.cursorOptions().apply(collection.find(filter)));
+    }
+
+    /**
+     * Aggregates documents according to the specified aggregation pipeline.
+     *
+     * @param collectionName the collection name
+     * @param pipeline       the aggregation pipeline
+     * @return the publisher of entities
+     * @throws NullPointerException when pipeline or collectionName is null
+     */
+    public Flow.Publisher<CommunicationEntity> aggregate(String collectionName, List<Bson> pipeline) {
+        Objects.requireNonNull(pipeline, "pipeline is required");
+        Objects.requireNonNull(collectionName, "collectionName is required");
+        MongoCollection<CommunicationEntity> collection = readCollection(collectionName, settings.cursorOptions());
+        return JdkFlowAdapter.publisherToFlowPublisher(settings.cursorOptions().apply(collection.aggregate(pipeline)));
+    }
+
+    /**
+     * Returns the number of documents in the collection.
+     *
+     * @param collectionName the collection name
+     * @return the stage that completes with the number of documents
+     * @throws NullPointerException when collectionName is null
+     */
+    public CompletionStage<Long> count(String collectionName) {
+        Objects.requireNonNull(collectionName, "collectionName is required");
+        return count(collectionName, EMPTY);
+    }
+
+    /**
+     * Returns the number of documents in the collection that match the given query filter.
+     *
+     * @param collectionName the collection name
+     * @param filter         the query filter
+     * @return the stage that completes with the number of documents
+     * @throws NullPointerException when filter or collectionName is null
+     */
+    public CompletionStage<Long> count(String collectionName, Bson filter) {
+        Objects.requireNonNull(filter, "filter is required");
+        Objects.requireNonNull(collectionName, "collectionName is required");
+        MongoCollection<CommunicationEntity> collection = readCollection(collectionName, settings.cursorOptions());
+        if (settings.countEstimated() && filter.toBsonDocument().isEmpty()) {
+            return Mono.from(collection.estimatedDocumentCount()).toFuture();
+        }
+        return Mono.from(collection.countDocuments(filter)).toFuture();
+    }
+
+    @Override
+    public void close() {
+
+    }
+
+    private MongoCollection<CommunicationEntity> collection(String collectionName) {
+        return collections.computeIfAbsent(collectionName, name -> {
+            CodecRegistry registry = mongoDatabase.getCodecRegistry();
+            return mongoDatabase.getCollection(name, CommunicationEntity.class)
+                    .withCodecRegistry(MongoDBUtils.entityCodecRegistry(name, registry));
+        });
+    }
+
+    private MongoCollection<CommunicationEntity> readCollection(String collectionName, MongoDBCursorOptions options) {
+        MongoCollection<CommunicationEntity> collection = collection(collectionName);
+        return options.findReadPreference().map(collection::withReadPreference).orElse(collection);
+    }
+
+    private MongoCollection<CommunicationEntity> writeCollection(String collectionName) {
+        MongoCollection<CommunicationEntity> collection = collection(collectionName);
+        return settings.findWriteConcern().map(collection::withWriteConcern).orElse(collection);
+    }
+
+    private ReplaceOptions replaceOptions() {
+        return new ReplaceOptions().upsert(settings.upsert());
+    }
+}
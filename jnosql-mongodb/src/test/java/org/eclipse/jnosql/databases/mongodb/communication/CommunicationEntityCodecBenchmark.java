@@ -0,0 +1,137 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.mongodb.communication;
+
+import com.mongodb.MongoClientSettings;
+import org.bson.BsonBinaryReader;
+import org.bson.BsonBinaryWriter;
+import org.bson.Document;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+import org.bson.codecs.configuration.CodecRegistry;
+import org.bson.io.BasicOutputBuffer;
+import org.eclipse.jnosql.communication.semistructured.CommunicationEntity;
+import org.eclipse.jnosql.communication.semistructured.Element;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the {@link Document} based conversion of {@link MongoDBUtils} with {@link CommunicationEntityCodec}
+ * on an entity with nested documents and lists of documents. It is not part of the test suite; run the
+ * {@link #main(String[])} method from the test classpath to get the throughput and, with the GC profiler,
+ * the allocation rate per operation (gc.alloc.rate.norm).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CommunicationEntityCodecBenchmark {
+
+    private static final String COLLECTION = "person";
+
+    private CodecRegistry registry;
+
+    private Codec<Document> documentCodec;
+
+    private CommunicationEntityCodec entityCodec;
+
+    private CommunicationEntity entity;
+
+    private byte[] bson;
+
+    @Setup
+    public void setUp() {
+        registry = MongoClientSettings.getDefaultCodecRegistry();
+        documentCodec = registry.get(Document.class);
+        entityCodec = new CommunicationEntityCodec(COLLECTION, registry);
+        entity = nestedEntity();
+        BasicOutputBuffer buffer = new BasicOutputBuffer();
+        entityCodec.encode(new BsonBinaryWriter(buffer), entity, EncoderContext.builder().build());
+        bson = buffer.toByteArray();
+    }
+
+    @Benchmark
+    public byte[] encodeDocument() {
+        BasicOutputBuffer buffer = new BasicOutputBuffer();
+        documentCodec.encode(new BsonBinaryWriter(buffer), MongoDBUtils.getDocument(entity),
+                EncoderContext.builder().build());
+        return buffer.toByteArray();
+    }
+
+    @Benchmark
+    public byte[] encodeCodec() {
+        BasicOutputBuffer buffer = new BasicOutputBuffer();
+        entityCodec.encode(new BsonBinaryWriter(buffer), entity, EncoderContext.builder().build());
+        return buffer.toByteArray();
+    }
+
+    @Benchmark
+    public CommunicationEntity decodeDocument() {
+        Document document = documentCodec.decode(new BsonBinaryReader(ByteBuffer.wrap(bson)),
+                DecoderContext.builder().build());
+        return CommunicationEntity.of(COLLECTION, MongoDBUtils.of(document));
+    }
+
+    @Benchmark
+    public CommunicationEntity decodeCodec() {
+        return entityCodec.decode(new BsonBinaryReader(ByteBuffer.wrap(bson)), DecoderContext.builder().build());
+    }
+
+    static CommunicationEntity nestedEntity() {
+        CommunicationEntity entity = CommunicationEntity.of(COLLECTION);
+        entity.add(Element.of("_id", "ada"));
+        entity.add(Element.of("name", "Ada Lovelace"));
+        entity.add(Element.of("age", 36));
+        entity.add(Element.of("tags", List.of("math", "poetry", "engine")));
+        entity.add(Element.of("address", List.of(Element.of("city", "London"),
+                Element.of("street", "St James's Square"),
+                Element.of("geo", List.of(Element.of("lat", 51.507), Element.of("lng", -0.134))))));
+        List<List<Element>> contacts = new ArrayList<>();
+        for (int index = 0; index < 10; index++) {
+            contacts.add(List.of(Element.of("type", "email"),
+                    Element.of("information", "ada" + index + "@lovelace.com"),
+                    Element.of("priority", index)));
+        }
+        entity.add(Element.of("contacts", contacts));
+        return entity;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(CommunicationEntityCodecBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+}
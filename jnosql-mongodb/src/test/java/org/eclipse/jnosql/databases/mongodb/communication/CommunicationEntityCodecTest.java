@@ -0,0 +1,114 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.mongodb.communication;
+
+import com.mongodb.MongoClientSettings;
+import org.assertj.core.api.SoftAssertions;
+import org.bson.BsonBinary;
+import org.bson.BsonBinaryReader;
+import org.bson.BsonBinaryWriter;
+import org.bson.BsonDocument;
+import org.bson.BsonDocumentReader;
+import org.bson.BsonNull;
+import org.bson.BsonString;
+import org.bson.Document;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+import org.bson.io.BasicOutputBuffer;
+import org.bson.types.ObjectId;
+import org.eclipse.jnosql.communication.semistructured.CommunicationEntity;
+import org.eclipse.jnosql.communication.semistructured.Element;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CommunicationEntityCodecTest {
+
+    private CommunicationEntityCodec codec;
+
+    @BeforeEach
+    void setUp() {
+        codec = new CommunicationEntityCodec("person", MongoClientSettings.getDefaultCodecRegistry());
+    }
+
+    @Test
+    void shouldReadTheSameAsDocumentConversion() {
+        var entity = CommunicationEntityCodecBenchmark.nestedEntity();
+        byte[] bson = encode(entity);
+
+        var decoded = codec.decode(new BsonBinaryReader(ByteBuffer.wrap(bson)), DecoderContext.builder().build());
+        Document document = MongoClientSettings.getDefaultCodecRegistry().get(Document.class)
+                .decode(new BsonBinaryReader(ByteBuffer.wrap(bson)), DecoderContext.builder().build());
+        var expected = CommunicationEntity.of("person", MongoDBUtils.of(document));
+
+        assertThat(decoded).isEqualTo(expected);
+    }
+
+    @Test
+    void shouldWriteTheSameAsDocumentConversion() {
+        var entity = CommunicationEntityCodecBenchmark.nestedEntity();
+        BsonDocument fromCodec = toBsonDocument(encode(entity));
+        BsonDocument fromDocument = MongoDBUtils.getDocument(entity)
+                .toBsonDocument(BsonDocument.class, MongoClientSettings.getDefaultCodecRegistry());
+        assertThat(fromCodec).isEqualTo(fromDocument);
+    }
+
+    @Test
+    void shouldSkipNullAndConvertBinary() {
+        var document = new BsonDocument("name", new BsonString("Ada"))
+                .append("nickname", BsonNull.VALUE)
+                .append("data", new BsonBinary(new byte[]{1, 2}));
+        var entity = codec.decode(new BsonDocumentReader(document), DecoderContext.builder().build());
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(entity.name()).isEqualTo("person");
+            soft.assertThat(entity.find("nickname")).isEmpty();
+            soft.assertThat(entity.find("data")).get().extracting(Element::get).isEqualTo(new byte[]{1, 2});
+        });
+    }
+
+    @Test
+    void shouldGenerateIdWhenAbsent() {
+        var entity = CommunicationEntity.of("person");
+        entity.add(Element.of("name", "Ada"));
+        codec.generateIdIfAbsentFromDocument(entity);
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(codec.documentHasId(entity)).isTrue();
+            soft.assertThat(entity.find("_id")).get().extracting(Element::get).isInstanceOf(ObjectId.class);
+            soft.assertThat(codec.getDocumentId(entity).isObjectId()).isTrue();
+        });
+    }
+
+    @Test
+    void shouldKeepId() {
+        var entity = CommunicationEntity.of("person", List.of(Element.of("_id", "ada")));
+        codec.generateIdIfAbsentFromDocument(entity);
+        assertThat(codec.getDocumentId(entity)).isEqualTo(new BsonString("ada"));
+    }
+
+    private byte[] encode(CommunicationEntity entity) {
+        BasicOutputBuffer buffer = new BasicOutputBuffer();
+        codec.encode(new BsonBinaryWriter(buffer), entity, EncoderContext.builder().build());
+        return buffer.toByteArray();
+    }
+
+    private BsonDocument toBsonDocument(byte[] bson) {
+        return MongoClientSettings.getDefaultCodecRegistry().get(BsonDocument.class)
+                .decode(new BsonBinaryReader(ByteBuffer.wrap(bson)), DecoderContext.builder().build());
+    }
+}
@@ -44,6 +44,13 @@ public enum DocumentDatabase {
         return factory.apply(database);
     }
 
+    public ReactiveMongoDBDocumentManager reactive(String database) {
+        Settings settings = getSettings();
+        MongoDBDocumentConfiguration configuration = new MongoDBDocumentConfiguration();
+        MongoDBDocumentManagerFactory factory = configuration.apply(settings);
+        return factory.reactive(database);
+    }
+
 
     private Settings getSettings() {
         Map<String,Object> settings = new HashMap<>();
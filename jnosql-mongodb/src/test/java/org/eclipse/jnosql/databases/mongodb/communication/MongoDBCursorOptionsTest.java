@@ -0,0 +1,65 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.mongodb.communication;
+
+import com.mongodb.ReadPreference;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class MongoDBCursorOptionsTest {
+
+    @Test
+    void shouldReturnDefaults() {
+        var options = MongoDBCursorOptions.defaults();
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(options.batchSize()).isZero();
+            soft.assertThat(options.noCursorTimeout()).isFalse();
+            soft.assertThat(options.maxTime()).isNull();
+            soft.assertThat(options.findReadPreference()).isEmpty();
+        });
+    }
+
+    @Test
+    void shouldCreateCopies() {
+        var options = MongoDBCursorOptions.defaults()
+                .withBatchSize(100)
+                .withNoCursorTimeout(true)
+                .withMaxTime(Duration.ofSeconds(1))
+                .withReadPreference(ReadPreference.nearest());
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(options.batchSize()).isEqualTo(100);
+            soft.assertThat(options.noCursorTimeout()).isTrue();
+            soft.assertThat(options.maxTime()).isEqualTo(Duration.ofSeconds(1));
+            soft.assertThat(options.findReadPreference()).contains(ReadPreference.nearest());
+            soft.assertThat(MongoDBCursorOptions.defaults().batchSize()).isZero();
+        });
+    }
+
+    @Test
+    void shouldReturnErrorWhenBatchSizeIsNegative() {
+        var options = MongoDBCursorOptions.defaults();
+        assertThrows(IllegalArgumentException.class, () -> options.withBatchSize(-1));
+    }
+
+    @Test
+    void shouldReturnErrorWhenMaxTimeIsNull() {
+        var options = MongoDBCursorOptions.defaults();
+        assertThrows(NullPointerException.class, () -> options.withMaxTime(null));
+    }
+}
@@ -16,6 +16,7 @@
 package org.eclipse.jnosql.databases.mongodb.communication;
 
 import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
 import org.eclipse.jnosql.communication.Settings;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
@@ -41,6 +42,18 @@ class MongoDBDocumentManagerFactoryTest {
         assertNotNull(mongoDBFactory.apply("database"));
     }
 
+    @Test
+    void shouldCreateReactiveEntityManager() {
+        MongoDBDocumentManagerFactory mongoDBFactory = configuration.apply(Settings.builder().build());
+        assertNotNull(mongoDBFactory.reactive("database"));
+    }
+
+    @Test
+    void shouldReturnErrorWhenReactiveFromMongoClientOnly() {
+        MongoDBDocumentManagerFactory mongoDBFactory = configuration.get(MongoClients.create());
+        assertThrows(UnsupportedOperationException.class, () -> mongoDBFactory.reactive("database"));
+    }
+
     @Test
     void shouldReturnNPEWhenSettingsIsNull() {
         assertThrows(NullPointerException.class, () -> configuration.apply((Settings) null));
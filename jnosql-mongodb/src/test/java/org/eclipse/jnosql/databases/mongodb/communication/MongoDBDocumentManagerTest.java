@@ -105,6 +105,34 @@ class MongoDBDocumentManagerTest {
         assertEquals(newField, updated.find("newField").get());
     }
 
+    @Test
+    void shouldNotInsertWhenUpdateDoesNotMatch() {
+        var entity = getEntity();
+        entity.add(Element.of("_id", UUID.randomUUID().toString()));
+        entityManager.update(entity);
+        assertEquals(0L, entityManager.count(COLLECTION_NAME));
+    }
+
+    @Test
+    void shouldInsertIterableAndAppendGeneratedIds() {
+        var entities = getEntitiesWithValues();
+        var inserted = entityManager.insert(entities);
+        assertThat(inserted).hasSize(3)
+                .allMatch(e -> e.find("_id").isPresent());
+        assertEquals(3L, entityManager.count(COLLECTION_NAME));
+    }
+
+    @Test
+    void shouldUpdateIterable() {
+        var entities = StreamSupport.stream(entityManager.insert(getEntitiesWithValues()).spliterator(), false)
+                .toList();
+        entities.forEach(e -> e.add(Element.of("type", "U")));
+        entityManager.update(entities);
+
+        var query = select().from(COLLECTION_NAME).where("type").eq("U").build();
+        assertEquals(3L, entityManager.select(query).count());
+    }
+
     @Test
     void shouldRemoveEntity() {
         var documentEntity = entityManager.insert(getEntity());
@@ -322,6 +350,16 @@ class MongoDBDocumentManagerTest {
 
     }
 
+    @Test
+    void shouldFindDocumentWithCursorOptions() {
+        entityManager.insert(getEntitiesWithValues());
+        var query = select().from(COLLECTION_NAME).where("type").eq("V").build();
+        var options = MongoDBCursorOptions.defaults().withBatchSize(1).withMaxTime(Duration.ofSeconds(5));
+
+        var entities = ((MongoDBDocumentManager) entityManager).select(query, options).toList();
+        assertEquals(3, entities.size());
+    }
+
     @Test
     void shouldFindDocumentSort() {
         DeleteQuery deleteQuery = delete().from(COLLECTION_NAME).where("type").eq("V").build();
@@ -0,0 +1,101 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.mongodb.communication;
+
+import com.mongodb.ReadPreference;
+import com.mongodb.WriteConcern;
+import org.assertj.core.api.SoftAssertions;
+import org.eclipse.jnosql.communication.Settings;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class MongoDBManagerSettingsTest {
+
+    @Test
+    void shouldReturnDefaultValues() {
+        var settings = MongoDBManagerSettings.of(Settings.builder().build());
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(settings.bulkBatchSize()).isEqualTo(MongoDBManagerSettings.DEFAULT_BULK_BATCH_SIZE);
+            soft.assertThat(settings.bulkOrdered()).isTrue();
+            soft.assertThat(settings.upsert()).isFalse();
+            soft.assertThat(settings.findWriteConcern()).isEmpty();
+            soft.assertThat(settings.cursorOptions()).isEqualTo(MongoDBCursorOptions.defaults());
+            soft.assertThat(settings.countEstimated()).isFalse();
+        });
+    }
+
+    @Test
+    void shouldReadCursorSettings() {
+        var settings = MongoDBManagerSettings.of(Settings.builder()
+                .put(MongoDBDocumentConfigurations.CURSOR_BATCH_SIZE, "500")
+                .put(MongoDBDocumentConfigurations.CURSOR_NO_TIMEOUT, "true")
+                .put(MongoDBDocumentConfigurations.CURSOR_MAX_TIME, "2000")
+                .put(MongoDBDocumentConfigurations.READ_PREFERENCE, "secondaryPreferred")
+                .put(MongoDBDocumentConfigurations.COUNT_ESTIMATED, "true")
+                .build());
+        var cursorOptions = settings.cursorOptions();
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(cursorOptions.batchSize()).isEqualTo(500);
+            soft.assertThat(cursorOptions.noCursorTimeout()).isTrue();
+            soft.assertThat(cursorOptions.maxTime()).isEqualTo(Duration.ofSeconds(2));
+            soft.assertThat(cursorOptions.readPreference()).isEqualTo(ReadPreference.secondaryPreferred());
+            soft.assertThat(settings.countEstimated()).isTrue();
+        });
+    }
+
+    @Test
+    void shouldReadWriteSettings() {
+        var settings = MongoDBManagerSettings.of(Settings.builder()
+                .put(MongoDBDocumentConfigurations.UPDATE_UPSERT, "true")
+                .put(MongoDBDocumentConfigurations.WRITE_CONCERN, "majority")
+                .build());
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(settings.upsert()).isTrue();
+            soft.assertThat(settings.findWriteConcern()).contains(WriteConcern.MAJORITY);
+        });
+    }
+
+    @Test
+    void shouldReturnErrorWhenWriteConcernIsInvalid() {
+        var settings = Settings.builder().put(MongoDBDocumentConfigurations.WRITE_CONCERN, "unknown").build();
+        assertThrows(IllegalArgumentException.class, () -> MongoDBManagerSettings.of(settings));
+    }
+
+    @Test
+    void shouldReadBulkSettings() {
+        var settings = MongoDBManagerSettings.of(Settings.builder()
+                .put(MongoDBDocumentConfigurations.BULK_BATCH_SIZE, "250")
+                .put(MongoDBDocumentConfigurations.BULK_ORDERED, "false")
+                .build());
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(settings.bulkBatchSize()).isEqualTo(250);
+            soft.assertThat(settings.bulkOrdered()).isFalse();
+        });
+    }
+
+    @Test
+    void shouldReturnErrorWhenBatchSizeIsInvalid() {
+        var settings = Settings.builder().put(MongoDBDocumentConfigurations.BULK_BATCH_SIZE, "0").build();
+        assertThrows(IllegalArgumentException.class, () -> MongoDBManagerSettings.of(settings));
+    }
+
+    @Test
+    void shouldReturnErrorWhenSettingsIsNull() {
+        assertThrows(NullPointerException.class, () -> MongoDBManagerSettings.of(null));
+    }
+}
@@ -0,0 +1,185 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.mongodb.communication;
+
+import com.mongodb.ConnectionString;
+import com.mongodb.MongoClientSettings;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.Filters;
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandSucceededEvent;
+import org.bson.BsonDocument;
+import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.BsonDocumentCodec;
+import org.eclipse.jnosql.communication.semistructured.CommunicationEntity;
+import org.eclipse.jnosql.communication.semistructured.Element;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+/**
+ * Measures {@link MongoDBDocumentManager#update(CommunicationEntity)} and
+ * {@link MongoDBDocumentManager#update(Iterable)} on a wide entity against the previous update path, a
+ * {@code findOneAndReplace} of the converted document per entity. Besides the throughput, the {@code replyBytes}
+ * and {@code operations} counters give the bytes the server sent back per iteration, so replyBytes / operations is
+ * the reply payload of an update. It is not part of the test suite and it needs Docker, it uses the server of
+ * {@link DocumentDatabase}; run the {@link #main(String[])} method from the test classpath.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MongoDBUpdateBenchmark {
+
+    private static final String DATABASE = "benchmark";
+
+    private static final String COLLECTION = "update";
+
+    private static final int FIELDS = 200;
+
+    private static final int BULK_SIZE = 100;
+
+    private static final AtomicLong REPLY_BYTES = new AtomicLong();
+
+    private MongoClient client;
+
+    private MongoDBDocumentManager manager;
+
+    private MongoCollection<Document> collection;
+
+    private CommunicationEntity entity;
+
+    private List<CommunicationEntity> entities;
+
+    @Setup
+    public void setUp() {
+        CommandListener listener = new CommandListener() {
+            @Override
+            public void commandSucceeded(CommandSucceededEvent event) {
+                REPLY_BYTES.addAndGet(size(event.getResponse()));
+            }
+        };
+        client = MongoClients.create(MongoClientSettings.builder()
+                .applyConnectionString(new ConnectionString("mongodb://" + DocumentDatabase.INSTANCE.host()))
+                .addCommandListener(listener)
+                .build());
+        manager = new MongoDBDocumentManager(client.getDatabase(DATABASE), DATABASE);
+        collection = client.getDatabase(DATABASE).getCollection(COLLECTION);
+        collection.drop();
+        entity = wideEntity("ada");
+        entities = IntStream.range(0, BULK_SIZE).mapToObj(index -> wideEntity("ada-" + index)).toList();
+        manager.insert(entity);
+        manager.insert(entities);
+    }
+
+    @TearDown
+    public void tearDown() {
+        collection.drop();
+        client.close();
+    }
+
+    @Benchmark
+    public Document findOneAndReplace(Counters counters) {
+        counters.operations++;
+        return findOneAndReplace(entity);
+    }
+
+    @Benchmark
+    public CommunicationEntity update(Counters counters) {
+        counters.operations++;
+        return manager.update(entity);
+    }
+
+    @Benchmark
+    public int findOneAndReplaceBulk(Counters counters) {
+        counters.operations += entities.size();
+        entities.forEach(this::findOneAndReplace);
+        return entities.size();
+    }
+
+    @Benchmark
+    public Iterable<CommunicationEntity> updateBulk(Counters counters) {
+        counters.operations += entities.size();
+        return manager.update(entities);
+    }
+
+    /**
+     * The reply bytes and the number of updated entities of an iteration.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Counters {
+
+        public long operations;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            operations = 0;
+            REPLY_BYTES.set(0);
+        }
+
+        public long replyBytes() {
+            return REPLY_BYTES.get();
+        }
+    }
+
+    private Document findOneAndReplace(CommunicationEntity entity) {
+        Document document = MongoDBUtils.getDocument(entity);
+        return collection.findOneAndReplace(Filters.eq(MongoDBUtils.ID_FIELD, document.get(MongoDBUtils.ID_FIELD)),
+                document);
+    }
+
+    private static int size(BsonDocument document) {
+        return new RawBsonDocument(document, new BsonDocumentCodec()).getByteBuffer().remaining();
+    }
+
+    private static CommunicationEntity wideEntity(String id) {
+        CommunicationEntity entity = CommunicationEntity.of(COLLECTION);
+        entity.add(Element.of(MongoDBUtils.ID_FIELD, id));
+        for (int index = 0; index < FIELDS; index++) {
+            entity.add(Element.of("field" + index, "value of the field " + index));
+        }
+        return entity;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(MongoDBUpdateBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
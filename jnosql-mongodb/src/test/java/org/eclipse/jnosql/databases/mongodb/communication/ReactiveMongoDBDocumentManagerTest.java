@@ -0,0 +1,98 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.mongodb.communication;
+
+import org.eclipse.jnosql.communication.semistructured.CommunicationEntity;
+import org.eclipse.jnosql.communication.semistructured.Element;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import reactor.adapter.JdkFlowAdapter;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.jnosql.communication.driver.IntegrationTest.MATCHES;
+import static org.eclipse.jnosql.communication.driver.IntegrationTest.NAMED;
+import static org.eclipse.jnosql.communication.semistructured.DeleteQuery.delete;
+import static org.eclipse.jnosql.communication.semistructured.SelectQuery.select;
+
+@EnabledIfSystemProperty(named = NAMED, matches = MATCHES)
+class ReactiveMongoDBDocumentManagerTest {
+
+    private static final String COLLECTION_NAME = "reactive_person";
+
+    private static ReactiveMongoDBDocumentManager entityManager;
+
+    @BeforeAll
+    static void setUp() {
+        entityManager = DocumentDatabase.INSTANCE.reactive("database");
+    }
+
+    @BeforeEach
+    void beforeEach() {
+        entityManager.delete(delete().from(COLLECTION_NAME).build()).toCompletableFuture().join();
+    }
+
+    @Test
+    void shouldInsert() {
+        var entity = entityManager.insert(getEntity("Ada", 10)).toCompletableFuture().join();
+        assertThat(entity.find("_id")).isPresent();
+    }
+
+    @Test
+    void shouldInsertIterableAndSelect() {
+        entityManager.insert(List.of(getEntity("Ada", 10), getEntity("Poliana", 20)))
+                .toCompletableFuture().join();
+
+        var query = select().from(COLLECTION_NAME).where("age").gt(15).build();
+        List<CommunicationEntity> entities = JdkFlowAdapter.flowPublisherToFlux(entityManager.select(query))
+                .collectList().block();
+
+        assertThat(entities).hasSize(1)
+                .allMatch(e -> e.find("name").map(Element::get).filter("Poliana"::equals).isPresent());
+    }
+
+    @Test
+    void shouldUpdate() {
+        var entity = entityManager.insert(getEntity("Ada", 10)).toCompletableFuture().join();
+        entity.add(Element.of("age", 30));
+        entityManager.update(entity).toCompletableFuture().join();
+
+        var query = select().from(COLLECTION_NAME).where("age").eq(30).build();
+        List<CommunicationEntity> entities = JdkFlowAdapter.flowPublisherToFlux(entityManager.select(query))
+                .collectList().block();
+        assertThat(entities).hasSize(1);
+    }
+
+    @Test
+    void shouldCountAndDelete() {
+        entityManager.insert(List.of(getEntity("Ada", 10), getEntity("Poliana", 20)))
+                .toCompletableFuture().join();
+        assertThat(entityManager.count(COLLECTION_NAME).toCompletableFuture().join()).isEqualTo(2L);
+
+        long deleted = entityManager.delete(delete().from(COLLECTION_NAME).where("name").eq("Ada").build())
+                .toCompletableFuture().join();
+        assertThat(deleted).isEqualTo(1L);
+    }
+
+    private CommunicationEntity getEntity(String name, int age) {
+        CommunicationEntity entity = CommunicationEntity.of(COLLECTION_NAME);
+        entity.add(Element.of("name", name));
+        entity.add(Element.of("age", age));
+        return entity;
+    }
+}